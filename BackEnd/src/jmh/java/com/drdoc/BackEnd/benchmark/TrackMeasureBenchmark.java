@@ -0,0 +1,53 @@
+package com.drdoc.BackEnd.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.drdoc.BackEnd.api.util.TrackMeasure;
+import com.drdoc.BackEnd.api.util.TrackPoints;
+
+/**
+ * 산책 등록 요청 중에 바로 돌리는 경로 거리/속도 이상 계산 시간.
+ * 50k 좌표(1초 간격 약 14시간) 경로가 수 ms 안에 끝나야 요청 처리 중에 계산할 수 있다.
+ * ./gradlew jmh -Pjmh.includes=TrackMeasureBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrackMeasureBenchmark {
+
+	@Param({ "1000", "50000" })
+	private int points;
+
+	private TrackPoints track;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		track = new TrackPoints(points);
+		long time = 1663137870327L;
+		double lat = 37.501274;
+		double lon = 127.039585;
+		for (int i = 0; i < points; i++) {
+			// 약 1.2m/s로 걸으면서 조금씩 방향이 바뀌는 경로, 1000번째마다 GPS 튐
+			double heading = i / 200.0;
+			lat += Math.sin(heading) * 0.00001;
+			lon += Math.cos(heading) * 0.00001;
+			track.add(i % 1000 == 999 ? lat + 0.01 : lat, lon, time);
+			time += 1000;
+		}
+	}
+
+	@Benchmark
+	public TrackMeasure measure() {
+		return TrackMeasure.of(track);
+	}
+}
@@ -0,0 +1,170 @@
+package com.drdoc.BackEnd.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.drdoc.BackEnd.api.domain.IdGenerator;
+
+/**
+ * 산책 등록 insert 처리량 비교 (산책 1건 + 산책동물 PETS건).
+ * identity: 기존 IDENTITY 방식처럼 행마다 insert 후 생성된 id를 받아옴
+ * pooled: 테이블 id 생성기에서 ALLOCATION_SIZE개씩 id를 받아두고 산책, 산책동물 insert를 각각 JDBC batch로 전송
+ * 기본은 H2 메모리 DB라 네트워크 왕복이 없어 차이가 작게 나옴. 실제 비교는 url, user, password를 MySQL 접속 정보로 바꿔서 실행
+ * (예: jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true).
+ * ./gradlew jmh -Pjmh.includes=WalkInsertBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WalkInsertBenchmark {
+
+	// 한 번 호출에 등록하는 산책 수, 산책당 반려동물 수
+	private static final int WALKS = 100;
+	private static final int PETS = 3;
+
+	@Param("jdbc:h2:mem:walk-insert;MODE=MySQL")
+	private String url;
+
+	@Param("sa")
+	private String user;
+
+	@Param("")
+	private String password;
+
+	private Connection connection;
+	private long nextId;
+	private long maxId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection(url, user, password);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists walk_pet_identity");
+			statement.execute("drop table if exists walk_identity");
+			statement.execute("drop table if exists walk_pet_pooled");
+			statement.execute("drop table if exists walk_pooled");
+			statement.execute("drop table if exists bench_" + IdGenerator.TABLE);
+			statement.execute("create table walk_identity (id int auto_increment primary key, userId int, "
+					+ "distance int not null, start_time timestamp not null, end_time timestamp not null)");
+			statement.execute("create table walk_pet_identity (id int auto_increment primary key, petId int not null, "
+					+ "walkId int not null)");
+			statement.execute("create table walk_pooled (id int primary key, userId int, distance int not null, "
+					+ "start_time timestamp not null, end_time timestamp not null)");
+			statement.execute("create table walk_pet_pooled (id int primary key, petId int not null, walkId int not null)");
+			statement.execute("create table bench_" + IdGenerator.TABLE + " (" + IdGenerator.PK_COLUMN
+					+ " varchar(255) not null primary key, " + IdGenerator.VALUE_COLUMN + " bigint)");
+			statement.execute("insert into bench_" + IdGenerator.TABLE + " values ('walk', 1)");
+		}
+		connection.setAutoCommit(false);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(WALKS)
+	public void identity() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (PreparedStatement walk = connection.prepareStatement(
+				"insert into walk_identity (userId, distance, start_time, end_time) values (?, ?, ?, ?)",
+				Statement.RETURN_GENERATED_KEYS);
+				PreparedStatement walkPet = connection.prepareStatement(
+						"insert into walk_pet_identity (petId, walkId) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+			for (int i = 0; i < WALKS; i++) {
+				bindWalk(walk, now);
+				walk.executeUpdate();
+				int walkId = generatedKey(walk);
+				for (int pet = 1; pet <= PETS; pet++) {
+					walkPet.setInt(1, pet);
+					walkPet.setInt(2, walkId);
+					walkPet.executeUpdate();
+					generatedKey(walkPet);
+				}
+			}
+		}
+		connection.commit();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(WALKS)
+	public void pooled() throws SQLException {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (PreparedStatement walk = connection.prepareStatement(
+				"insert into walk_pooled (id, userId, distance, start_time, end_time) values (?, ?, ?, ?, ?)");
+				PreparedStatement walkPet = connection
+						.prepareStatement("insert into walk_pet_pooled (id, petId, walkId) values (?, ?, ?)")) {
+			for (int i = 0; i < WALKS; i++) {
+				int walkId = (int) allocate();
+				walk.setInt(1, walkId);
+				walk.setInt(2, 1);
+				walk.setInt(3, 1000);
+				walk.setTimestamp(4, now);
+				walk.setTimestamp(5, now);
+				walk.addBatch();
+				for (int pet = 1; pet <= PETS; pet++) {
+					walkPet.setInt(1, (int) allocate());
+					walkPet.setInt(2, pet);
+					walkPet.setInt(3, walkId);
+					walkPet.addBatch();
+				}
+			}
+			walk.executeBatch();
+			walkPet.executeBatch();
+		}
+		connection.commit();
+	}
+
+	// pooled 생성기처럼 ALLOCATION_SIZE개를 다 쓴 뒤에만 생성기 테이블을 갱신
+	private long allocate() throws SQLException {
+		if (nextId >= maxId) {
+			try (PreparedStatement update = connection.prepareStatement("update bench_" + IdGenerator.TABLE + " set "
+					+ IdGenerator.VALUE_COLUMN + " = " + IdGenerator.VALUE_COLUMN + " + ? where "
+					+ IdGenerator.PK_COLUMN + " = 'walk'");
+					PreparedStatement select = connection.prepareStatement("select " + IdGenerator.VALUE_COLUMN
+							+ " from bench_" + IdGenerator.TABLE + " where " + IdGenerator.PK_COLUMN + " = 'walk'")) {
+				update.setInt(1, IdGenerator.ALLOCATION_SIZE);
+				update.executeUpdate();
+				try (ResultSet rs = select.executeQuery()) {
+					rs.next();
+					maxId = rs.getLong(1);
+				}
+			}
+			nextId = maxId - IdGenerator.ALLOCATION_SIZE;
+		}
+		return nextId++;
+	}
+
+	private void bindWalk(PreparedStatement walk, Timestamp now) throws SQLException {
+		walk.setInt(1, 1);
+		walk.setInt(2, 1000);
+		walk.setTimestamp(3, now);
+		walk.setTimestamp(4, now);
+	}
+
+	private int generatedKey(PreparedStatement statement) throws SQLException {
+		try (ResultSet keys = statement.getGeneratedKeys()) {
+			keys.next();
+			return keys.getInt(1);
+		}
+	}
+}
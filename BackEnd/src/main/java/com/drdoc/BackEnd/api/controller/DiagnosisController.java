@@ -0,0 +1,88 @@
+package com.drdoc.BackEnd.api.controller;
+
+import java.io.IOException;
+
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.drdoc.BackEnd.api.domain.dto.BaseResponseDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobResponseDto;
+import com.drdoc.BackEnd.api.service.DiagnosisJobService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+
+@Api(value = "AI 진단 API", tags = { "AI 진단" })
+@RestController
+@CrossOrigin("*")
+@RequestMapping("/api/diagnosis")
+@RequiredArgsConstructor
+public class DiagnosisController {
+
+	@Autowired
+	private DiagnosisJobService diagnosisJobService;
+	@ApiOperation(value = "AI 진단 요청", notes = "사진과 진단 부위를 올리면 바로 작업 id를 반환하고, 진단이 끝나면 일지가 자동으로 작성됨\r\n"
+			+ "0. 최근 같은 반려동물, 같은 부위에 거의 같은 사진으로 진단했으면 그 결과로 바로 완료(cached=true)\r\n"
+			+ "1. 사진은 jpg, jpeg, png 10MB 이하\r\n" + "2. 진행 상태는 GET /api/diagnosis/{jobId} 또는 /{jobId}/events(SSE)로 확인")
+	@PostMapping
+	@ApiResponses({ @ApiResponse(code = 202, message = "진단 작업 등록"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 403, message = "권한이 없습니다."),
+			@ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<? extends BaseResponseDto> submit(@RequestPart(value = "job") @Valid DiagnosisJobRequestDto requestDto,
+			@RequestPart(value = "file", required = true) MultipartFile file) {
+		DiagnosisJobDto job;
+		try {
+			if (file.getSize() >= 10485760) {
+				return ResponseEntity.status(HttpStatus.FORBIDDEN.value())
+						.body(BaseResponseDto.of(HttpStatus.FORBIDDEN.value(), "이미지 크기 제한은 10MB 입니다."));
+			}
+			String originFile = file.getOriginalFilename();
+			String originFileExtension = originFile.substring(originFile.lastIndexOf("."));
+			if (!originFileExtension.equalsIgnoreCase(".jpg") && !originFileExtension.equalsIgnoreCase(".png")
+					&& !originFileExtension.equalsIgnoreCase(".jpeg")) {
+				return ResponseEntity.status(HttpStatus.FORBIDDEN.value())
+						.body(BaseResponseDto.of(HttpStatus.FORBIDDEN.value(), "jpg, jpeg, png의 이미지 파일만 업로드해주세요."));
+			}
+			job = diagnosisJobService.submit(requestDto, file);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return ResponseEntity.status(400).body(BaseResponseDto.of(400, "잘못된 요청입니다."));
+		}
+		return ResponseEntity.status(202).body(DiagnosisJobResponseDto.of(202, "Accepted", job));
+	}
+
+	@ApiOperation(value = "AI 진단 상태 조회", notes = "status: QUEUED(대기), RUNNING(진단 중), DONE(완료, journal_id에 작성된 일지), FAILED(실패)")
+	@GetMapping("/{jobId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "진단 상태 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<DiagnosisJobResponseDto> getStatus(@PathVariable("jobId") int jobId) {
+		return ResponseEntity.status(200).body(DiagnosisJobResponseDto.of(200, "Success", diagnosisJobService.status(jobId)));
+	}
+
+	@ApiOperation(value = "AI 진단 상태 구독", notes = "SSE로 현재 상태를 바로 보내고, 상태가 바뀔 때마다 status 이벤트 전송\r\n"
+			+ "1. 진단이 끝나면(DONE, FAILED) 연결 종료\r\n" + "2. 60초 후 연결이 끊기면 다시 구독")
+	@GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@ApiResponses({ @ApiResponse(code = 200, message = "진단 상태 구독"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public SseEmitter subscribe(@PathVariable("jobId") int jobId) {
+		return diagnosisJobService.subscribe(jobId);
+	}
+}
@@ -1,8 +1,11 @@
 package com.drdoc.BackEnd.api.controller;
 
+import java.time.LocalDate;
+
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +26,10 @@ import com.drdoc.BackEnd.api.domain.dto.JournalBatchDeleteRequestDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalDetailResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalListResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalSearchDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalTimelineResponseDto;
 import com.drdoc.BackEnd.api.service.JournalService;
+import com.drdoc.BackEnd.api.service.JournalTimelineService;
 import com.drdoc.BackEnd.api.service.S3Service;
 
 import io.swagger.annotations.Api;
@@ -45,6 +52,9 @@ public class JournalController {
 	@Autowired
 	private JournalService journalService;
 
+	@Autowired
+	private JournalTimelineService journalTimelineService;
+
 	@ApiOperation(value = "일지 등록", notes = "사진, 부위, 증상, 상세 일지, 시작 날짜, (진단 결과, 치료 완료 여부, 완료 날짜) 입력 \r\n 1. 부위는 30자 이내\r\n"
 			+ "2. 증상은 300자 이내\r\n" + "3. 사진, 부위, 증상, 상세 일지, 시작 날짜는 반드시 입력\r\n" + "4. 진단 결과, 치료 완료 여부, 완료 날짜는 선택 입력")
 	@PostMapping
@@ -116,12 +126,23 @@ public class JournalController {
 		return ResponseEntity.status(200).body(BaseResponseDto.of(200, "Deleted All"));
 	}
 
-	@ApiOperation(value = "일지 목록 조회", notes = "내가 작성한 일지를 모두 조회하여 썸네일 사진, 작성날짜 등을 출력")
+	@ApiOperation(value = "일지 목록 조회", notes = "내가 작성한 일지를 최신순으로 조회하여 썸네일 사진, 작성날짜 등을 출력\r\n"
+			+ "1. page, size로 조회하거나 이전 응답의 next_cursor를 after에 넣어 이어서 조회\r\n" + "2. size는 최대 100\r\n"
+			+ "3. petId, part, result, from ~ to(작성일, yyyy-MM-dd)로 검색 (입력한 조건만 적용)")
 	@GetMapping
 	@ApiResponses({ @ApiResponse(code = 200, message = "일지 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
 			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
-	public ResponseEntity<JournalListResponseDto> getList() {
-		return ResponseEntity.status(200).body(JournalListResponseDto.of(200, "Success", journalService.listAll()));
+	public ResponseEntity<JournalListResponseDto> getList(@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			@RequestParam(value = "after", required = false) String after,
+			@RequestParam(value = "petId", required = false) Integer petId,
+			@RequestParam(value = "part", required = false) String part,
+			@RequestParam(value = "result", required = false) String result,
+			@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		JournalSearchDto condition = new JournalSearchDto(petId, emptyToNull(part), emptyToNull(result), from, to);
+		return ResponseEntity.status(200)
+				.body(JournalListResponseDto.of(200, "Success", journalService.listAll(page, size, after, condition)));
 	}
 
 	@ApiOperation(value = "일지 상세 조회", notes = "내가 작성한 일지를 조회하여 썸네일 사진, 작성날짜 등을 출력")
@@ -133,4 +154,18 @@ public class JournalController {
 				.body(JournalDetailResponseDto.of(200, "Success", journalService.detail(journalId)));
 	}
 
+	@ApiOperation(value = "증상 추이 조회", notes = "반려동물의 월별 증상 일지 수와 부위별 최근 진단 결과\r\n"
+			+ "1. 일지 등록, 수정, 삭제 시 함께 갱신되는 요약에서 조회\r\n" + "2. 증상을 입력하지 않은 일지는 증상 건수에서 제외")
+	@GetMapping("/timeline/{petId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "증상 추이 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<JournalTimelineResponseDto> getTimeline(@PathVariable int petId) {
+		return ResponseEntity.status(200)
+				.body(JournalTimelineResponseDto.of(200, "Success", journalTimelineService.get(petId)));
+	}
+
+	private static String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+
 }
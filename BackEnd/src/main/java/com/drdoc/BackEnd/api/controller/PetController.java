@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.drdoc.BackEnd.api.domain.dto.BaseResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.PetDetailResponseDto;
@@ -158,6 +160,22 @@ public class PetController {
 				.body(PetDetailResponseDto.of(200, "Success", petService.getPetDetail(petId)));
 	}
 	
+	@GetMapping(value = "/{petId}/report", produces = "application/x-ndjson")
+	@ApiOperation(value = "진료용 보고서 내보내기", notes = "반려동물 정보, 산책 집계, 일지(사진 링크 포함)를 JSON Lines 파일 하나로 내보냅니다.\r\n"
+			+ "1. 한 줄에 하나씩 {\"type\": ..., \"data\": ...} 형식\r\n"
+			+ "2. type은 pet, walk_total, walk_month(월별 산책 집계), journal(작성순) 순서")
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "보고서 내보내기"),
+		@ApiResponse(code = 401, message = "인증이 필요합니다."),
+		@ApiResponse(code = 403, message = "권한이 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<StreamingResponseBody> getReport(@PathVariable int petId) {
+		String memberId = SecurityUtil.getCurrentUsername();
+		return ResponseEntity.status(200)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pet-" + petId + "-report.jsonl\"")
+				.body(petService.getReport(petId, memberId));
+	}
+
 	@GetMapping("/kind")
 	@ApiOperation(value = "반려동물 품종 목록 조회", notes = "반려동물 품종 목록을 모두 조회합니다.")
 	@ApiResponses({
@@ -0,0 +1,96 @@
+package com.drdoc.BackEnd.api.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.drdoc.BackEnd.api.domain.dto.BaseResponseDto;
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadResponseDto;
+import com.drdoc.BackEnd.api.service.VideoUploadService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+
+@Api(value = "영상 업로드 API", tags = { "영상 업로드" })
+@RestController
+@CrossOrigin("*")
+@RequestMapping("/api/video/uploads")
+@RequiredArgsConstructor
+public class VideoUploadController {
+
+	@Autowired
+	private VideoUploadService videoUploadService;
+
+	@ApiOperation(value = "영상 분할 업로드 시작", notes = "행동 인식용 영상을 나눠서 올리기 위한 업로드를 만듦\r\n"
+			+ "1. 영상은 mp4, mov, avi\r\n" + "2. 응답의 chunk_size만큼 잘라서 0번 청크부터 PUT /{uploadId}/chunks/{index}로 전송\r\n"
+			+ "3. 모두 올린 뒤 POST /{uploadId}/complete")
+	@PostMapping
+	@ApiResponses({ @ApiResponse(code = 201, message = "업로드 생성"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<VideoUploadResponseDto> create(@RequestBody @Valid VideoUploadRequestDto requestDto)
+			throws IOException {
+		return ResponseEntity.status(201)
+				.body(VideoUploadResponseDto.of(201, "Created", videoUploadService.create(requestDto)));
+	}
+
+	@ApiOperation(value = "영상 청크 업로드", notes = "본문에 index번째 청크(application/octet-stream)를 그대로 담아 전송\r\n"
+			+ "1. 마지막 청크를 뺀 모든 청크는 chunk_size 크기\r\n" + "2. 이미 받은 청크를 다시 보내면 저장하지 않고 현재 상태를 반환\r\n"
+			+ "3. 연결이 끊기면 업로드 상태 조회의 next_chunk부터 이어서 전송")
+	@PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	@ApiResponses({ @ApiResponse(code = 200, message = "청크 저장"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<VideoUploadResponseDto> uploadChunk(@PathVariable("uploadId") String uploadId,
+			@PathVariable("index") int index, HttpServletRequest request) throws IOException {
+		// 멀티파트로 받지 않고 요청 본문을 바로 파일에 씀
+		try (InputStream in = request.getInputStream()) {
+			return ResponseEntity.status(200).body(VideoUploadResponseDto.of(200, "Success",
+					videoUploadService.writeChunk(uploadId, index, request.getContentLengthLong(), in)));
+		}
+	}
+
+	@ApiOperation(value = "영상 업로드 상태 조회", notes = "received_bytes(받은 바이트 수), next_chunk(다음에 올릴 청크 번호)로 이어 올릴 위치 확인")
+	@GetMapping("/{uploadId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "업로드 상태 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<VideoUploadResponseDto> getStatus(@PathVariable("uploadId") String uploadId) {
+		return ResponseEntity.status(200)
+				.body(VideoUploadResponseDto.of(200, "Success", videoUploadService.status(uploadId)));
+	}
+
+	@ApiOperation(value = "영상 업로드 완료", notes = "모든 청크를 받았으면 영상을 저장하고 video에 저장된 key를 반환")
+	@PostMapping("/{uploadId}/complete")
+	@ApiResponses({ @ApiResponse(code = 200, message = "업로드 완료"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<VideoUploadResponseDto> complete(@PathVariable("uploadId") String uploadId) {
+		return ResponseEntity.status(200)
+				.body(VideoUploadResponseDto.of(200, "Completed", videoUploadService.complete(uploadId)));
+	}
+
+	@ApiOperation(value = "영상 업로드 취소", notes = "업로드와 서버에 받아둔 청크를 삭제")
+	@DeleteMapping("/{uploadId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "업로드 취소"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<BaseResponseDto> cancel(@PathVariable("uploadId") String uploadId) throws IOException {
+		videoUploadService.cancel(uploadId);
+		return ResponseEntity.status(200).body(BaseResponseDto.of(200, "Deleted"));
+	}
+}
@@ -1,8 +1,17 @@
 package com.drdoc.BackEnd.api.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,16 +21,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.drdoc.BackEnd.api.domain.WalkTrack;
 import com.drdoc.BackEnd.api.domain.dto.BaseResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkBatchDeleteRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkCalendarResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkDetailResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkDoneResponseDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkImportResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkListResponseDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkLeaderboardResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkModifyRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkPopularResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsResponseDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncResponseDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkTimeResponseDto;
+import com.drdoc.BackEnd.api.service.WalkGpxService;
 import com.drdoc.BackEnd.api.service.WalkService;
 
 import io.swagger.annotations.Api;
@@ -41,6 +63,9 @@ public class WalkController {
 	@Autowired
 	private WalkService walkService;
 
+	@Autowired
+	private WalkGpxService walkGpxService;
+
 	@ApiOperation(value = "산책 기록 등록", notes = "반려동물의 산책정보 등록(날짜랑 거리(m단위) 정보 필요)")
 	@PostMapping
 	@ApiResponses({ @ApiResponse(code = 201, message = "산책 기록 등록"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
@@ -83,21 +108,61 @@ public class WalkController {
 		return ResponseEntity.status(200).body(BaseResponseDto.of(200, "Deleted All"));
 	}
 
-	@ApiOperation(value = "산책 기록 목록 조회", notes = "나의 반려동물 산책 정보를 전부 조회")
+	@ApiOperation(value = "산책 기록 일괄 동기화", notes = "오프라인에서 기록한 산책 정보를 한 번에 등록(최대 500개)\r\n"
+			+ "1. client_id는 앱에서 산책마다 만든 고유 값(64자 이내)\r\n" + "2. 이미 등록된 client_id는 DUPLICATE로 응답하므로 실패 시 같은 요청을 다시 보내도 됨\r\n"
+			+ "3. 항목별 결과(CREATED, DUPLICATE, FAILED)를 요청 순서대로 반환")
+	@PostMapping("/sync")
+	@ApiResponses({ @ApiResponse(code = 200, message = "산책 기록 동기화"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkSyncResponseDto> sync(@RequestBody WalkSyncRequestDto requestDto) {
+		return ResponseEntity.status(200).body(WalkSyncResponseDto.of(200, "Synced", walkService.sync(requestDto)));
+	}
+
+	@ApiOperation(value = "산책 기록 GPX 내보내기", notes = "내 산책 기록 전체를 GPX 1.1 파일로 내보내기 (산책 하나가 trk 하나)")
+	@GetMapping(value = "/export.gpx", produces = "application/gpx+xml")
+	@ApiResponses({ @ApiResponse(code = 200, message = "GPX 내보내기"), @ApiResponse(code = 401, message = "인증이 필요합니다."),
+			@ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<StreamingResponseBody> exportGpx() {
+		return ResponseEntity.status(200)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"walks.gpx\"")
+				.body(walkGpxService.export());
+	}
+
+	@ApiOperation(value = "산책 기록 GPX 가져오기", notes = "GPX 파일의 트랙을 산책 기록으로 등록\r\n"
+			+ "1. trk 하나가 산책 하나, 데려간 반려동물은 pet_ids\r\n" + "2. 트랙마다 client_id(없으면 시작 시간)로 구분하므로 같은 파일을 여러 번 가져와도 중복 등록되지 않음\r\n"
+			+ "3. 시간이 없는 좌표는 제외")
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@ApiResponses({ @ApiResponse(code = 200, message = "GPX 가져오기"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkImportResponseDto> importGpx(@RequestPart(value = "file") MultipartFile file,
+			@RequestParam("pet_ids") List<Integer> petIds) throws IOException {
+		try (InputStream in = file.getInputStream()) {
+			return ResponseEntity.status(200)
+					.body(WalkImportResponseDto.of(200, "Imported", walkGpxService.importGpx(in, petIds)));
+		}
+	}
+
+	@ApiOperation(value = "산책 기록 목록 조회", notes = "나의 반려동물 산책 정보를 최신순으로 조회\r\n"
+			+ "1. page, size로 조회하거나 이전 응답의 next_cursor를 after에 넣어 이어서 조회\r\n" + "2. size는 최대 100")
 	@GetMapping
 	@ApiResponses({ @ApiResponse(code = 200, message = "산책 기록 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
 			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
-	public ResponseEntity<WalkListResponseDto> getList() {
-		return ResponseEntity.status(200).body(WalkListResponseDto.of(200, "Success", walkService.listAll()));
+	public ResponseEntity<WalkListResponseDto> getList(@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			@RequestParam(value = "after", required = false) String after) {
+		return ResponseEntity.status(200)
+				.body(WalkListResponseDto.of(200, "Success", walkService.listAll(page, size, after)));
 	}
 
-	@ApiOperation(value = "산책 기록 상세 조회", notes = "내가 작성한 산책 기록을 상세 조회")
+	@ApiOperation(value = "산책 기록 상세 조회", notes = "내가 작성한 산책 기록을 상세 조회\r\n"
+			+ "detail: 경로 상세도 (full: 전체 경로, medium: 상세 지도용, thumbnail: 목록 썸네일용 300개 이하)")
 	@GetMapping("/{walkId}")
 	@ApiResponses({ @ApiResponse(code = 200, message = "산책 기록 조회"), @ApiResponse(code = 401, message = "인증이 필요합니다."),
 			@ApiResponse(code = 403, message = "권한이 없습니다."), @ApiResponse(code = 500, message = "서버 오류") })
-	public ResponseEntity<WalkDetailResponseDto> getDetail(@PathVariable int walkId) {
+	public ResponseEntity<WalkDetailResponseDto> getDetail(@PathVariable int walkId,
+			@RequestParam(value = "detail", defaultValue = WalkTrack.DETAIL_FULL) String detail) {
 		return ResponseEntity.status(200)
-				.body(WalkDetailResponseDto.of(200, "Success", walkService.detail(walkId)));
+				.body(WalkDetailResponseDto.of(200, "Success", walkService.detail(walkId, detail)));
 	}
 
 	@ApiOperation(value = "산책 전체 시간/거리 조회", notes = "현재 반려동물의 산책 기록을 합하여 총 산책 시간과 거리를 조회")
@@ -109,6 +174,59 @@ public class WalkController {
 				.body(WalkTimeResponseDto.of(200, "Success", walkService.walkTimeSum(petId)));
 	}
 
+	@ApiOperation(value = "기간별 산책 통계 조회", notes = "반려동물의 일/주/월 단위 산책 시간(초)과 거리(m) 조회\r\n"
+			+ "1. granularity: day, week(월요일 시작), month\r\n" + "2. from, to: 조회 기간(yyyy-MM-dd), 산책 시작일 기준\r\n"
+			+ "3. 기록이 없는 구간도 0으로 포함, 구간은 최대 1000개")
+	@GetMapping("/stats/{petId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "산책 통계 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkStatsResponseDto> getStats(@PathVariable("petId") int petId,
+			@RequestParam(value = "granularity", defaultValue = "day") String granularity,
+			@RequestParam("from") @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+			@RequestParam("to") @DateTimeFormat(iso = ISO.DATE) LocalDate to) {
+		return ResponseEntity.status(200)
+				.body(WalkStatsResponseDto.of(200, "Success", walkService.stats(petId, granularity, from, to)));
+	}
+
+	@ApiOperation(value = "산책 거리 순위표 조회", notes = "이번 주(월요일 시작) 또는 이번 달 산책 거리 합계 순위 조회\r\n"
+			+ "1. period: week, month / previous=true면 지난 주, 지난 달 순위표\r\n"
+			+ "2. 같은 거리는 같은 순위, mine은 내 반려동물 중 순위표에 오른 반려동물의 순위")
+	@GetMapping("/leaderboard")
+	@ApiResponses({ @ApiResponse(code = 200, message = "순위표 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkLeaderboardResponseDto> getLeaderboard(
+			@RequestParam(value = "period", defaultValue = "week") String period,
+			@RequestParam(value = "previous", defaultValue = "false") boolean previous,
+			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "20") int size) {
+		return ResponseEntity.status(200)
+				.body(WalkLeaderboardResponseDto.of(200, "Success", walkService.leaderboard(period, previous, page, size)));
+	}
+
+	@ApiOperation(value = "주변 인기 산책 구간 조회", notes = "현재 위치 주변(약 15km)에서 산책 경로가 많이 지나간 구역(약 150m 격자)과 대표 경로 조회\r\n"
+			+ "1. k: 구역 수(1 ~ 50), routes: 대표 경로 수(0 ~ 5)\r\n" + "2. 대표 경로는 시작/끝 200m와 시간 정보를 제외하고 반환")
+	@GetMapping("/popular")
+	@ApiResponses({ @ApiResponse(code = 200, message = "인기 구간 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkPopularResponseDto> getPopular(@RequestParam("lat") double lat, @RequestParam("lon") double lon,
+			@RequestParam(value = "k", defaultValue = "10") int k,
+			@RequestParam(value = "routes", defaultValue = "3") int routes) {
+		return ResponseEntity.status(200)
+				.body(WalkPopularResponseDto.of(200, "Success", walkService.popular(lat, lon, k, routes)));
+	}
+
+	@ApiOperation(value = "월간 산책 달력 조회", notes = "반려동물이 해당 월에 산책한 날짜와 연속 산책 일수 조회\r\n"
+			+ "1. days: (일 - 1)번째 비트가 그날 산책 여부, walked_days: 산책한 날짜 목록\r\n"
+			+ "2. current_streak: 오늘(오늘 산책 전이면 어제)까지 연속 산책 일수, longest_streak: 최장 연속 산책 일수")
+	@GetMapping("/calendar/{petId}")
+	@ApiResponses({ @ApiResponse(code = 200, message = "산책 달력 조회"), @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+			@ApiResponse(code = 401, message = "인증이 필요합니다."), @ApiResponse(code = 500, message = "서버 오류") })
+	public ResponseEntity<WalkCalendarResponseDto> getCalendar(@PathVariable("petId") int petId,
+			@RequestParam("year") int year, @RequestParam("month") int month) {
+		return ResponseEntity.status(200)
+				.body(WalkCalendarResponseDto.of(200, "Success", walkService.calendar(petId, year, month)));
+	}
+
 	@ApiOperation(value = "오늘 산책 여부 조회", notes = "오늘 산책 했는지 여부 조회(반려동물 단위)")
 	@GetMapping("/done/{petId}")
 	@ApiResponses({ @ApiResponse(code = 200, message = "산책 기록 조회"), @ApiResponse(code = 401, message = "인증이 필요합니다."),
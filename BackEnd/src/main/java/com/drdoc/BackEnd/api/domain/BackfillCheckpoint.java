@@ -0,0 +1,52 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 작업 진행 위치 (재시작하면 last_id 다음부터 이어서 처리)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "backfillCheckpoint")
+@Entity
+@Builder
+public class BackfillCheckpoint {
+
+	@Id
+	@Column(name = "name", length = 64)
+	private String name;
+
+	// 처리를 마친 마지막 id
+	@Column(name = "last_id", nullable = false)
+	private int lastId;
+
+	@Column(name = "processed", nullable = false)
+	private long processed;
+
+	@Column(name = "failed", nullable = false)
+	private long failed;
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updated_date;
+
+	public BackfillCheckpoint(String name) {
+		this.name = name;
+		this.updated_date = LocalDateTime.now();
+	}
+
+	public void advance(int lastId, int processed, int failed) {
+		this.lastId = lastId;
+		this.processed += processed;
+		this.failed += failed;
+		this.updated_date = LocalDateTime.now();
+	}
+}
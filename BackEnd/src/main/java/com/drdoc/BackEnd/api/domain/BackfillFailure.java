@@ -0,0 +1,53 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 작업에서 실패한 대상 (진행 위치는 넘어가므로 따로 남겨두고 재시도, 성공하면 삭제)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "backfillFailure")
+@IdClass(BackfillFailureId.class)
+@Entity
+@Builder
+public class BackfillFailure {
+
+	@Id
+	@Column(name = "name", length = 64)
+	private String name;
+
+	@Id
+	@Column(name = "target_id")
+	private int targetId;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "error", nullable = true, length = 200)
+	private String error;
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updated_date;
+
+	public BackfillFailure(String name, int targetId) {
+		this.name = name;
+		this.targetId = targetId;
+	}
+
+	public void fail(String error) {
+		this.attempts++;
+		this.error = error == null ? null : error.substring(0, Math.min(error.length(), 200));
+		this.updated_date = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// BackfillFailure 복합 키 (일괄 작업 이름, 대상 id)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BackfillFailureId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String name;
+
+	private int targetId;
+}
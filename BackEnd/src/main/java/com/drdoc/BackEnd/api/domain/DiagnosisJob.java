@@ -0,0 +1,124 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalRequestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// AI 진단 작업 (등록 즉시 작업 id를 돌려주고, 작업자 스레드가 추론 후 일지를 작성, 모델 입력 사진은 DiagnosisJobInput)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "diagnosisJob", indexes = @Index(name = "idx_diagnosis_job_status", columnList = "status, updated_date"))
+@Entity
+@Builder
+public class DiagnosisJob {
+
+	@Id
+	@Column(name = "id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int id;
+
+	@ManyToOne
+	@JoinColumn(name = "userId")
+	private User user;
+
+	@Column(name = "pet_id", nullable = false)
+	private int petId;
+
+	@Column(name = "picture", nullable = false, length = 256)
+	private String picture;
+
+	@Column(name = "part", nullable = false, length = 10)
+	private String part;
+
+	@Column(name = "symptom", nullable = true, length = 10)
+	private String symptom;
+
+	// 모델 입력 이미지의 64비트 dHash (비슷한 사진 재요청 확인용)
+	@Column(name = "image_hash", nullable = false)
+	private long imageHash;
+
+	// 최근 진단 결과를 재사용했는지 여부
+	@Column(name = "cached", nullable = false, columnDefinition = "boolean default false")
+	private boolean cached;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 10)
+	private DiagnosisJobStatus status;
+
+	@Column(name = "result", nullable = true, length = 10)
+	private String result;
+
+	// 진단이 끝나면 작성된 일지 id
+	@Column(name = "journal_id", nullable = true)
+	private Integer journalId;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "error", nullable = true, length = 200)
+	private String error;
+
+	@Column(name = "created_date", nullable = false)
+	private LocalDateTime created_date;
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updated_date;
+
+	public DiagnosisJob(DiagnosisJobRequestDto request, String picture, long imageHash, User user) {
+		this.user = user;
+		this.petId = request.getPet_id();
+		this.picture = picture;
+		this.imageHash = imageHash;
+		this.part = request.getPart();
+		this.symptom = request.getSymptom();
+		this.status = DiagnosisJobStatus.QUEUED;
+		this.created_date = LocalDateTime.now();
+		this.updated_date = this.created_date;
+	}
+
+	public void complete(String result, int journalId) {
+		this.status = DiagnosisJobStatus.DONE;
+		this.result = result;
+		this.journalId = journalId;
+		this.error = null;
+		this.updated_date = LocalDateTime.now();
+	}
+
+	public void completeFromCache(String result, int journalId) {
+		complete(result, journalId);
+		this.cached = true;
+	}
+
+	// 진단 결과로 작성할 일지
+	public JournalRequestDto toJournalRequest(String result) {
+		return JournalRequestDto.builder().pet_id(petId).picture(picture).part(part).symptom(symptom).result(result)
+				.build();
+	}
+
+	// 재시도 횟수가 남아 있으면 다시 대기열로, 아니면 실패 처리
+	public void fail(String error, int maxAttempts) {
+		this.attempts++;
+		this.status = attempts < maxAttempts ? DiagnosisJobStatus.QUEUED : DiagnosisJobStatus.FAILED;
+		this.error = error == null ? null : error.substring(0, Math.min(error.length(), 200));
+		this.updated_date = LocalDateTime.now();
+	}
+}
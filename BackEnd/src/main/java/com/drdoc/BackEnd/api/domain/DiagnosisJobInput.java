@@ -0,0 +1,49 @@
+package com.drdoc.BackEnd.api.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.MapsId;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 진단 작업의 모델 입력 사진 (상태 조회 때 읽지 않도록 작업과 분리, 작업이 끝나면 삭제)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "diagnosisJobInput")
+@Entity
+@Builder
+public class DiagnosisJobInput {
+
+	@Id
+	@Column(name = "jobId")
+	private int jobId;
+
+	@MapsId
+	@OneToOne(fetch = FetchType.LAZY)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@JoinColumn(name = "jobId")
+	private DiagnosisJob job;
+
+	// 모델 입력용으로 줄인 사진 (ImagePreprocessor.SIZE 크기 JPEG, 원본은 S3)
+	@Lob
+	@Column(name = "model_input", nullable = false, columnDefinition = "MEDIUMBLOB")
+	private byte[] modelInput;
+
+	public DiagnosisJobInput(DiagnosisJob job, byte[] modelInput) {
+		this.job = job;
+		this.modelInput = modelInput;
+	}
+}
@@ -0,0 +1,10 @@
+package com.drdoc.BackEnd.api.domain;
+
+// AI 진단 작업 상태 (QUEUED -> RUNNING -> DONE / 실패 시 재시도 횟수가 남으면 다시 QUEUED, 아니면 FAILED)
+public enum DiagnosisJobStatus {
+	QUEUED, RUNNING, DONE, FAILED;
+
+	public boolean isFinished() {
+		return this == DONE || this == FAILED;
+	}
+}
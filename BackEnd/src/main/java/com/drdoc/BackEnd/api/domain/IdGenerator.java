@@ -0,0 +1,17 @@
+package com.drdoc.BackEnd.api.domain;
+
+/**
+ * 대량 insert가 많은 엔티티가 공유하는 테이블 기반 id 생성기 설정.
+ * IDENTITY 전략은 insert마다 id를 받아와야 해서 JDBC batch가 꺼지므로
+ * id를 ALLOCATION_SIZE 단위로 미리 할당받아(pooled) insert를 묶어서 보낸다.
+ */
+public final class IdGenerator {
+
+	public static final String TABLE = "id_generator";
+	public static final String PK_COLUMN = "gen_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	private IdGenerator() {
+	}
+}
@@ -4,12 +4,16 @@ import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -23,14 +27,20 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "journal")
+// 목록 조회는 작성일, id 내림차순 (반려동물 조건이 있으면 앞 인덱스, 없으면 뒤 인덱스로 범위 탐색)
+// 마지막 인덱스는 요약에서 부위별 최근 일지를 다시 찾을 때 사용
+@Table(name = "journal", indexes = { @Index(name = "idx_journal_user_pet_created", columnList = "userId, pet_id, created_date, id"),
+		@Index(name = "idx_journal_user_created", columnList = "userId, created_date, id"),
+		@Index(name = "idx_journal_pet_part_created", columnList = "pet_id, part, created_date, id") })
 @Entity
 @Builder
 public class Journal {
 	
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "journal_id")
+    @TableGenerator(name = "journal_id", table = IdGenerator.TABLE, pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = "journal", allocationSize = IdGenerator.ALLOCATION_SIZE)
     private int id;
 
 	@ManyToOne
@@ -51,11 +61,21 @@ public class Journal {
     
     @Column(name = "result", nullable = false, length = 10)
     private String result;
+
+    // 결과를 낸 진단 모델 버전 (앱이 AI 서버 결과를 받아 등록한 일지, 버전 기록 전 일지는 알 수 없어 null)
+    @Column(name = "model_version", nullable = true, length = 32)
+    private String modelVersion;
+    
+    // 진단 결과 출처 (출처 기록 전 일지는 null, 일지 재진단 작업이 처음 실행될 때 한 번 MODEL로 표시)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = true, length = 10)
+    private JournalSource source;
     
     @CreationTimestamp
     @Column(name = "created_date", nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP")
     private LocalDateTime created_date;    
 
+    // 앱이 AI 서버에서 받은 진단 결과로 등록하는 일지 (모델 버전은 알 수 없음)
     @Builder
     public Journal(JournalRequestDto request, User user) {
     	this.user = user;
@@ -64,9 +84,16 @@ public class Journal {
         this.part = request.getPart();
         this.symptom = request.getSymptom();
         this.result = request.getResult();
+        this.source = JournalSource.MODEL;
         this.created_date = LocalDateTime.now();
     }
 
+    // 서버의 AI 진단 결과로 작성하는 일지
+    public Journal(JournalRequestDto request, User user, String modelVersion) {
+        this(request, user);
+        this.modelVersion = modelVersion;
+    }
+
     public void modify(JournalRequestDto request){
         if("".equals(request.getPart()) == false && request.getPart()!=null){
             this.part = request.getPart();
@@ -77,8 +104,10 @@ public class Journal {
         if("".equals(request.getSymptom()) == false && request.getSymptom()!=null){
             this.symptom = request.getSymptom();
         }
-        if("".equals(request.getResult()) == false && request.getResult()!=null){
+        if("".equals(request.getResult()) == false && request.getResult()!=null && !request.getResult().equals(this.result)){
             this.result = request.getResult();
+            // 사용자가 고친 결과는 재진단으로 덮어쓰지 않음
+            this.source = JournalSource.MANUAL;
         }
         if(request.getPet_id() != this.petId){
             this.petId = request.getPet_id();
@@ -0,0 +1,6 @@
+package com.drdoc.BackEnd.api.domain;
+
+// 일지 진단 결과 출처 (MODEL: AI 진단 결과, MANUAL: 사용자가 일지 수정으로 고친 결과, 재진단은 MODEL만)
+public enum JournalSource {
+	MODEL, MANUAL
+}
@@ -0,0 +1,113 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반려동물별 일지 요약 (일지 등록/수정/삭제 시 함께 갱신).
+ * SYMPTOM 행은 (증상, 작성 월)별 일지 수, LATEST 행은 부위별 가장 최근 일지의 진단 결과 (month_key는 0).
+ * Hibernate는 @IdClass 기본 키 컬럼을 이름순(kind, label, month_key, pet_id)으로 만들기 때문에
+ * 반려동물 id로 시작하는 유니크 인덱스를 따로 두고, 한 반려동물의 요약 조회와 행 잠금은 이 인덱스 범위만 탄다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "journalTimeline", indexes = @Index(name = "idx_journal_timeline_pet", columnList = "petId, kind, label, month_key", unique = true))
+@IdClass(JournalTimelineId.class)
+@Entity
+@Builder
+public class JournalTimeline {
+
+	@Id
+	@Column(name = "petId")
+	private int petId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "kind", length = 10)
+	private JournalTimelineKind kind;
+
+	// 증상(SYMPTOM) 또는 부위(LATEST)
+	@Id
+	@Column(name = "label", length = 10)
+	private String label;
+
+	// yyyyMM (LATEST는 0)
+	@Id
+	@Column(name = "month_key")
+	private int monthKey;
+
+	@Column(name = "count", nullable = false)
+	private int count;
+
+	@Column(name = "journal_id", nullable = true)
+	private Integer journalId;
+
+	@Column(name = "result", nullable = true, length = 10)
+	private String result;
+
+	@Column(name = "created_date", nullable = true)
+	private LocalDateTime created_date;
+
+	public JournalTimeline(JournalTimelineId id) {
+		this.petId = id.getPetId();
+		this.kind = id.getKind();
+		this.label = id.getLabel();
+		this.monthKey = id.getMonthKey();
+	}
+
+	public JournalTimelineId getId() {
+		return new JournalTimelineId(petId, kind, label, monthKey);
+	}
+
+	public static JournalTimelineId symptomId(JournalDetailDto journal) {
+		return new JournalTimelineId(journal.getPet_id(), JournalTimelineKind.SYMPTOM, journal.getSymptom(),
+				WalkCalendar.monthKey(journal.getCreated_date().toLocalDate()));
+	}
+
+	public static JournalTimelineId latestId(JournalDetailDto journal) {
+		return new JournalTimelineId(journal.getPet_id(), JournalTimelineKind.LATEST, journal.getPart(), 0);
+	}
+
+	public void increment() {
+		this.count++;
+	}
+
+	public void decrement() {
+		this.count = Math.max(0, count - 1);
+	}
+
+	// 지금 기록된 일지보다 늦게 (같으면 id가 크면) 작성된 일지면 교체
+	public void offerLatest(JournalDetailDto journal) {
+		if (journalId == null || journal.getCreated_date().isAfter(created_date)
+				|| (journal.getCreated_date().isEqual(created_date) && journal.getId() >= journalId)) {
+			resetLatest(journal);
+		}
+	}
+
+	// journal이 null이면 해당 부위 일지가 더 이상 없음
+	public void resetLatest(JournalDetailDto journal) {
+		this.journalId = journal == null ? null : journal.getId();
+		this.result = journal == null ? null : journal.getResult();
+		this.created_date = journal == null ? null : journal.getCreated_date();
+	}
+
+	public boolean isEmpty() {
+		return kind == JournalTimelineKind.SYMPTOM ? count == 0 : journalId == null;
+	}
+}
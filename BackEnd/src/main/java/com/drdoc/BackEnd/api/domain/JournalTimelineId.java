@@ -0,0 +1,26 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// JournalTimeline 복합 키 (반려동물, 종류, 증상 또는 부위, yyyyMM)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class JournalTimelineId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private int petId;
+
+	private JournalTimelineKind kind;
+
+	private String label;
+
+	private int monthKey;
+}
@@ -0,0 +1,6 @@
+package com.drdoc.BackEnd.api.domain;
+
+// 일지 요약 행 종류 (SYMPTOM: 월별 증상 건수, LATEST: 부위별 최근 진단 결과)
+public enum JournalTimelineKind {
+	SYMPTOM, LATEST
+}
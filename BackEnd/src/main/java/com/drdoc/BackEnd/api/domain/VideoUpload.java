@@ -0,0 +1,92 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadRequestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 행동 인식용 영상 분할 업로드 (청크는 서버 임시 파일에 이어 쓰고, 모두 받으면 S3에 저장)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "videoUpload", indexes = @Index(name = "idx_video_upload_status", columnList = "status, updated_date"))
+@Entity
+@Builder
+public class VideoUpload {
+
+	// 추측할 수 없도록 UUID 사용
+	@Id
+	@Column(name = "id", length = 36)
+	private String id;
+
+	@ManyToOne
+	@JoinColumn(name = "userId")
+	private User user;
+
+	@Column(name = "pet_id", nullable = false)
+	private int petId;
+
+	@Column(name = "file_name", nullable = false, length = 100)
+	private String fileName;
+
+	@Column(name = "total_size", nullable = false)
+	private long totalSize;
+
+	@Column(name = "chunk_size", nullable = false)
+	private int chunkSize;
+
+	// 임시 파일에 저장을 마친 바이트 수 (다음 청크는 여기서부터)
+	@Column(name = "received_bytes", nullable = false)
+	private long receivedBytes;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 10)
+	private VideoUploadStatus status;
+
+	// 완료 후 S3 key
+	@Column(name = "video", nullable = true, length = 256)
+	private String video;
+
+	@Column(name = "created_date", nullable = false)
+	private LocalDateTime created_date;
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updated_date;
+
+	public VideoUpload(VideoUploadRequestDto request, int chunkSize, User user) {
+		this.id = UUID.randomUUID().toString();
+		this.user = user;
+		this.petId = request.getPet_id();
+		this.fileName = request.getFile_name();
+		this.totalSize = request.getTotal_size();
+		this.chunkSize = chunkSize;
+		this.status = VideoUploadStatus.UPLOADING;
+		this.created_date = LocalDateTime.now();
+		this.updated_date = this.created_date;
+	}
+
+	public int getChunkCount() {
+		return (int) ((totalSize + chunkSize - 1) / chunkSize);
+	}
+
+	public void complete(String video) {
+		this.video = video;
+		this.status = VideoUploadStatus.COMPLETED;
+		this.updated_date = LocalDateTime.now();
+	}
+}
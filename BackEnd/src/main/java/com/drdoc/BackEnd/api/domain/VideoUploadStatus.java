@@ -0,0 +1,6 @@
+package com.drdoc.BackEnd.api.domain;
+
+// 영상 분할 업로드 상태 (UPLOADING -> COMPLETING(S3 저장 중) -> COMPLETED / S3 저장 실패 시 다시 UPLOADING)
+public enum VideoUploadStatus {
+	UPLOADING, COMPLETING, COMPLETED
+}
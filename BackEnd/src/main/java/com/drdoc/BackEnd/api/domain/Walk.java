@@ -1,5 +1,6 @@
 package com.drdoc.BackEnd.api.domain;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
@@ -7,11 +8,15 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.UniqueConstraint;
 
 import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.util.TrackMeasure;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,14 +26,17 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "walk")
+@Table(name = "walk", indexes = @Index(name = "idx_walk_user_id", columnList = "userId, id"),
+		uniqueConstraints = @UniqueConstraint(name = "uk_walk_user_client_id", columnNames = { "userId", "client_id" }))
 @Entity
 @Builder
 public class Walk {
 
 	@Id
 	@Column(name = "id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "walk_id")
+	@TableGenerator(name = "walk_id", table = IdGenerator.TABLE, pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+			pkColumnValue = "walk", allocationSize = IdGenerator.ALLOCATION_SIZE)
 	private int id;
 
 	@ManyToOne
@@ -44,6 +52,14 @@ public class Walk {
 	@Column(name = "end_time", nullable = false)
 	private LocalDateTime end_time;
 
+	// 오프라인 동기화 시 앱이 만든 산책 식별자 (재전송 시 중복 등록 방지)
+	@Column(name = "client_id", nullable = true, length = 64)
+	private String clientId;
+
+	// GPS 경로에 걸어서 낼 수 없는 속도 구간이 있었는지 여부
+	@Column(name = "speed_flagged", nullable = false, columnDefinition = "boolean default false")
+	private boolean speedFlagged;
+
 	@Builder
 	public Walk(WalkRegisterRequestDto request) {
 		this.start_time = request.getStart_time();
@@ -59,10 +75,31 @@ public class Walk {
 		this.user = user;
 	}
 
+	public Walk(WalkRegisterRequestDto request, User user, String clientId) {
+		this(request, user);
+		this.clientId = clientId;
+	}
+
 	public void modify(WalkRegisterRequestDto request) {
 		this.start_time = request.getStart_time();
 		this.end_time = request.getEnd_time();
 		this.distance = request.getDistance();
 	}
 
+	// GPS 경로가 있으면 거리는 서버에서 다시 계산한 값으로 저장 (속도 이상 구간은 거리에서 제외)
+	public void applyTrack(TrackMeasure measure) {
+		this.distance = (int) Math.round(measure.getDistance());
+		this.speedFlagged = measure.isSpeedFlagged();
+	}
+
+	// 거리를 서버에서 이미 잰 경우(실시간 산책) 속도 이상 여부만 반영
+	public void applySpeedFlag(TrackMeasure measure) {
+		this.speedFlagged = measure.isSpeedFlagged();
+	}
+
+	// 산책 시간(초)
+	public long getDurationSeconds() {
+		return Math.abs(Duration.between(start_time, end_time).getSeconds());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반려동물별 월간 산책 달력. days의 (일 - 1)번째 비트가 그날 산책 여부 (산책 시작일 기준)
+// Hibernate는 @IdClass 기본 키 컬럼을 이름순(month_key, pet_id)으로 만들기 때문에 반려동물 조회용 (petId, month_key) 유니크 인덱스를 따로 둔다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "walkCalendar", indexes = @Index(name = "idx_walk_calendar_pet", columnList = "petId, month_key", unique = true))
+@IdClass(WalkCalendarId.class)
+@Entity
+@Builder
+public class WalkCalendar {
+
+	@Id
+	@Column(name = "petId")
+	private int petId;
+
+	// yyyyMM (예: 202209)
+	@Id
+	@Column(name = "month_key")
+	private int monthKey;
+
+	@Column(name = "days", nullable = false)
+	private int days;
+
+	public WalkCalendar(WalkCalendarId id) {
+		this.petId = id.getPetId();
+		this.monthKey = id.getMonthKey();
+	}
+
+	public WalkCalendarId getId() {
+		return new WalkCalendarId(petId, monthKey);
+	}
+
+	public YearMonth getYearMonth() {
+		return toYearMonth(monthKey);
+	}
+
+	public void mark(int dayOfMonth) {
+		this.days |= 1 << (dayOfMonth - 1);
+	}
+
+	public void unmark(int dayOfMonth) {
+		this.days &= ~(1 << (dayOfMonth - 1));
+	}
+
+	public void reset(int days) {
+		this.days = days;
+	}
+
+	public static int monthKey(LocalDate date) {
+		return date.getYear() * 100 + date.getMonthValue();
+	}
+
+	public static int monthKey(YearMonth yearMonth) {
+		return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+	}
+
+	public static YearMonth toYearMonth(int monthKey) {
+		return YearMonth.of(monthKey / 100, monthKey % 100);
+	}
+}
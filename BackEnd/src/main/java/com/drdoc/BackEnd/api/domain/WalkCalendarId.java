@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// WalkCalendar 복합 키 (반려동물, yyyyMM)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class WalkCalendarId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private int petId;
+
+	private int monthKey;
+}
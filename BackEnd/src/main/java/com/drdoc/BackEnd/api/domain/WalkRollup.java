@@ -0,0 +1,74 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반려동물별 일/주/월 산책 집계 (산책 시작일 기준, 산책 기록 등록/수정/삭제 시 함께 갱신)
+// Hibernate는 @IdClass 기본 키 컬럼을 이름순(bucket_start, granularity, pet_id)으로 만들기 때문에
+// (petId, granularity, bucket_start) 유니크 인덱스를 따로 두고, 기간 조회와 행 잠금은 이 인덱스 범위만 탄다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "walkRollup", indexes = @Index(name = "idx_walk_rollup_pet", columnList = "petId, granularity, bucket_start", unique = true))
+@IdClass(WalkRollupId.class)
+@Entity
+@Builder
+public class WalkRollup {
+
+	@Id
+	@Column(name = "petId")
+	private int petId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "granularity", length = 5)
+	private WalkRollupGranularity granularity;
+
+	@Id
+	@Column(name = "bucket_start")
+	private LocalDate bucketStart;
+
+	@Column(name = "total_seconds", nullable = false)
+	private long totalSeconds;
+
+	@Column(name = "total_distance", nullable = false)
+	private long totalDistance;
+
+	@Column(name = "walk_count", nullable = false)
+	private int walkCount;
+
+	public WalkRollup(WalkRollupId id) {
+		this.petId = id.getPetId();
+		this.granularity = id.getGranularity();
+		this.bucketStart = id.getBucketStart();
+	}
+
+	public WalkRollupId getId() {
+		return new WalkRollupId(petId, granularity, bucketStart);
+	}
+
+	public void add(Walk walk) {
+		this.totalSeconds += walk.getDurationSeconds();
+		this.totalDistance += walk.getDistance();
+		this.walkCount++;
+	}
+
+	public void subtract(Walk walk) {
+		this.totalSeconds = Math.max(0, totalSeconds - walk.getDurationSeconds());
+		this.totalDistance = Math.max(0, totalDistance - walk.getDistance());
+		this.walkCount = Math.max(0, walkCount - 1);
+	}
+}
@@ -0,0 +1,55 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// 산책 통계 집계 단위 (주는 월요일 시작)
+public enum WalkRollupGranularity {
+	DAY, WEEK, MONTH;
+
+	// date가 속한 구간의 시작일
+	public LocalDate bucketStart(LocalDate date) {
+		switch (this) {
+		case WEEK:
+			return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		case MONTH:
+			return date.withDayOfMonth(1);
+		default:
+			return date;
+		}
+	}
+
+	public LocalDate next(LocalDate bucketStart) {
+		switch (this) {
+		case WEEK:
+			return bucketStart.plusWeeks(1);
+		case MONTH:
+			return bucketStart.plusMonths(1);
+		default:
+			return bucketStart.plusDays(1);
+		}
+	}
+
+	// from ~ to 구간 수
+	public long bucketCount(LocalDate from, LocalDate to) {
+		switch (this) {
+		case WEEK:
+			return ChronoUnit.WEEKS.between(bucketStart(from), bucketStart(to)) + 1;
+		case MONTH:
+			return ChronoUnit.MONTHS.between(bucketStart(from), bucketStart(to)) + 1;
+		default:
+			return ChronoUnit.DAYS.between(from, to) + 1;
+		}
+	}
+
+	public static WalkRollupGranularity from(String value) {
+		for (WalkRollupGranularity granularity : values()) {
+			if (granularity.name().equalsIgnoreCase(value)) {
+				return granularity;
+			}
+		}
+		throw new IllegalArgumentException("집계 단위는 day, week, month 중 하나입니다.");
+	}
+}
@@ -0,0 +1,25 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// WalkRollup 복합 키 (반려동물, 집계 단위, 구간 시작일)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class WalkRollupId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private int petId;
+
+	private WalkRollupGranularity granularity;
+
+	private LocalDate bucketStart;
+}
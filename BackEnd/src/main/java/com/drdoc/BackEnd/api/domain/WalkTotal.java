@@ -0,0 +1,70 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반려동물별 전체 산책 집계 (산책 기록 등록/수정/삭제 시 함께 갱신)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "walkTotal")
+@Entity
+@Builder
+public class WalkTotal {
+
+	@Id
+	@Column(name = "petId")
+	private int petId;
+
+	@Column(name = "total_seconds", nullable = false)
+	private long totalSeconds;
+
+	@Column(name = "total_distance", nullable = false)
+	private long totalDistance;
+
+	@Column(name = "walk_count", nullable = false)
+	private int walkCount;
+
+	@Column(name = "last_end_time", nullable = true)
+	private LocalDateTime lastEndTime;
+
+	public WalkTotal(int petId) {
+		this.petId = petId;
+	}
+
+	public void add(Walk walk) {
+		this.totalSeconds += walk.getDurationSeconds();
+		this.totalDistance += walk.getDistance();
+		this.walkCount++;
+		if (lastEndTime == null || walk.getEnd_time().isAfter(lastEndTime)) {
+			this.lastEndTime = walk.getEnd_time();
+		}
+	}
+
+	// 마지막 산책 종료 시간은 남은 기록으로 다시 계산해서 updateLastEndTime으로 반영
+	public void subtract(Walk walk) {
+		this.totalSeconds = Math.max(0, totalSeconds - walk.getDurationSeconds());
+		this.totalDistance = Math.max(0, totalDistance - walk.getDistance());
+		this.walkCount = Math.max(0, walkCount - 1);
+	}
+
+	public void updateLastEndTime(LocalDateTime lastEndTime) {
+		this.lastEndTime = lastEndTime;
+	}
+
+	public void reset(long totalSeconds, long totalDistance, int walkCount, LocalDateTime lastEndTime) {
+		this.totalSeconds = totalSeconds;
+		this.totalDistance = totalDistance;
+		this.walkCount = walkCount;
+		this.lastEndTime = lastEndTime;
+	}
+}
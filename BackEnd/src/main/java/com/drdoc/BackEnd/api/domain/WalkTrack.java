@@ -0,0 +1,104 @@
+package com.drdoc.BackEnd.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.MapsId;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.drdoc.BackEnd.api.util.TrackCodec;
+import com.drdoc.BackEnd.api.util.TrackPoints;
+import com.drdoc.BackEnd.api.util.TrackSimplifier;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 산책 GPS 경로 (TrackCodec으로 인코딩한 바이너리, 지도 표시용 단순화 경로를 함께 저장)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "walkTrack", indexes = @Index(name = "idx_walk_track_created", columnList = "created_date, walkId"))
+@Entity
+@Builder
+public class WalkTrack {
+
+	// 경로 상세도
+	public static final String DETAIL_FULL = "full";
+	public static final String DETAIL_MEDIUM = "medium";
+	public static final String DETAIL_THUMBNAIL = "thumbnail";
+
+	// 상세 지도용 허용 오차(m)
+	private static final double MEDIUM_TOLERANCE_METERS = 3;
+	// 목록 썸네일 지도용 허용 오차(m)와 최대 좌표 수
+	private static final double THUMBNAIL_TOLERANCE_METERS = 15;
+	private static final int THUMBNAIL_MAX_POINTS = 300;
+
+	@Id
+	@Column(name = "walkId")
+	private int walkId;
+
+	@MapsId
+	@OneToOne(fetch = FetchType.LAZY)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@JoinColumn(name = "walkId")
+	private Walk walk;
+
+	@Column(name = "point_count", nullable = false)
+	private int pointCount;
+
+	@Lob
+	@Column(name = "track", nullable = false, length = 16777215)
+	private byte[] track;
+
+	@Lob
+	@Column(name = "medium_track", nullable = true, length = 16777215)
+	private byte[] mediumTrack;
+
+	@Lob
+	@Column(name = "thumbnail_track", nullable = true, length = 65535)
+	private byte[] thumbnailTrack;
+
+	// 저장 시각 (인기 구간 인덱스가 재시작 후 이어서 반영할 위치, 산책 id는 커밋 순서와 달라서 사용하지 않음)
+	@Column(name = "created_date", nullable = true)
+	private LocalDateTime created_date;
+
+	public WalkTrack(Walk walk, TrackPoints points) {
+		this.walk = walk;
+		this.pointCount = points.size();
+		this.track = TrackCodec.encode(points);
+		this.mediumTrack = TrackCodec.encode(TrackSimplifier.simplify(points, MEDIUM_TOLERANCE_METERS));
+		this.thumbnailTrack = TrackCodec.encode(
+				TrackSimplifier.simplifyToMax(points, THUMBNAIL_TOLERANCE_METERS, THUMBNAIL_MAX_POINTS));
+		this.created_date = LocalDateTime.now();
+	}
+
+	public TrackPoints getPoints() {
+		return TrackCodec.decode(track);
+	}
+
+	// 상세도별 경로 (단순화 경로가 없는 기존 기록은 전체 경로 반환)
+	public TrackPoints getPoints(String detail) {
+		if (DETAIL_FULL.equals(detail)) {
+			return getPoints();
+		}
+		if (DETAIL_MEDIUM.equals(detail)) {
+			return mediumTrack == null ? getPoints() : TrackCodec.decode(mediumTrack);
+		}
+		if (DETAIL_THUMBNAIL.equals(detail)) {
+			return thumbnailTrack == null ? getPoints() : TrackCodec.decode(thumbnailTrack);
+		}
+		throw new IllegalArgumentException("경로 상세도는 full, medium, thumbnail 중 하나입니다.");
+	}
+}
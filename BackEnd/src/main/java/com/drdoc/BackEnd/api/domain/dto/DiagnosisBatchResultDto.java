@@ -0,0 +1,21 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// AI 추론 서버 배치 응답 (요청한 사진 순서대로 진단 결과)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisBatchResultDto {
+
+	private List<String> results;
+
+}
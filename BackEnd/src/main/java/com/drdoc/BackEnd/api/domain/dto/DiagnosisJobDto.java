@@ -0,0 +1,64 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.drdoc.BackEnd.api.domain.DiagnosisJob;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisJobDto {
+
+	@ApiModelProperty(name = "job_id", example = "1")
+	private int job_id;
+
+	@ApiModelProperty(name = "status", notes = "QUEUED, RUNNING, DONE, FAILED", example = "DONE")
+	private String status;
+
+	@ApiModelProperty(name = "pet_id", example = "1")
+	private int pet_id;
+
+	@ApiModelProperty(name = "part", example = "eye")
+	private String part;
+
+	@ApiModelProperty(name = "result", example = "결막염")
+	private String result;
+
+	@ApiModelProperty(name = "journal_id", notes = "진단이 끝나면 작성된 일지 id", example = "123")
+	private Integer journal_id;
+
+	@ApiModelProperty(name = "cached", notes = "최근 비슷한 사진의 진단 결과를 재사용했으면 true", example = "false")
+	private boolean cached;
+
+	@ApiModelProperty(name = "error", example = "null")
+	private String error;
+
+	@ApiModelProperty(name = "created_date", example = "2022-09-14T15:44:30.327959")
+	private LocalDateTime created_date;
+
+	@ApiModelProperty(name = "updated_date", example = "2022-09-14T15:44:33.327959")
+	private LocalDateTime updated_date;
+
+	public DiagnosisJobDto(DiagnosisJob job) {
+		this.job_id = job.getId();
+		this.status = job.getStatus().name();
+		this.pet_id = job.getPetId();
+		this.part = job.getPart();
+		this.result = job.getResult();
+		this.journal_id = job.getJournalId();
+		this.cached = job.isCached();
+		this.error = job.getError();
+		this.created_date = job.getCreated_date();
+		this.updated_date = job.getUpdated_date();
+	}
+
+}
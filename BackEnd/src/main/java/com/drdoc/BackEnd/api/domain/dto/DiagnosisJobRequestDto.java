@@ -0,0 +1,32 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisJobRequestDto {
+
+	@ApiModelProperty(name = "pet_id", example = "1")
+	private int pet_id;
+
+	@NotBlank(message = "진단 부위는 필수 입력 값입니다.")
+	@Size(max = 10, message = "진단 부위는 10자 이내입니다.")
+	@ApiModelProperty(name = "part", example = "eye")
+	private String part;
+
+	@Size(max = 10, message = "증상은 10자 이내입니다.")
+	@ApiModelProperty(name = "symptom", example = "가려움")
+	private String symptom;
+
+}
@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisJobResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "진단 작업")
+	private DiagnosisJobDto job;
+
+	public DiagnosisJobResponseDto(Integer statusCode, String message, DiagnosisJobDto job) {
+		super(statusCode, message);
+		this.job = job;
+	}
+
+	public static DiagnosisJobResponseDto of(Integer statusCode, String message, DiagnosisJobDto job) {
+		DiagnosisJobResponseDto body = new DiagnosisJobResponseDto(statusCode, message, job);
+		return body;
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// AI 추론 서버 응답
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisResultDto {
+
+	private String result;
+
+}
@@ -23,6 +23,7 @@ public class JournalDetailDto {
     private String part;
     private String symptom;
     private String result;
+    private String model_version;
     private LocalDateTime created_date;    
     
 	public JournalDetailDto(Journal journal) {
@@ -32,6 +33,7 @@ public class JournalDetailDto {
 		this.part = journal.getPart();
 		this.symptom = journal.getSymptom();
 		this.result = journal.getResult();
+		this.model_version = journal.getModelVersion();
 		this.created_date = journal.getCreated_date();
 	}
 
@@ -0,0 +1,31 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalLatestResultDto {
+
+	@ApiModelProperty(name = "part", example = "안구")
+	private String part;
+
+	@ApiModelProperty(name = "result", example = "결막염")
+	private String result;
+
+	@ApiModelProperty(name = "journal_id", example = "1234")
+	private int journal_id;
+
+	@ApiModelProperty(name = "created_date", example = "2022-09-14T15:44:30.327959")
+	private LocalDateTime created_date;
+
+}
@@ -1,6 +1,10 @@
 package com.drdoc.BackEnd.api.domain.dto;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.drdoc.BackEnd.api.util.CursorUtil;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -11,14 +15,23 @@ import lombok.Getter;
 public class JournalListResponseDto extends BaseResponseDto {
 
 	@ApiModelProperty(name = "Journal List")
-	private Page<JournalThumbnailDto> journalList;
+	private Slice<JournalThumbnailDto> journalList;
+
+	@ApiModelProperty(name = "next_cursor", example = "YXQ6MjAyMi0wOS0xNFQxNTo0NDozMCwxMjM")
+	private String next_cursor;
 
-	public JournalListResponseDto(Integer statusCode, String message, Page<JournalThumbnailDto> journalList) {
+	public JournalListResponseDto(Integer statusCode, String message, Slice<JournalThumbnailDto> journalList) {
 		super(statusCode, message);
 		this.journalList = journalList;
+		// 다음 페이지가 있으면 마지막 항목의 (작성일, id)를 커서로 내려줌
+		List<JournalThumbnailDto> content = journalList.getContent();
+		if (journalList.hasNext() && !content.isEmpty()) {
+			JournalThumbnailDto last = content.get(content.size() - 1);
+			this.next_cursor = CursorUtil.encode(last.getCreated_date(), last.getJournal_id());
+		}
 	}
 
-	public static JournalListResponseDto of(Integer statusCode, String message, Page<JournalThumbnailDto> journalList) {
+	public static JournalListResponseDto of(Integer statusCode, String message, Slice<JournalThumbnailDto> journalList) {
 		JournalListResponseDto body = new JournalListResponseDto(statusCode, message, journalList);
 		return body;
 	}
@@ -0,0 +1,21 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+// 진료용 보고서에 내보낼 일지 (보고서에 필요한 컬럼만 조회)
+public interface JournalReportRow {
+
+	int getId();
+
+	String getPart();
+
+	String getSymptom();
+
+	String getResult();
+
+	String getModelVersion();
+
+	String getPicture();
+
+	LocalDateTime getCreatedDate();
+}
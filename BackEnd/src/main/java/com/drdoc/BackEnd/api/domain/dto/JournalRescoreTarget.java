@@ -0,0 +1,11 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+// 재진단할 일지 (재진단에 필요한 컬럼만 조회)
+public interface JournalRescoreTarget {
+
+	int getId();
+
+	String getPart();
+
+	String getPicture();
+}
@@ -0,0 +1,25 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일지 목록 검색 조건 (null인 조건은 적용하지 않음, 날짜는 작성일 기준 from ~ to 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalSearchDto {
+
+	private Integer pet_id;
+	private String part;
+	private String result;
+	private LocalDate from;
+	private LocalDate to;
+
+}
@@ -0,0 +1,26 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalSymptomCountDto {
+
+	@ApiModelProperty(name = "month", notes = "작성 월 (yyyy-MM)", example = "2022-09")
+	private String month;
+
+	@ApiModelProperty(name = "symptom", example = "가려움")
+	private String symptom;
+
+	@ApiModelProperty(name = "count", example = "3")
+	private int count;
+
+}
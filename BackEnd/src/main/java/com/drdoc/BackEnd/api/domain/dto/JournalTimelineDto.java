@@ -0,0 +1,28 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalTimelineDto {
+
+	@ApiModelProperty(name = "pet_id", example = "1234")
+	private int pet_id;
+
+	@ApiModelProperty(name = "symptoms", notes = "월별 증상 일지 수 (월 오름차순, 같은 달은 건수 내림차순)")
+	private List<JournalSymptomCountDto> symptoms;
+
+	@ApiModelProperty(name = "latest", notes = "부위별 최근 진단 결과 (최근 작성순)")
+	private List<JournalLatestResultDto> latest;
+
+}
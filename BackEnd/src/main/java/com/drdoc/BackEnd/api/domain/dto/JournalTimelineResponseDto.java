@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalTimelineResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "증상 추이")
+	private JournalTimelineDto timeline;
+
+	public JournalTimelineResponseDto(Integer statusCode, String message, JournalTimelineDto timeline) {
+		super(statusCode, message);
+		this.timeline = timeline;
+	}
+
+	public static JournalTimelineResponseDto of(Integer statusCode, String message, JournalTimelineDto timeline) {
+		JournalTimelineResponseDto body = new JournalTimelineResponseDto(statusCode, message, timeline);
+		return body;
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 실시간 산책 웹소켓 메시지 (앱 -> 서버)
+// start: pet_ids / fix: lats, lons, times (1개 이상, 끊겼다 다시 연결되면 모아서 전송) / end
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LiveWalkMessageDto {
+
+	public static final String START = "start";
+	public static final String FIX = "fix";
+	public static final String END = "end";
+
+	private String type;
+
+	private List<Integer> pet_ids;
+
+	private double[] lats;
+
+	private double[] lons;
+
+	private long[] times;
+
+}
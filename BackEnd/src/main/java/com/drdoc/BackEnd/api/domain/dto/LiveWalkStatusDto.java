@@ -0,0 +1,46 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 실시간 산책 웹소켓 메시지 (서버 -> 앱)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LiveWalkStatusDto {
+
+	public static final String STATUS = "status";
+	public static final String SAVED = "saved";
+	public static final String ERROR = "error";
+
+	private String type;
+
+	// 받은 좌표 수
+	private int points;
+
+	// 누적 거리(m)
+	private int distance;
+
+	private long elapsed_seconds;
+
+	// 최근 구간 페이스(초/km)
+	private int pace;
+
+	private Integer walk_id;
+
+	private String message;
+
+	public static LiveWalkStatusDto saved(Integer walkId) {
+		return LiveWalkStatusDto.builder().type(SAVED).walk_id(walkId).build();
+	}
+
+	public static LiveWalkStatusDto error(String message) {
+		return LiveWalkStatusDto.builder().type(ERROR).message(message).build();
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PetReportJournalDto {
+
+	@ApiModelProperty(name = "id", example = "1234")
+	private int id;
+
+	@ApiModelProperty(name = "created_date", example = "2022-09-14T15:44:30.327959")
+	private LocalDateTime created_date;
+
+	@ApiModelProperty(name = "part", example = "안구")
+	private String part;
+
+	@ApiModelProperty(name = "symptom", example = "충혈")
+	private String symptom;
+
+	@ApiModelProperty(name = "result", example = "결막염")
+	private String result;
+
+	@ApiModelProperty(name = "model_version", example = "v1")
+	private String model_version;
+
+	@ApiModelProperty(name = "picture_url", example = "https://a204drdoc.s3.ap-northeast-2.amazonaws.com/20220914154430-eye.jpg")
+	private String picture_url;
+
+}
@@ -0,0 +1,24 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 진료용 보고서 한 줄 (type: pet, walk_total, walk_month, journal)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PetReportLineDto {
+
+	@ApiModelProperty(name = "type", example = "journal")
+	private String type;
+
+	@ApiModelProperty(name = "data")
+	private Object data;
+
+}
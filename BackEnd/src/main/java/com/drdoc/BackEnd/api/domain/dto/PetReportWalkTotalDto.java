@@ -0,0 +1,40 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.drdoc.BackEnd.api.domain.WalkTotal;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PetReportWalkTotalDto {
+
+	@ApiModelProperty(name = "time_passed", example = "11111")
+	private long time_passed;
+
+	@ApiModelProperty(name = "distance_sum", example = "10959")
+	private long distance_sum;
+
+	@ApiModelProperty(name = "walk_count", example = "3")
+	private int walk_count;
+
+	@ApiModelProperty(name = "last_end_time", example = "2022-09-14T15:44:30")
+	private LocalDateTime last_end_time;
+
+	public PetReportWalkTotalDto(WalkTotal total) {
+		this.time_passed = total.getTotalSeconds();
+		this.distance_sum = total.getTotalDistance();
+		this.walk_count = total.getWalkCount();
+		this.last_end_time = total.getLastEndTime();
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.drdoc.BackEnd.api.domain.VideoUpload;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoUploadDto {
+
+	@ApiModelProperty(name = "upload_id", example = "3f0c6a52-2d1e-4c1b-9a55-0b7d0f3c9e21")
+	private String upload_id;
+
+	@ApiModelProperty(name = "status", notes = "UPLOADING, COMPLETING, COMPLETED", example = "UPLOADING")
+	private String status;
+
+	@ApiModelProperty(name = "pet_id", example = "1")
+	private int pet_id;
+
+	@ApiModelProperty(name = "file_name", example = "walk.mp4")
+	private String file_name;
+
+	@ApiModelProperty(name = "total_size", example = "104857600")
+	private long total_size;
+
+	@ApiModelProperty(name = "chunk_size", notes = "마지막 청크를 뺀 청크 크기(byte)", example = "8388608")
+	private int chunk_size;
+
+	@ApiModelProperty(name = "chunk_count", example = "13")
+	private int chunk_count;
+
+	@ApiModelProperty(name = "received_bytes", notes = "서버에 저장된 바이트 수 (이어 올릴 위치)", example = "16777216")
+	private long received_bytes;
+
+	@ApiModelProperty(name = "next_chunk", notes = "다음에 올릴 청크 번호 (0부터, 모두 받았으면 chunk_count)", example = "2")
+	private int next_chunk;
+
+	@ApiModelProperty(name = "video", notes = "완료 후 저장된 영상 key", example = "null")
+	private String video;
+
+	@ApiModelProperty(name = "updated_date", example = "2022-09-14T15:44:33.327959")
+	private LocalDateTime updated_date;
+
+	public VideoUploadDto(VideoUpload upload) {
+		this.upload_id = upload.getId();
+		this.status = upload.getStatus().name();
+		this.pet_id = upload.getPetId();
+		this.file_name = upload.getFileName();
+		this.total_size = upload.getTotalSize();
+		this.chunk_size = upload.getChunkSize();
+		this.chunk_count = upload.getChunkCount();
+		this.received_bytes = upload.getReceivedBytes();
+		this.next_chunk = (int) ((upload.getReceivedBytes() + upload.getChunkSize() - 1) / upload.getChunkSize());
+		this.video = upload.getVideo();
+		this.updated_date = upload.getUpdated_date();
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoUploadRequestDto {
+
+	@ApiModelProperty(name = "pet_id", example = "1")
+	private int pet_id;
+
+	@NotBlank(message = "파일 이름은 필수 입력 값입니다.")
+	@Size(max = 100, message = "파일 이름은 100자 이내입니다.")
+	@ApiModelProperty(name = "file_name", example = "walk.mp4")
+	private String file_name;
+
+	@Positive(message = "파일 크기는 0보다 커야 합니다.")
+	@ApiModelProperty(name = "total_size", notes = "전체 파일 크기(byte)", example = "104857600")
+	private long total_size;
+
+}
@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoUploadResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "영상 업로드")
+	private VideoUploadDto upload;
+
+	public VideoUploadResponseDto(Integer statusCode, String message, VideoUploadDto upload) {
+		super(statusCode, message);
+		this.upload = upload;
+	}
+
+	public static VideoUploadResponseDto of(Integer statusCode, String message, VideoUploadDto upload) {
+		VideoUploadResponseDto body = new VideoUploadResponseDto(statusCode, message, upload);
+		return body;
+	}
+
+}
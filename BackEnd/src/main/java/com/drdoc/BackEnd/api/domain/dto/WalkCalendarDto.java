@@ -0,0 +1,35 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkCalendarDto {
+
+	@ApiModelProperty(name = "year", example = "2022")
+	private int year;
+
+	@ApiModelProperty(name = "month", example = "9")
+	private int month;
+
+	@ApiModelProperty(name = "days", notes = "(일 - 1)번째 비트가 그날 산책 여부", example = "24579")
+	private int days;
+
+	@ApiModelProperty(name = "walked_days", example = "[1, 2, 14, 15]")
+	private int[] walked_days;
+
+	@ApiModelProperty(name = "current_streak", notes = "오늘(오늘 산책 전이면 어제)까지 연속 산책 일수", example = "2")
+	private int current_streak;
+
+	@ApiModelProperty(name = "longest_streak", example = "5")
+	private int longest_streak;
+
+}
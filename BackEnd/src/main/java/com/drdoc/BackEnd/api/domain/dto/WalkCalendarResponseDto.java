@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkCalendarResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "월간 산책 달력")
+	private WalkCalendarDto calendar;
+
+	public WalkCalendarResponseDto(Integer statusCode, String message, WalkCalendarDto calendar) {
+		super(statusCode, message);
+		this.calendar = calendar;
+	}
+
+	public static WalkCalendarResponseDto of(Integer statusCode, String message, WalkCalendarDto calendar) {
+		WalkCalendarResponseDto body = new WalkCalendarResponseDto(statusCode, message, calendar);
+		return body;
+	}
+
+}
@@ -22,13 +22,16 @@ public class WalkDetailDto {
 	private LocalDateTime start_time;
 	private LocalDateTime end_time;
 	private int distance;
+	private boolean speed_flagged;
 	private List<WalkPetDetailDto> petsList;
+	private WalkTrackDto track;
 
 	public WalkDetailDto(Walk walk) {
 		this.walk_id = walk.getId();
 		this.start_time = walk.getStart_time();
 		this.end_time = walk.getEnd_time();
 		this.distance = walk.getDistance();
+		this.speed_flagged = walk.isSpeedFlagged();
 	}
 
 	public WalkDetailDto(Walk walk, List<WalkPetDetailDto> petsList) {
@@ -40,4 +43,8 @@ public class WalkDetailDto {
 		this.petsList = petsList;
 	}
 
+	public void editTrack(WalkTrackDto track) {
+		this.track = track;
+	}
+
 }
\ No newline at end of file
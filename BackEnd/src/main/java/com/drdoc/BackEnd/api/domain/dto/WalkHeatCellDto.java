@@ -0,0 +1,39 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import com.drdoc.BackEnd.api.service.WalkHeatIndex.HeatCell;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkHeatCellDto {
+
+	@ApiModelProperty(name = "geohash", example = "wydm6fg")
+	private String geohash;
+
+	@ApiModelProperty(name = "lat", notes = "셀 중심 위도", example = "37.501144")
+	private double lat;
+
+	@ApiModelProperty(name = "lon", notes = "셀 중심 경도", example = "127.039719")
+	private double lon;
+
+	@ApiModelProperty(name = "count", notes = "셀을 지나간 산책 수", example = "42")
+	private int count;
+
+	public WalkHeatCellDto(HeatCell cell) {
+		double[] center = cell.getCenter();
+		this.geohash = cell.getGeohash();
+		this.lat = center[0];
+		this.lon = center[1];
+		this.count = cell.getCount();
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+@Getter
+@ApiModel("WalkImportResponse")
+public class WalkImportResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "Import Result")
+	private WalkImportResultDto result;
+
+	public WalkImportResponseDto(Integer statusCode, String message, WalkImportResultDto result) {
+		super(statusCode, message);
+		this.result = result;
+	}
+
+	public static WalkImportResponseDto of(Integer statusCode, String message, WalkImportResultDto result) {
+		WalkImportResponseDto body = new WalkImportResponseDto(statusCode, message, result);
+		return body;
+	}
+}
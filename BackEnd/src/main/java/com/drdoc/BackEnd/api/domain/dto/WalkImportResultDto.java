@@ -0,0 +1,42 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// GPX 가져오기 결과 (실패한 트랙만 항목별로 반환)
+@Getter
+@NoArgsConstructor
+public class WalkImportResultDto {
+
+	@ApiModelProperty(name = "created", example = "120")
+	private int created;
+
+	@ApiModelProperty(name = "duplicate", example = "3")
+	private int duplicate;
+
+	@ApiModelProperty(name = "failed", example = "1")
+	private int failed;
+
+	@ApiModelProperty(name = "failures")
+	private List<WalkSyncResultDto> failures = new ArrayList<>();
+
+	public void add(WalkSyncResultDto result) {
+		if (WalkSyncResultDto.CREATED.equals(result.getStatus())) {
+			created++;
+		} else if (WalkSyncResultDto.DUPLICATE.equals(result.getStatus())) {
+			duplicate++;
+		} else {
+			addFailure(result);
+		}
+	}
+
+	public void addFailure(WalkSyncResultDto result) {
+		failed++;
+		failures.add(result);
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkLeaderboardDto {
+
+	@ApiModelProperty(name = "period", example = "week")
+	private String period;
+
+	@ApiModelProperty(name = "bucket_start", example = "2022-09-12")
+	private LocalDate bucket_start;
+
+	@ApiModelProperty(name = "total", notes = "순위표에 오른 반려동물 수", example = "152")
+	private int total;
+
+	@ApiModelProperty(name = "entries")
+	private List<WalkLeaderboardEntryDto> entries;
+
+	@ApiModelProperty(name = "mine", notes = "내 반려동물 순위 (이번 구간에 산책 기록이 있는 반려동물만)")
+	private List<WalkLeaderboardEntryDto> mine;
+
+}
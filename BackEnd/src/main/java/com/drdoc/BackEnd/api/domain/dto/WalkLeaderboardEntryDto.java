@@ -0,0 +1,42 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import com.drdoc.BackEnd.api.service.WalkLeaderboard.Standing;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkLeaderboardEntryDto {
+
+	@ApiModelProperty(name = "rank", notes = "같은 거리는 같은 순위", example = "1")
+	private int rank;
+
+	@ApiModelProperty(name = "pet_id", example = "1")
+	private int pet_id;
+
+	@ApiModelProperty(name = "name", example = "초코")
+	private String name;
+
+	@ApiModelProperty(name = "animal_pic", example = "https://...")
+	private String animal_pic;
+
+	@ApiModelProperty(name = "distance_sum", example = "10959")
+	private long distance_sum;
+
+	public WalkLeaderboardEntryDto(Standing standing, String name, String animalPic) {
+		this.rank = standing.getRank();
+		this.pet_id = standing.getPetId();
+		this.name = name;
+		this.animal_pic = animalPic;
+		this.distance_sum = standing.getDistance();
+	}
+
+}
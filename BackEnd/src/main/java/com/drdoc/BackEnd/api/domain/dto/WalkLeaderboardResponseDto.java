@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkLeaderboardResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "산책 거리 순위표")
+	private WalkLeaderboardDto leaderboard;
+
+	public WalkLeaderboardResponseDto(Integer statusCode, String message, WalkLeaderboardDto leaderboard) {
+		super(statusCode, message);
+		this.leaderboard = leaderboard;
+	}
+
+	public static WalkLeaderboardResponseDto of(Integer statusCode, String message, WalkLeaderboardDto leaderboard) {
+		WalkLeaderboardResponseDto body = new WalkLeaderboardResponseDto(statusCode, message, leaderboard);
+		return body;
+	}
+
+}
@@ -1,6 +1,10 @@
 package com.drdoc.BackEnd.api.domain.dto;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.drdoc.BackEnd.api.util.CursorUtil;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -11,14 +15,22 @@ import lombok.Getter;
 public class WalkListResponseDto extends BaseResponseDto {
 
 	@ApiModelProperty(name = "Walk List")
-	private Page<WalkDetailDto> walkList;
+	private Slice<WalkDetailDto> walkList;
+
+	@ApiModelProperty(name = "next_cursor", example = "aWQ6MTIz")
+	private String next_cursor;
 
-	public WalkListResponseDto(Integer statusCode, String message, Page<WalkDetailDto> walkList) {
+	public WalkListResponseDto(Integer statusCode, String message, Slice<WalkDetailDto> walkList) {
 		super(statusCode, message);
 		this.walkList = walkList;
+		// 다음 페이지가 있으면 마지막 항목의 id를 커서로 내려줌
+		List<WalkDetailDto> content = walkList.getContent();
+		if (walkList.hasNext() && !content.isEmpty()) {
+			this.next_cursor = CursorUtil.encode(content.get(content.size() - 1).getWalk_id());
+		}
 	}
 
-	public static WalkListResponseDto of(Integer statusCode, String message, Page<WalkDetailDto> walkList) {
+	public static WalkListResponseDto of(Integer statusCode, String message, Slice<WalkDetailDto> walkList) {
 		WalkListResponseDto body = new WalkListResponseDto(statusCode, message, walkList);
 		return body;
 	}
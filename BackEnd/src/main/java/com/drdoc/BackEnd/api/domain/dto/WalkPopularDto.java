@@ -0,0 +1,25 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkPopularDto {
+
+	@ApiModelProperty(name = "cells", notes = "많이 지나간 셀 (많은 순)")
+	private List<WalkHeatCellDto> cells;
+
+	@ApiModelProperty(name = "routes", notes = "인기 셀을 많이 지나간 대표 경로 (시작/끝 구간과 시간은 제외)")
+	private List<WalkTrackDto> routes;
+
+}
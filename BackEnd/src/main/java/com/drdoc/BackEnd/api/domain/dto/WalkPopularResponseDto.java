@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkPopularResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "주변 인기 산책 구간")
+	private WalkPopularDto popular;
+
+	public WalkPopularResponseDto(Integer statusCode, String message, WalkPopularDto popular) {
+		super(statusCode, message);
+		this.popular = popular;
+	}
+
+	public static WalkPopularResponseDto of(Integer statusCode, String message, WalkPopularDto popular) {
+		WalkPopularResponseDto body = new WalkPopularResponseDto(statusCode, message, popular);
+		return body;
+	}
+
+}
@@ -23,10 +23,13 @@ public class WalkRegisterRequestDto {
 	@ApiModelProperty(name = "end_time", example = "2022-09-14T15:44:30.327959")
 	private LocalDateTime end_time;
 
-	@ApiModelProperty(name = "distance", example = "123")
+	@ApiModelProperty(name = "distance", notes = "track이 있으면 서버에서 경로로 다시 계산한 값으로 저장", example = "123")
 	private int distance;
 
 	@ApiModelProperty(name = "pet_ids", example = "[1,2,3,4]")
 	private List<Integer> pet_ids;
 
+	@ApiModelProperty(name = "track", notes = "GPS 경로 (선택)")
+	private WalkTrackDto track;
+
 }
@@ -0,0 +1,40 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.time.LocalDate;
+
+import com.drdoc.BackEnd.api.domain.WalkRollup;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkStatsDto {
+
+	@ApiModelProperty(name = "bucket_start", example = "2022-09-12")
+	private LocalDate bucket_start;
+
+	@ApiModelProperty(name = "time_passed", example = "11111")
+	private long time_passed;
+
+	@ApiModelProperty(name = "distance_sum", example = "10959")
+	private long distance_sum;
+
+	@ApiModelProperty(name = "walk_count", example = "3")
+	private int walk_count;
+
+	public WalkStatsDto(WalkRollup rollup) {
+		this.bucket_start = rollup.getBucketStart();
+		this.time_passed = rollup.getTotalSeconds();
+		this.distance_sum = rollup.getTotalDistance();
+		this.walk_count = rollup.getWalkCount();
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkStatsResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "기간별 산책 통계")
+	private List<WalkStatsDto> stats;
+
+	public WalkStatsResponseDto(Integer statusCode, String message, List<WalkStatsDto> stats) {
+		super(statusCode, message);
+		this.stats = stats;
+	}
+
+	public static WalkStatsResponseDto of(Integer statusCode, String message, List<WalkStatsDto> stats) {
+		WalkStatsResponseDto body = new WalkStatsResponseDto(statusCode, message, stats);
+		return body;
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkSyncItemDto {
+
+	@ApiModelProperty(name = "client_id", example = "3f2b9c1e-6a0d-4b7e-9d51-2c8f0e7a4b10")
+	private String client_id;
+
+	@ApiModelProperty(name = "walk")
+	private WalkRegisterRequestDto walk;
+
+}
@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkSyncRequestDto {
+
+	@ApiModelProperty(name = "walks")
+	private List<WalkSyncItemDto> walks;
+
+}
@@ -0,0 +1,25 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+@Getter
+@ApiModel("WalkSyncResponse")
+public class WalkSyncResponseDto extends BaseResponseDto {
+
+	@ApiModelProperty(name = "Sync Results")
+	private List<WalkSyncResultDto> results;
+
+	public WalkSyncResponseDto(Integer statusCode, String message, List<WalkSyncResultDto> results) {
+		super(statusCode, message);
+		this.results = results;
+	}
+
+	public static WalkSyncResponseDto of(Integer statusCode, String message, List<WalkSyncResultDto> results) {
+		WalkSyncResponseDto body = new WalkSyncResponseDto(statusCode, message, results);
+		return body;
+	}
+}
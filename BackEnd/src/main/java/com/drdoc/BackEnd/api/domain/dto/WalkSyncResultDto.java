@@ -0,0 +1,41 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkSyncResultDto {
+
+	public static final String CREATED = "CREATED";
+	public static final String DUPLICATE = "DUPLICATE";
+	public static final String FAILED = "FAILED";
+
+	@ApiModelProperty(name = "client_id", example = "3f2b9c1e-6a0d-4b7e-9d51-2c8f0e7a4b10")
+	private String client_id;
+
+	@ApiModelProperty(name = "status", example = "CREATED")
+	private String status;
+
+	@ApiModelProperty(name = "walk_id", example = "123")
+	private Integer walk_id;
+
+	@ApiModelProperty(name = "message", example = "null")
+	private String message;
+
+	public static WalkSyncResultDto of(String clientId, String status) {
+		return new WalkSyncResultDto(clientId, status, null, null);
+	}
+
+	public static WalkSyncResultDto failed(String clientId, String message) {
+		return new WalkSyncResultDto(clientId, FAILED, null, message);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.drdoc.BackEnd.api.domain.dto;
+
+import java.util.Arrays;
+
+import com.drdoc.BackEnd.api.util.TrackPoints;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 산책 경로 (좌표마다 객체를 만들지 않도록 위도/경도/시간을 각각 배열로 주고받음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkTrackDto {
+
+	@ApiModelProperty(name = "lats", example = "[37.501274, 37.501301]")
+	private double[] lats;
+
+	@ApiModelProperty(name = "lons", example = "[127.039585, 127.039612]")
+	private double[] lons;
+
+	@ApiModelProperty(name = "times", example = "[1663137870327, 1663137871327]")
+	private long[] times;
+
+	public WalkTrackDto(TrackPoints points) {
+		this.lats = Arrays.copyOf(points.lats(), points.size());
+		this.lons = Arrays.copyOf(points.lons(), points.size());
+		this.times = Arrays.copyOf(points.times(), points.size());
+	}
+
+	public TrackPoints toPoints() {
+		return new TrackPoints(lats, lons, times);
+	}
+}
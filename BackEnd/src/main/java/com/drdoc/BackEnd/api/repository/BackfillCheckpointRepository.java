@@ -0,0 +1,10 @@
+package com.drdoc.BackEnd.api.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.BackfillCheckpoint;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
@@ -0,0 +1,30 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.BackfillFailure;
+import com.drdoc.BackEnd.api.domain.BackfillFailureId;
+
+@Repository
+public interface BackfillFailureRepository extends JpaRepository<BackfillFailure, BackfillFailureId> {
+	// afterId 다음부터 대상 id 순으로, 재시도 횟수가 남은 실패 (기본 키 범위 탐색)
+	@Query("select f from BackfillFailure f where f.name = :name and f.targetId > :afterId and f.attempts < :maxAttempts "
+			+ "order by f.targetId")
+	List<BackfillFailure> findRetryTargets(@Param("name") String name, @Param("afterId") int afterId,
+			@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+	@Query("select f from BackfillFailure f where f.name = :name and f.targetId in :targetIds")
+	List<BackfillFailure> findByTargetIds(@Param("name") String name, @Param("targetIds") Collection<Integer> targetIds);
+
+	@Modifying
+	@Query("delete from BackfillFailure f where f.name = :name and f.targetId in :targetIds")
+	int deleteByTargetIds(@Param("name") String name, @Param("targetIds") Collection<Integer> targetIds);
+}
@@ -0,0 +1,27 @@
+package com.drdoc.BackEnd.api.repository;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.DiagnosisJobInput;
+
+@Repository
+public interface DiagnosisJobInputRepository extends JpaRepository<DiagnosisJobInput, Integer> {
+	// 사진을 읽지 않고 바로 삭제
+	@Transactional
+	@Modifying
+	@Query("delete from DiagnosisJobInput i where i.jobId = :jobId")
+	int deleteByJobId(@Param("jobId") int jobId);
+
+	// 끝난 작업의 모델 입력 정리 (입력 테이블에는 진행 중인 작업만 남으므로 작음)
+	@Transactional
+	@Modifying
+	@Query("delete from DiagnosisJobInput i where i.jobId in (select j.id from DiagnosisJob j "
+			+ "where j.status in (com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.DONE, com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.FAILED))")
+	int deleteFinished();
+}
@@ -0,0 +1,54 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.DiagnosisJob;
+import com.drdoc.BackEnd.api.domain.DiagnosisJobStatus;
+
+@Repository
+public interface DiagnosisJobRepository extends JpaRepository<DiagnosisJob, Integer> {
+	// 상태를 조건부로 바꿔서 작업 선점 (바뀐 행이 1이면 선점 성공)
+	@Transactional
+	@Modifying
+	@Query("update DiagnosisJob j set j.status = :to, j.updated_date = :now where j.id = :id and j.status = :from")
+	int changeStatus(@Param("id") int id, @Param("from") DiagnosisJobStatus from, @Param("to") DiagnosisJobStatus to,
+			@Param("now") LocalDateTime now);
+
+	// 작업 작성자 id (작업 엔티티를 영속성 컨텍스트에 올리지 않고 권한 확인)
+	@Query("select j.user.id from DiagnosisJob j where j.id = :id")
+	Optional<Integer> findUserIdById(@Param("id") int id);
+
+	// before 이전부터 해당 상태에 머물러 있는 작업 ((status, updated_date) 인덱스 범위 탐색)
+	@Query("select j.id from DiagnosisJob j where j.status = :status and j.updated_date < :before order by j.updated_date")
+	List<Integer> findIdsByStatusBefore(@Param("status") DiagnosisJobStatus status, @Param("before") LocalDateTime before,
+			Pageable pageable);
+
+	// 작업자가 멈춘(서버 재시작 등) 실행 중 작업 중 재시도 횟수를 다 쓴 작업은 실패 처리 (멈춘 것도 한 번의 시도로 셈)
+	@Transactional
+	@Modifying
+	@Query("update DiagnosisJob j set j.status = com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.FAILED, j.attempts = j.attempts + 1, "
+			+ "j.error = :error, j.updated_date = :now "
+			+ "where j.status = com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.RUNNING and j.updated_date < :before "
+			+ "and j.attempts + 1 >= :maxAttempts")
+	int failStale(@Param("before") LocalDateTime before, @Param("maxAttempts") int maxAttempts,
+			@Param("error") String error, @Param("now") LocalDateTime now);
+
+	// 나머지 멈춘 실행 중 작업은 시도 횟수를 올리고 대기열로 되돌림 (failStale 다음에 호출)
+	@Transactional
+	@Modifying
+	@Query("update DiagnosisJob j set j.status = com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.QUEUED, j.attempts = j.attempts + 1, "
+			+ "j.updated_date = :now "
+			+ "where j.status = com.drdoc.BackEnd.api.domain.DiagnosisJobStatus.RUNNING and j.updated_date < :before")
+	int requeueStale(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+}
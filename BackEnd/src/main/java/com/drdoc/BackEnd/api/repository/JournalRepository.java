@@ -1,20 +1,62 @@
 package com.drdoc.BackEnd.api.repository;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.dto.JournalReportRow;
+import com.drdoc.BackEnd.api.domain.dto.JournalRescoreTarget;
 
 
 @Repository
-public interface JournalRepository extends JpaRepository<Journal, Integer> {
+public interface JournalRepository extends JpaRepository<Journal, Integer>, JournalRepositoryCustom {
     Optional<Journal> findById(int id);
     List<Journal> findByUserId(int userId, Sort sort);
+    Page<Journal> findByUserId(int userId, Pageable pageable);
     void deleteByPetId(int petId);
+    List<Journal> findByPetId(int petId);
+
+    // 진료용 보고서 (작성순). MySQL 드라이버는 fetch size가 Integer.MIN_VALUE면 결과를 한 행씩 스트리밍하므로
+    // 트랜잭션 안에서 받아서 닫아야 하고, 다 읽기 전에는 같은 연결로 다른 쿼리를 실행할 수 없다.
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select j.id as id, j.part as part, j.symptom as symptom, j.result as result, j.modelVersion as modelVersion, "
+            + "j.picture as picture, j.created_date as createdDate from Journal j "
+            + "where j.user.id = :userId and j.petId = :petId order by j.created_date, j.id")
+    Stream<JournalReportRow> streamReport(@Param("userId") int userId, @Param("petId") int petId);
+
+    // 반려동물의 해당 부위 일지 중 가장 최근 일지 (요약의 최근 결과를 지운 뒤 다시 찾을 때 사용)
+    @Query("select j from Journal j where j.petId = :petId and j.part = :part order by j.created_date desc, j.id desc")
+    List<Journal> findLatest(@Param("petId") int petId, @Param("part") String part, Pageable pageable);
+
+    // afterId 다음부터 maxId까지 id 순으로, 다른 모델 버전(또는 버전 없음)으로 진단한 AI 진단 일지 (기본 키 범위 탐색)
+    @Query("select j.id as id, j.part as part, j.picture as picture from Journal j where j.id > :afterId and j.id <= :maxId "
+            + "and j.source = com.drdoc.BackEnd.api.domain.JournalSource.MODEL "
+            + "and (j.modelVersion is null or j.modelVersion <> :modelVersion) order by j.id")
+    List<JournalRescoreTarget> findRescoreTargets(@Param("afterId") int afterId, @Param("maxId") int maxId,
+            @Param("modelVersion") String modelVersion, Pageable pageable);
+
+    // 재진단에 실패했던 일지 중 아직 재진단 대상인 일지
+    @Query("select j.id as id, j.part as part, j.picture as picture from Journal j where j.id in :ids "
+            + "and j.source = com.drdoc.BackEnd.api.domain.JournalSource.MODEL "
+            + "and (j.modelVersion is null or j.modelVersion <> :modelVersion) order by j.id")
+    List<JournalRescoreTarget> findRescoreTargetsByIds(@Param("ids") Collection<Integer> ids,
+            @Param("modelVersion") String modelVersion);
+
+    @Query("select coalesce(max(j.id), 0) from Journal j")
+    int findMaxId();
     
-}
\ No newline at end of file
+}
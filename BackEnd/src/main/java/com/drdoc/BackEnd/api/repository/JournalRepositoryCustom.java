@@ -0,0 +1,12 @@
+package com.drdoc.BackEnd.api.repository;
+
+import org.springframework.data.domain.Slice;
+
+import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.dto.JournalSearchDto;
+import com.drdoc.BackEnd.api.util.CursorUtil.TimeCursor;
+
+public interface JournalRepositoryCustom {
+	// 조건 검색 (작성일, id 내림차순 / after가 있으면 offset 없이 커서 이후부터)
+	Slice<Journal> search(int userId, JournalSearchDto condition, TimeCursor after, int page, int size);
+}
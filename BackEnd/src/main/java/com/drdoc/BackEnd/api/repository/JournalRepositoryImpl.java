@@ -0,0 +1,71 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.dto.JournalSearchDto;
+import com.drdoc.BackEnd.api.util.CursorUtil.TimeCursor;
+
+// 들어온 조건만 where 절에 넣어서 (userId, pet_id, created_date, id) 또는 (userId, created_date, id) 인덱스 범위 탐색이 되도록 함
+public class JournalRepositoryImpl implements JournalRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Slice<Journal> search(int userId, JournalSearchDto condition, TimeCursor after, int page, int size) {
+		StringBuilder jpql = new StringBuilder("select j from Journal j where j.user.id = :userId");
+		Map<String, Object> params = new HashMap<>();
+		params.put("userId", userId);
+		if (condition.getPet_id() != null) {
+			jpql.append(" and j.petId = :petId");
+			params.put("petId", condition.getPet_id());
+		}
+		if (condition.getPart() != null) {
+			jpql.append(" and j.part = :part");
+			params.put("part", condition.getPart());
+		}
+		if (condition.getResult() != null) {
+			jpql.append(" and j.result = :result");
+			params.put("result", condition.getResult());
+		}
+		if (condition.getFrom() != null) {
+			jpql.append(" and j.created_date >= :from");
+			params.put("from", condition.getFrom().atStartOfDay());
+		}
+		if (condition.getTo() != null) {
+			jpql.append(" and j.created_date < :to");
+			params.put("to", condition.getTo().plusDays(1).atStartOfDay());
+		}
+		if (after != null) {
+			jpql.append(" and (j.created_date < :afterTime or (j.created_date = :afterTime and j.id < :afterId))");
+			params.put("afterTime", after.getTime());
+			params.put("afterId", after.getId());
+		}
+		jpql.append(" order by j.created_date desc, j.id desc");
+
+		TypedQuery<Journal> query = entityManager.createQuery(jpql.toString(), Journal.class);
+		params.forEach(query::setParameter);
+		// 다음 페이지 여부는 count 쿼리 대신 1개 더 읽어서 판단
+		query.setFirstResult(after == null ? page * size : 0);
+		query.setMaxResults(size + 1);
+		List<Journal> journals = query.getResultList();
+		boolean hasNext = journals.size() > size;
+		if (hasNext) {
+			journals = journals.subList(0, size);
+		}
+		return new SliceImpl<>(journals, PageRequest.of(after == null ? page : 0, size,
+				Sort.by(Sort.Order.desc("created_date"), Sort.Order.desc("id"))), hasNext);
+	}
+}
@@ -0,0 +1,47 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.JournalTimeline;
+import com.drdoc.BackEnd.api.domain.JournalTimelineId;
+import com.drdoc.BackEnd.api.domain.JournalTimelineKind;
+
+@Repository
+public interface JournalTimelineRepository extends JpaRepository<JournalTimeline, JournalTimelineId> {
+	// 반려동물의 요약 행 잠금 (idx_journal_timeline_pet 범위만 잠금)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select t from JournalTimeline t where t.petId in :petIds")
+	List<JournalTimeline> findAllForUpdate(@Param("petIds") Collection<Integer> petIds);
+
+	// 행이 없으면 빈 요약으로 만들고 있으면 그 행을 잠금 (첫 일지를 동시에 집계해도 중복 키 오류가 나지 않도록)
+	@Modifying
+	@Query(value = "insert into journal_timeline (pet_id, kind, label, month_key, count) "
+			+ "values (:petId, :kind, :label, :monthKey, 0) on duplicate key update pet_id = pet_id", nativeQuery = true)
+	int insertIfAbsent(@Param("petId") int petId, @Param("kind") String kind, @Param("label") String label,
+			@Param("monthKey") int monthKey);
+
+	// 요약 행 하나 잠금 (insertIfAbsent로 이미 잠근 행을 최신 값으로 다시 읽음)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select t from JournalTimeline t where t.petId = :petId and t.kind = :kind and t.label = :label "
+			+ "and t.monthKey = :monthKey")
+	Optional<JournalTimeline> findForUpdate(@Param("petId") int petId, @Param("kind") JournalTimelineKind kind,
+			@Param("label") String label, @Param("monthKey") int monthKey);
+
+	// 반려동물의 요약 전체 (idx_journal_timeline_pet 범위 탐색)
+	List<JournalTimeline> findByPetId(int petId);
+
+	@Modifying
+	@Query("delete from JournalTimeline t where t.petId = :petId")
+	void deleteByPetId(@Param("petId") int petId);
+}
@@ -0,0 +1,38 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.VideoUpload;
+import com.drdoc.BackEnd.api.domain.VideoUploadStatus;
+
+@Repository
+public interface VideoUploadRepository extends JpaRepository<VideoUpload, String> {
+	// 청크 저장 확정 (같은 청크를 동시에 보내도 한 번만 반영, 바뀐 행이 0이면 다른 요청이 먼저 반영)
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update VideoUpload u set u.receivedBytes = :to, u.updated_date = :now where u.id = :id and u.receivedBytes = :from "
+			+ "and u.status = com.drdoc.BackEnd.api.domain.VideoUploadStatus.UPLOADING")
+	int advance(@Param("id") String id, @Param("from") long from, @Param("to") long to, @Param("now") LocalDateTime now);
+
+	// 상태를 조건부로 바꿔서 완료 처리 선점 (바뀐 행이 1이면 선점 성공)
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update VideoUpload u set u.status = :to, u.updated_date = :now where u.id = :id and u.status = :from")
+	int changeStatus(@Param("id") String id, @Param("from") VideoUploadStatus from, @Param("to") VideoUploadStatus to,
+			@Param("now") LocalDateTime now);
+
+	// before 이후로 청크가 들어오지 않은 업로드 ((status, updated_date) 인덱스 범위 탐색)
+	@Query("select u.id from VideoUpload u where u.status = :status and u.updated_date < :before order by u.updated_date")
+	List<String> findIdsByStatusBefore(@Param("status") VideoUploadStatus status, @Param("before") LocalDateTime before,
+			Pageable pageable);
+}
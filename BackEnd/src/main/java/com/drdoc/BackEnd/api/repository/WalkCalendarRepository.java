@@ -0,0 +1,38 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.WalkCalendar;
+import com.drdoc.BackEnd.api.domain.WalkCalendarId;
+
+@Repository
+public interface WalkCalendarRepository extends JpaRepository<WalkCalendar, WalkCalendarId> {
+	// 갱신할 달 행 잠금 (idx_walk_calendar_pet에서 해당 행만 잠금)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from WalkCalendar c where c.petId in :petIds and c.monthKey in :monthKeys")
+	List<WalkCalendar> findAllForUpdate(@Param("petIds") Collection<Integer> petIds,
+			@Param("monthKeys") Collection<Integer> monthKeys);
+
+	// 행이 없으면 빈 달로 만들고 있으면 그 행을 잠금 (첫 산책을 동시에 집계해도 중복 키 오류가 나지 않도록)
+	@Modifying
+	@Query(value = "insert into walk_calendar (pet_id, month_key, days) values (:petId, :monthKey, 0) "
+			+ "on duplicate key update pet_id = pet_id", nativeQuery = true)
+	int insertIfAbsent(@Param("petId") int petId, @Param("monthKey") int monthKey);
+
+	// 연속 산책 계산용 (산책한 달마다 한 행씩 전체 기간, idx_walk_calendar_pet 범위 탐색)
+	List<WalkCalendar> findByPetIdOrderByMonthKey(int petId);
+
+	@Modifying
+	@Query("delete from WalkCalendar c where c.petId = :petId")
+	void deleteByPetId(@Param("petId") int petId);
+}
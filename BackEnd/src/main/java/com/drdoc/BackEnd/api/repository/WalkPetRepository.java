@@ -1,9 +1,14 @@
 package com.drdoc.BackEnd.api.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.drdoc.BackEnd.api.domain.Pet;
@@ -16,4 +21,27 @@ public interface WalkPetRepository extends JpaRepository<WalkPet, Integer> {
 	Optional<List<WalkPet>> findByWalk(Walk walk);
 	Optional<List<WalkPet>> findByPet(Pet pet);
 	Optional<WalkPet> findFirstByPetOrderByIdDesc(Pet pet);
+
+	// 여러 산책의 반려동물 정보를 한 번의 쿼리로 조회 (반려동물, 품종, 보호자까지 fetch join)
+	@Query("select wp from WalkPet wp join fetch wp.walk w join fetch wp.pet p left join fetch p.kind left join fetch p.user "
+			+ "where w.id in :walkIds order by wp.id")
+	List<WalkPet> findAllWithPetByWalkIdIn(@Param("walkIds") Collection<Integer> walkIds);
+
+	// 산책에서 빠진 반려동물 연결을 한 번에 삭제
+	@Modifying(flushAutomatically = true)
+	@Query("delete from WalkPet wp where wp.walk = :walk and wp.pet.id in :petIds")
+	int deleteByWalkAndPetIdIn(@Param("walk") Walk walk, @Param("petIds") Collection<Integer> petIds);
+
+	@Query("select wp.pet.id from WalkPet wp where wp.walk.id = :walkId")
+	List<Integer> findPetIdsByWalkId(@Param("walkId") int walkId);
+
+	@Query("select w from WalkPet wp join wp.walk w where wp.pet.id = :petId")
+	List<Walk> findWalksByPetId(@Param("petId") int petId);
+
+	// 반려동물별 마지막 산책 종료 시간 [petId, max(end_time)]
+	@Query("select wp.pet.id, max(w.end_time) from WalkPet wp join wp.walk w group by wp.pet.id")
+	List<Object[]> findLastEndTimeGroupByPet();
+
+	@Query("select max(w.end_time) from WalkPet wp join wp.walk w where wp.pet.id = :petId")
+	Optional<LocalDateTime> findLastEndTimeByPetId(@Param("petId") int petId);
 }
@@ -1,11 +1,18 @@
 package com.drdoc.BackEnd.api.repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.drdoc.BackEnd.api.domain.User;
@@ -16,5 +23,14 @@ import com.drdoc.BackEnd.api.domain.Walk;
 public interface WalkRepository extends JpaRepository<Walk, Integer> {
     Optional<Walk> findById(int id);
 	List<Walk> findByUser(User user, Sort sort);
+	Page<Walk> findByUser(User user, Pageable pageable);
+	// 커서(마지막으로 받은 id) 이후 목록 조회 - (userId, id) 인덱스 범위 스캔
+	Slice<Walk> findByUserAndIdLessThan(User user, int id, Pageable pageable);
+	// 내보내기용 id 오름차순 keyset 조회
+	Slice<Walk> findByUserAndIdGreaterThan(User user, int id, Pageable pageable);
+	List<Walk> findByUserAndClientIdIn(User user, Collection<String> clientIds);
+	// client_id 없이 가져온 산책의 중복 확인용 (시작 시간이 같은 산책)
+	@Query("select w from Walk w where w.user = :user and w.start_time in :startTimes")
+	List<Walk> findByUserAndStartTimeIn(@Param("user") User user, @Param("startTimes") Collection<LocalDateTime> startTimes);
     
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.WalkRollup;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.WalkRollupId;
+
+@Repository
+public interface WalkRollupRepository extends JpaRepository<WalkRollup, WalkRollupId> {
+	// 갱신할 구간 행 잠금 (반려동물 x 단위 x 구간 시작일 조합으로 넓게 잡고 필요한 행만 사용)
+	// 세 컬럼 모두 조건을 걸어야 idx_walk_rollup_pet에서 해당 행만 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from WalkRollup r where r.petId in :petIds and r.granularity in :granularities "
+			+ "and r.bucketStart in :bucketStarts")
+	List<WalkRollup> findAllForUpdate(@Param("petIds") Collection<Integer> petIds,
+			@Param("granularities") Collection<WalkRollupGranularity> granularities,
+			@Param("bucketStarts") Collection<LocalDate> bucketStarts);
+
+	// 행이 없으면 0으로 만들고 있으면 그 행을 잠금 (첫 산책을 동시에 집계해도 중복 키 오류가 나지 않도록)
+	@Modifying
+	@Query(value = "insert into walk_rollup (pet_id, granularity, bucket_start, total_seconds, total_distance, walk_count) "
+			+ "values (:petId, :granularity, :bucketStart, 0, 0, 0) on duplicate key update pet_id = pet_id", nativeQuery = true)
+	int insertIfAbsent(@Param("petId") int petId, @Param("granularity") String granularity,
+			@Param("bucketStart") LocalDate bucketStart);
+
+	// 기간 조회 (idx_walk_rollup_pet 범위 탐색)
+	List<WalkRollup> findByPetIdAndGranularityAndBucketStartBetweenOrderByBucketStart(int petId,
+			WalkRollupGranularity granularity, LocalDate from, LocalDate to);
+
+	// 한 단위의 전체 기간 (보고서용, idx_walk_rollup_pet 범위 탐색)
+	List<WalkRollup> findByPetIdAndGranularityOrderByBucketStart(int petId, WalkRollupGranularity granularity);
+
+	List<WalkRollup> findByPetIdInAndGranularityAndBucketStartIn(Collection<Integer> petIds,
+			WalkRollupGranularity granularity, Collection<LocalDate> bucketStarts);
+
+	// 순위표 초기화용 (한 구간의 전체 반려동물 집계)
+	List<WalkRollup> findByGranularityAndBucketStart(WalkRollupGranularity granularity, LocalDate bucketStart);
+
+	@Modifying
+	@Query("delete from WalkRollup r where r.petId = :petId")
+	void deleteByPetId(@Param("petId") int petId);
+}
@@ -0,0 +1,31 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.WalkTotal;
+
+@Repository
+public interface WalkTotalRepository extends JpaRepository<WalkTotal, Integer> {
+	// 동시에 같은 반려동물의 산책이 등록되어도 집계가 어긋나지 않도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select t from WalkTotal t where t.petId in :petIds")
+	List<WalkTotal> findAllForUpdate(@Param("petIds") Collection<Integer> petIds);
+
+	// 행이 없으면 0으로 만들고 있으면 그 행을 잠금 (첫 산책을 동시에 집계해도 중복 키 오류가 나지 않도록)
+	@Modifying
+	@Query(value = "insert into walk_total (pet_id, total_seconds, total_distance, walk_count) values (:petId, 0, 0, 0) "
+			+ "on duplicate key update pet_id = pet_id", nativeQuery = true)
+	int insertIfAbsent(@Param("petId") int petId);
+
+	void deleteByPetId(int petId);
+}
@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.drdoc.BackEnd.api.domain.WalkTrack;
+
+@Repository
+public interface WalkTrackRepository extends JpaRepository<WalkTrack, Integer> {
+	// 인덱스 재구성용 산책 id 순 조회
+	Slice<WalkTrack> findByWalkIdGreaterThan(int walkId, Pageable pageable);
+	// 인덱스 이어서 반영용 (저장 시각, 산책 id) keyset 조회
+	@Query("select t from WalkTrack t where t.created_date > :time or (t.created_date = :time and t.walkId > :walkId) "
+			+ "order by t.created_date, t.walkId")
+	Slice<WalkTrack> findCreatedAfter(@Param("time") LocalDateTime time, @Param("walkId") int walkId, Pageable pageable);
+}
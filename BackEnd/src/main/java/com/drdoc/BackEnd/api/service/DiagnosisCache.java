@@ -0,0 +1,117 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.drdoc.BackEnd.api.util.BkTree;
+
+/**
+ * 반려동물별 최근 진단 결과 캐시 (사진 dHash -> 진단 결과, 원본 사진 key, 진단한 모델 버전).
+ * 같은 반려동물, 같은 부위에서 Hamming 거리가 max-distance 이내인 사진은 같은 사진으로 보고 모델을 다시 부르지 않는다.
+ * 모델이 바뀐 뒤에는 예전 모델의 결과를 재사용하지 않는다 (재사용한 일지가 현재 버전으로 기록되어 재진단에서 빠지지 않도록).
+ * 반려동물당 최근 max-per-pet개만 BK-tree로 들고 있고, 반려동물 수가 max-pets를 넘으면 가장 오래 쓰지 않은 반려동물부터 제거(LRU).
+ */
+@Component
+public class DiagnosisCache {
+
+	private final int maxDistance;
+	private final int maxPerPet;
+	private final long ttlMillis;
+	private final Map<Integer, PetEntries> pets;
+
+	public DiagnosisCache(@Value("${ai.diagnosis.cache.max-distance:6}") int maxDistance,
+			@Value("${ai.diagnosis.cache.max-per-pet:32}") int maxPerPet,
+			@Value("${ai.diagnosis.cache.ttl-hours:168}") long ttlHours,
+			@Value("${ai.diagnosis.cache.max-pets:10000}") int maxPets) {
+		this.maxDistance = maxDistance;
+		this.maxPerPet = maxPerPet;
+		this.ttlMillis = ttlHours * 60 * 60 * 1000;
+		this.pets = new LinkedHashMap<Integer, PetEntries>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, PetEntries> eldest) {
+				return size() > maxPets;
+			}
+		};
+	}
+
+	// 현재 모델로 진단한 가장 비슷한 최근 진단 (없으면 null)
+	public Entry find(int petId, String part, long hash, String modelVersion) {
+		long now = System.currentTimeMillis();
+		synchronized (pets) {
+			PetEntries entries = pets.get(petId);
+			if (entries == null) {
+				return null;
+			}
+			return entries.tree.nearest(hash, maxDistance,
+					entry -> entry.part.equals(part) && entry.modelVersion.equals(modelVersion)
+							&& now - entry.createdAt < ttlMillis);
+		}
+	}
+
+	public void put(int petId, String part, long hash, String result, String picture, String modelVersion) {
+		Entry entry = new Entry(part, hash, result, picture, modelVersion, System.currentTimeMillis());
+		synchronized (pets) {
+			PetEntries entries = pets.computeIfAbsent(petId, id -> new PetEntries());
+			entries.recent.addLast(entry);
+			if (entries.recent.size() <= maxPerPet) {
+				entries.tree.add(hash, entry);
+				return;
+			}
+			// BK-tree는 삭제가 없으므로 가장 오래된 항목을 빼고 다시 만듦
+			entries.recent.removeFirst();
+			entries.tree = new BkTree<>();
+			for (Entry recent : entries.recent) {
+				entries.tree.add(recent.hash, recent);
+			}
+		}
+	}
+
+	// 삭제된 반려동물 제거
+	public void evict(int petId) {
+		synchronized (pets) {
+			pets.remove(petId);
+		}
+	}
+
+	private static final class PetEntries {
+		private final Deque<Entry> recent = new ArrayDeque<>();
+		private BkTree<Entry> tree = new BkTree<>();
+	}
+
+	public static class Entry {
+		private final String part;
+		private final long hash;
+		private final String result;
+		private final String picture;
+		private final String modelVersion;
+		private final long createdAt;
+
+		public Entry(String part, long hash, String result, String picture, String modelVersion, long createdAt) {
+			this.part = part;
+			this.hash = hash;
+			this.result = result;
+			this.picture = picture;
+			this.modelVersion = modelVersion;
+			this.createdAt = createdAt;
+		}
+
+		public String getResult() {
+			return result;
+		}
+
+		public String getPicture() {
+			return picture;
+		}
+
+		public String getModelVersion() {
+			return modelVersion;
+		}
+	}
+}
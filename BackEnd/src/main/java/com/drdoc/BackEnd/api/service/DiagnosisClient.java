@@ -0,0 +1,10 @@
+package com.drdoc.BackEnd.api.service;
+
+// AI 추론 서버 호출 (진단 부위, 모델 입력 크기로 줄인 JPEG -> 진단 결과)
+public interface DiagnosisClient {
+
+	String diagnose(String part, byte[] image);
+
+	// 지금 호출하는 진단 모델 버전 (일지에 결과와 함께 기록)
+	String modelVersion();
+}
@@ -0,0 +1,58 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobDto;
+
+// 진단 작업 상태 구독자(SSE) 목록, 작업이 끝나면 결과를 보내고 연결을 닫음
+@Component
+public class DiagnosisJobNotifier {
+
+	private static final long TIMEOUT_MS = 60000;
+
+	private final Map<Integer, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public SseEmitter subscribe(int jobId) {
+		SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+		List<SseEmitter> list = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+		list.add(emitter);
+		Runnable remove = () -> emitters.computeIfPresent(jobId, (id, current) -> {
+			current.remove(emitter);
+			return current.isEmpty() ? null : current;
+		});
+		emitter.onCompletion(remove);
+		emitter.onTimeout(remove);
+		emitter.onError(e -> remove.run());
+		return emitter;
+	}
+
+	// 상태 변경 알림 (작업이 끝났으면 구독 종료)
+	public void notify(DiagnosisJobDto job, boolean finished) {
+		List<SseEmitter> list = finished ? emitters.remove(job.getJob_id()) : emitters.get(job.getJob_id());
+		if (list == null) {
+			return;
+		}
+		for (SseEmitter emitter : list) {
+			send(emitter, job, finished);
+		}
+	}
+
+	public void send(SseEmitter emitter, DiagnosisJobDto job, boolean finished) {
+		try {
+			emitter.send(SseEmitter.event().name("status").data(job));
+			if (finished) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 이미 끊긴 연결
+			emitter.completeWithError(e);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobRequestDto;
+
+public interface DiagnosisJobService {
+
+	// 진단 작업 등록 (바로 작업 id 반환, 진단은 작업자 스레드에서 처리 / 최근 비슷한 사진이 있으면 바로 완료)
+	DiagnosisJobDto submit(DiagnosisJobRequestDto request, MultipartFile file) throws IOException;
+
+	// 진단 작업 상태 조회
+	DiagnosisJobDto status(int jobId);
+
+	// 진단 작업 상태 구독 (끝나면 결과를 보내고 종료)
+	SseEmitter subscribe(int jobId);
+}
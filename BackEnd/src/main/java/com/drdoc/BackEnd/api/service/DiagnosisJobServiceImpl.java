@@ -0,0 +1,121 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.drdoc.BackEnd.api.domain.DiagnosisJob;
+import com.drdoc.BackEnd.api.domain.DiagnosisJobInput;
+import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
+import com.drdoc.BackEnd.api.repository.DiagnosisJobInputRepository;
+import com.drdoc.BackEnd.api.repository.DiagnosisJobRepository;
+import com.drdoc.BackEnd.api.repository.JournalRepository;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.util.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DiagnosisJobServiceImpl implements DiagnosisJobService {
+	private final DiagnosisJobRepository diagnosisJobRepository;
+	private final DiagnosisJobInputRepository diagnosisJobInputRepository;
+	private final UserRepository userRepository;
+	private final PetRepository petRepository;
+	private final DiagnosisJobWorker diagnosisJobWorker;
+	private final DiagnosisJobNotifier diagnosisJobNotifier;
+	private final DiagnosisCache diagnosisCache;
+	private final ImagePreprocessor imagePreprocessor;
+	private final S3Service s3Service;
+	private final JournalRepository journalRepository;
+	private final DiagnosisClient diagnosisClient;
+	private final JournalTimelineService journalTimelineService;
+	private final TransactionTemplate transactionTemplate;
+
+	// 사진 전처리, 캐시 확인, S3 업로드는 트랜잭션(DB 연결) 밖에서 하고 작업/일지 저장만 짧은 트랜잭션으로 커밋
+	@Override
+	public DiagnosisJobDto submit(DiagnosisJobRequestDto request, MultipartFile file) throws IOException {
+		User user = getCurrentUser();
+		Pet pet = petRepository.findById(request.getPet_id())
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
+		if (pet.getUser().getId() != user.getId()) {
+			throw new IllegalArgumentException("반려동물에 접근 권한이 없습니다.");
+		}
+		// 모델에는 줄인 사진만 보냄 (읽을 수 없는 이미지는 업로드 전에 거절)
+		ImagePreprocessor.Result image = imagePreprocessor.preprocess(file.getInputStream());
+
+		// 최근 거의 같은 사진이면 업로드, 추론 없이 그 결과로 바로 일지 작성
+		DiagnosisCache.Entry cached = diagnosisCache.find(pet.getId(), request.getPart(), image.getHash(),
+				diagnosisClient.modelVersion());
+		if (cached != null) {
+			return transactionTemplate.execute(status -> {
+				DiagnosisJob job = new DiagnosisJob(request, cached.getPicture(), image.getHash(), user);
+				Journal journal = journalRepository.save(new Journal(job.toJournalRequest(cached.getResult()), user,
+						cached.getModelVersion()));
+				journalTimelineService.add(Collections.singletonList(new JournalDetailDto(journal)));
+				job.completeFromCache(cached.getResult(), journal.getId());
+				return new DiagnosisJobDto(diagnosisJobRepository.save(job));
+			});
+		}
+
+		String picture = s3Service.upload(null, file);
+		try {
+			return transactionTemplate.execute(status -> {
+				DiagnosisJob job = diagnosisJobRepository.save(new DiagnosisJob(request, picture, image.getHash(), user));
+				diagnosisJobInputRepository.save(new DiagnosisJobInput(job, image.getJpeg()));
+				diagnosisJobWorker.dispatchAfterCommit(job.getId());
+				return new DiagnosisJobDto(job);
+			});
+		} catch (RuntimeException e) {
+			// 작업을 저장하지 못했으면 올린 사진은 쓰이지 않으므로 삭제
+			s3Service.delete(picture);
+			throw e;
+		}
+	}
+
+	@Override
+	public DiagnosisJobDto status(int jobId) {
+		return new DiagnosisJobDto(findMyJob(jobId));
+	}
+
+	@Override
+	public SseEmitter subscribe(int jobId) {
+		// 권한 확인은 작성자 id만 읽음 (여기서 작업을 읽으면 아래 조회가 요청 동안 유지되는 1차 캐시의 예전 상태를 돌려줌)
+		int userId = diagnosisJobRepository.findUserIdById(jobId)
+				.orElseThrow(() -> new IllegalArgumentException("진단 작업을 찾을 수 없습니다."));
+		if (userId != getCurrentUser().getId()) {
+			throw new IllegalArgumentException("진단 작업에 접근 권한이 없습니다.");
+		}
+		SseEmitter emitter = diagnosisJobNotifier.subscribe(jobId);
+		// 구독 등록 전에 끝났을 수 있으므로 등록 후 DB에서 처음 읽은 현재 상태를 한 번 보냄
+		DiagnosisJob job = diagnosisJobRepository.findById(jobId)
+				.orElseThrow(() -> new IllegalArgumentException("진단 작업을 찾을 수 없습니다."));
+		diagnosisJobNotifier.send(emitter, new DiagnosisJobDto(job), job.getStatus().isFinished());
+		return emitter;
+	}
+
+	private DiagnosisJob findMyJob(int jobId) {
+		DiagnosisJob job = diagnosisJobRepository.findById(jobId)
+				.orElseThrow(() -> new IllegalArgumentException("진단 작업을 찾을 수 없습니다."));
+		if (job.getUser().getId() != getCurrentUser().getId()) {
+			throw new IllegalArgumentException("진단 작업에 접근 권한이 없습니다.");
+		}
+		return job;
+	}
+
+	private User getCurrentUser() {
+		String memberId = SecurityUtil.getCurrentUsername();
+		return userRepository.findByMemberId(memberId)
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+	}
+}
@@ -0,0 +1,222 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.drdoc.BackEnd.api.domain.DiagnosisJob;
+import com.drdoc.BackEnd.api.domain.DiagnosisJobInput;
+import com.drdoc.BackEnd.api.domain.DiagnosisJobStatus;
+import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisJobDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
+import com.drdoc.BackEnd.api.repository.DiagnosisJobInputRepository;
+import com.drdoc.BackEnd.api.repository.DiagnosisJobRepository;
+import com.drdoc.BackEnd.api.repository.JournalRepository;
+
+/**
+ * 진단 작업을 크기가 정해진 스레드 풀에서 처리한다.
+ * AI 서버 호출 중에는 트랜잭션(DB 연결)을 잡지 않고, 결과가 오면 짧은 트랜잭션으로 일지 작성과 작업 완료를 함께 커밋한다.
+ * 풀 대기열이 꽉 차서 못 넣은 작업, 실패 후 재시도할 작업, 서버 재시작으로 멈춘 작업은 주기적으로 DB에서 다시 가져온다.
+ */
+@Component
+public class DiagnosisJobWorker {
+
+	private static final Logger logger = LoggerFactory.getLogger(DiagnosisJobWorker.class);
+
+	// 작업당 최대 시도 횟수
+	private static final int MAX_ATTEMPTS = 3;
+	// 이 시간 이상 대기 중인 작업만 다시 가져옴 (풀 대기열에 이미 들어간 작업 중복 방지)
+	private static final long REQUEUE_AFTER_SECONDS = 30;
+	// 이 시간 이상 실행 중으로 남아 있으면 멈춘 작업으로 봄
+	private static final long STALE_RUNNING_MINUTES = 5;
+	private static final String STALE_ERROR = "진단 작업이 제한 시간 안에 끝나지 않았습니다.";
+
+	private final DiagnosisJobRepository diagnosisJobRepository;
+	private final DiagnosisJobInputRepository diagnosisJobInputRepository;
+	private final JournalRepository journalRepository;
+	private final DiagnosisClient diagnosisClient;
+	private final DiagnosisJobNotifier diagnosisJobNotifier;
+	private final DiagnosisCache diagnosisCache;
+	private final JournalTimelineService journalTimelineService;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor executor;
+
+	public DiagnosisJobWorker(DiagnosisJobRepository diagnosisJobRepository,
+			DiagnosisJobInputRepository diagnosisJobInputRepository, JournalRepository journalRepository,
+			DiagnosisClient diagnosisClient, DiagnosisJobNotifier diagnosisJobNotifier, DiagnosisCache diagnosisCache,
+			JournalTimelineService journalTimelineService, TransactionTemplate transactionTemplate, @Value("${ai.diagnosis.workers:16}") int workers,
+			@Value("${ai.diagnosis.queue-size:100}") int queueSize) {
+		this.diagnosisJobRepository = diagnosisJobRepository;
+		this.diagnosisJobInputRepository = diagnosisJobInputRepository;
+		this.journalRepository = journalRepository;
+		this.diagnosisClient = diagnosisClient;
+		this.diagnosisJobNotifier = diagnosisJobNotifier;
+		this.diagnosisCache = diagnosisCache;
+		this.journalTimelineService = journalTimelineService;
+		this.transactionTemplate = transactionTemplate;
+		AtomicInteger count = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize), runnable -> {
+					Thread thread = new Thread(runnable, "diagnosis-worker-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	// 작업 등록 트랜잭션이 커밋된 뒤 풀에 넣음
+	public void dispatchAfterCommit(int jobId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			dispatch(jobId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				dispatch(jobId);
+			}
+		});
+	}
+
+	// 풀이 꽉 찼으면 QUEUED로 남겨두고 다음 회수 때 처리
+	private boolean dispatch(int jobId) {
+		try {
+			executor.execute(() -> process(jobId));
+			return true;
+		} catch (RejectedExecutionException e) {
+			logger.warn("진단 작업 대기열이 가득 차서 나중에 처리: {}", jobId);
+			return false;
+		}
+	}
+
+	// 재시도할 작업, 멈춘 작업, 대기열에 못 넣은 작업을 주기적으로 회수
+	@Scheduled(fixedDelayString = "${ai.diagnosis.sweep-interval-ms:10000}")
+	public void sweep() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime staleBefore = now.minusMinutes(STALE_RUNNING_MINUTES);
+		int failed = diagnosisJobRepository.failStale(staleBefore, MAX_ATTEMPTS, STALE_ERROR, now);
+		if (failed > 0) {
+			logger.warn("멈춘 진단 작업 {}건을 실패 처리 (재시도 횟수 초과)", failed);
+		}
+		int requeued = diagnosisJobRepository.requeueStale(staleBefore, now);
+		if (requeued > 0) {
+			logger.warn("멈춘 진단 작업 {}건을 대기열로 되돌림", requeued);
+		}
+		// 실패 처리한 멈춘 작업 등 끝났는데 남아 있는 사진 정리
+		diagnosisJobInputRepository.deleteFinished();
+		int capacity = executor.getQueue().remainingCapacity();
+		if (capacity == 0) {
+			return;
+		}
+		List<Integer> jobIds = diagnosisJobRepository.findIdsByStatusBefore(DiagnosisJobStatus.QUEUED,
+				now.minusSeconds(REQUEUE_AFTER_SECONDS), PageRequest.of(0, capacity));
+		for (int jobId : jobIds) {
+			if (!dispatch(jobId)) {
+				break;
+			}
+		}
+	}
+
+	private void process(int jobId) {
+		// 다른 작업자가 먼저 가져갔으면 건너뜀
+		if (diagnosisJobRepository.changeStatus(jobId, DiagnosisJobStatus.QUEUED, DiagnosisJobStatus.RUNNING,
+				LocalDateTime.now()) == 0) {
+			return;
+		}
+		DiagnosisJob job = diagnosisJobRepository.findById(jobId).orElse(null);
+		DiagnosisJobInput input = diagnosisJobInputRepository.findById(jobId).orElse(null);
+		if (job == null) {
+			return;
+		}
+		if (input == null) {
+			finish(jobId, null, "진단할 사진이 없습니다.");
+			return;
+		}
+		String result;
+		try {
+			result = diagnosisClient.diagnose(job.getPart(), input.getModelInput());
+		} catch (RuntimeException e) {
+			logger.warn("진단 실패: {} ({})", jobId, e.getMessage());
+			finish(jobId, null, e.getMessage());
+			return;
+		}
+		finish(jobId, result, null);
+	}
+
+	// 결과가 있으면 일지 작성 + 완료, 없으면 실패 처리 (한 트랜잭션)
+	private void finish(int jobId, String result, String error) {
+		DiagnosisJobDto dto = transactionTemplate.execute(status -> {
+			// 멈춘 작업으로 회수된 뒤 다른 작업자도 같은 작업을 처리했을 수 있으므로
+			// 일지를 쓰기 전에 RUNNING에서 조건부로 상태를 바꾼 작업자만 마무리 (행 잠금으로 동시 완료도 한 쪽만 성공)
+			DiagnosisJobStatus next = result == null ? DiagnosisJobStatus.QUEUED : DiagnosisJobStatus.DONE;
+			if (diagnosisJobRepository.changeStatus(jobId, DiagnosisJobStatus.RUNNING, next, LocalDateTime.now()) == 0) {
+				return null;
+			}
+			DiagnosisJob job = diagnosisJobRepository.findById(jobId).orElse(null);
+			if (job == null) {
+				return null;
+			}
+			if (result == null) {
+				job.fail(error, MAX_ATTEMPTS);
+			} else {
+				String modelVersion = diagnosisClient.modelVersion();
+				Journal journal = journalRepository.save(new Journal(job.toJournalRequest(result), job.getUser(),
+						modelVersion));
+				journalTimelineService.add(Collections.singletonList(new JournalDetailDto(journal)));
+				job.complete(result, journal.getId());
+				cacheAfterCommit(job, result, modelVersion);
+			}
+			// 끝난 작업의 사진은 더 쓰지 않으므로 바로 삭제
+			if (job.getStatus().isFinished()) {
+				diagnosisJobInputRepository.deleteByJobId(jobId);
+			}
+			return new DiagnosisJobDto(job);
+		});
+		if (dto != null) {
+			diagnosisJobNotifier.notify(dto, DiagnosisJobStatus.valueOf(dto.getStatus()).isFinished());
+		}
+	}
+
+	// 같은 사진 재요청 때 바로 쓸 수 있도록 커밋 후 캐시에 넣음
+	private void cacheAfterCommit(DiagnosisJob job, String result, String modelVersion) {
+		int petId = job.getPetId();
+		String part = job.getPart();
+		long hash = job.getImageHash();
+		String picture = job.getPicture();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				diagnosisCache.put(petId, part, hash, result, picture, modelVersion);
+			}
+		});
+	}
+
+	// 실시간 진단 대기 작업 수 (일괄 재진단이 실시간 요청을 밀어내지 않도록 확인)
+	public int queueDepth() {
+		return executor.getQueue().size();
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		// 처리 중이던 작업은 다음 실행 때 멈춘 작업으로 회수됨
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+}
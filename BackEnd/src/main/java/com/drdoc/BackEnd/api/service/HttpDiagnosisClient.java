@@ -0,0 +1,116 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisBatchResultDto;
+import com.drdoc.BackEnd.api.domain.dto.DiagnosisResultDto;
+import com.drdoc.BackEnd.api.util.MicroBatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 서버 호출. 사진은 모델 입력 크기로 줄인 JPEG를 base64로 본문에 실어 보낸다.
+ * 배치로 돌리는 부위(기본: 안구 질환 모델)는 동시에 들어온 요청을 모아
+ * POST {url}/{part}/batch 한 번으로 보내고, 나머지 부위는 POST {url}/{part} 로 한 장씩 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "ai.diagnosis.stub", havingValue = "false", matchIfMissing = true)
+public class HttpDiagnosisClient implements DiagnosisClient {
+
+	private final RestTemplate restTemplate;
+	private final String url;
+	private final long timeoutMs;
+	private final String modelVersion;
+	// 부위 -> 배치 호출기
+	private final Map<String, MicroBatcher<byte[], String>> batchers = new HashMap<>();
+
+	public HttpDiagnosisClient(RestTemplateBuilder builder, MeterRegistry meterRegistry,
+			@Value("${ai.diagnosis.url:http://localhost:8000}") String url,
+			@Value("${ai.diagnosis.timeout-ms:30000}") long timeoutMs,
+			@Value("${ai.diagnosis.model-version:v1}") String modelVersion,
+			@Value("${ai.diagnosis.batch.parts:eye}") String batchParts,
+			@Value("${ai.diagnosis.batch.max-size:16}") int maxBatchSize,
+			@Value("${ai.diagnosis.batch.window-ms:20}") long windowMs,
+			@Value("${ai.diagnosis.batch.queue-size:1000}") int queueSize,
+			@Value("${ai.diagnosis.batch.concurrency:2}") int concurrency) {
+		this.restTemplate = builder.setConnectTimeout(Duration.ofSeconds(3))
+				.setReadTimeout(Duration.ofMillis(timeoutMs)).build();
+		this.url = url;
+		this.timeoutMs = timeoutMs;
+		this.modelVersion = modelVersion;
+		for (String part : Arrays.asList(batchParts.split(","))) {
+			String trimmed = part.trim();
+			if (!trimmed.isEmpty()) {
+				batchers.put(trimmed, new MicroBatcher<>("diagnosis-" + trimmed, maxBatchSize, windowMs, queueSize,
+						concurrency, images -> diagnoseBatch(trimmed, images), meterRegistry));
+			}
+		}
+	}
+
+	@Override
+	public String diagnose(String part, byte[] image) {
+		MicroBatcher<byte[], String> batcher = batchers.get(part);
+		if (batcher == null) {
+			DiagnosisResultDto response = restTemplate.postForObject(url + "/{part}",
+					Collections.singletonMap("image", encode(image)), DiagnosisResultDto.class, part);
+			if (response == null || response.getResult() == null || response.getResult().isEmpty()) {
+				throw new IllegalStateException("AI 서버 응답에 진단 결과가 없습니다.");
+			}
+			return response.getResult();
+		}
+		try {
+			// 배치가 모이는 시간과 대기열에서 기다리는 시간까지 포함해서 한 번 더 여유를 줌
+			return batcher.submit(image).get(timeoutMs * 2, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("진단이 중단되었습니다.");
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("AI 서버 응답 시간이 초과되었습니다.");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+		}
+	}
+
+	@Override
+	public String modelVersion() {
+		return modelVersion;
+	}
+
+	private List<String> diagnoseBatch(String part, List<byte[]> images) {
+		List<String> encoded = images.stream().map(this::encode).collect(Collectors.toList());
+		DiagnosisBatchResultDto response = restTemplate.postForObject(url + "/{part}/batch",
+				Collections.singletonMap("images", encoded), DiagnosisBatchResultDto.class, part);
+		if (response == null || response.getResults() == null) {
+			throw new IllegalStateException("AI 서버 응답에 진단 결과가 없습니다.");
+		}
+		return response.getResults();
+	}
+
+	private String encode(byte[] image) {
+		return Base64.getEncoder().encodeToString(image);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		batchers.values().forEach(MicroBatcher::close);
+	}
+}
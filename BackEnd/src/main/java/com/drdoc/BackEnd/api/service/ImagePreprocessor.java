@@ -0,0 +1,177 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진단 모델 입력용 이미지 전처리 (가운데 정사각형을 잘라 SIZE x SIZE JPEG로 변환).
+ * 원본 전체를 디코딩하지 않도록 잘라낼 영역만, 결과 크기의 2배 이상이 되는 선까지 건너뛰며 읽는다.
+ * 결과 이미지, JPEG 인코더, 출력 버퍼는 작업 공간 풀에서 재사용하고, 풀 크기만큼만 동시에 처리한다.
+ * 같은 사진 재요청을 찾을 수 있도록 줄인 이미지로 64비트 dHash도 같이 계산한다.
+ */
+@Component
+public class ImagePreprocessor {
+
+	// ResNet 입력 크기
+	public static final int SIZE = 224;
+	private static final float JPEG_QUALITY = 0.9f;
+	// dHash 격자 (가로로 이웃한 칸의 밝기 비교, 9 x 8 -> 64비트)
+	private static final int HASH_WIDTH = 9;
+	private static final int HASH_HEIGHT = 8;
+
+	private final BlockingQueue<Workspace> pool;
+
+	public ImagePreprocessor(@Value("${ai.diagnosis.preprocess.pool-size:4}") int poolSize) {
+		this.pool = new ArrayBlockingQueue<>(poolSize);
+		for (int i = 0; i < poolSize; i++) {
+			pool.add(new Workspace());
+		}
+	}
+
+	public Result preprocess(InputStream in) throws IOException {
+		Workspace workspace;
+		try {
+			workspace = pool.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("이미지 변환이 중단되었습니다.");
+		}
+		try {
+			byte[] jpeg = workspace.render(decode(in));
+			return new Result(jpeg, workspace.hash());
+		} finally {
+			pool.offer(workspace);
+		}
+	}
+
+	private static BufferedImage decode(InputStream in) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) {
+				throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				int side = Math.min(width, height);
+				int step = Math.max(1, side / (SIZE * 2));
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+				param.setSourceSubsampling(step, step, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 재사용하는 변환 공간 (한 번에 한 스레드만 사용)
+	private static final class Workspace {
+		private final BufferedImage target = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_3BYTE_BGR);
+		private final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		private final ImageWriteParam param = writer.getDefaultWriteParam();
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+		private final long[] cells = new long[HASH_WIDTH * HASH_HEIGHT];
+		private final int[] counts = new int[HASH_WIDTH * HASH_HEIGHT];
+
+		private Workspace() {
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+		}
+
+		private byte[] render(BufferedImage source) throws IOException {
+			Graphics2D graphics = target.createGraphics();
+			try {
+				// 투명 배경은 흰색으로
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, SIZE, SIZE);
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.drawImage(source, 0, 0, SIZE, SIZE, null);
+			} finally {
+				graphics.dispose();
+			}
+			out.reset();
+			// 임시 파일 캐시를 쓰지 않도록 메모리 스트림 사용
+			try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+				writer.setOutput(output);
+				writer.write(null, new IIOImage(target, null, null), param);
+			} finally {
+				writer.setOutput(null);
+			}
+			return out.toByteArray();
+		}
+
+		// 마지막으로 변환한 이미지의 dHash (칸별 평균 밝기가 오른쪽 칸보다 밝으면 1)
+		private long hash() {
+			Arrays.fill(cells, 0);
+			Arrays.fill(counts, 0);
+			byte[] pixels = ((DataBufferByte) target.getRaster().getDataBuffer()).getData();
+			for (int y = 0; y < SIZE; y++) {
+				int row = y * HASH_HEIGHT / SIZE * HASH_WIDTH;
+				for (int x = 0; x < SIZE; x++) {
+					int i = (y * SIZE + x) * 3;
+					// BGR 순서, 정수 근사 휘도
+					int luma = (29 * (pixels[i] & 0xff) + 150 * (pixels[i + 1] & 0xff) + 77 * (pixels[i + 2] & 0xff)) >> 8;
+					int cell = row + x * HASH_WIDTH / SIZE;
+					cells[cell] += luma;
+					counts[cell]++;
+				}
+			}
+			long hash = 0;
+			for (int y = 0; y < HASH_HEIGHT; y++) {
+				for (int x = 0; x < HASH_WIDTH - 1; x++) {
+					int left = y * HASH_WIDTH + x;
+					// 칸 크기가 다를 수 있으므로 평균끼리 비교 (a/ca > b/cb <=> a*cb > b*ca)
+					boolean brighter = cells[left] * counts[left + 1] > cells[left + 1] * counts[left];
+					hash = (hash << 1) | (brighter ? 1 : 0);
+				}
+			}
+			return hash;
+		}
+	}
+
+	public static class Result {
+		private final byte[] jpeg;
+		private final long hash;
+
+		public Result(byte[] jpeg, long hash) {
+			this.jpeg = jpeg;
+			this.hash = hash;
+		}
+
+		// 모델 입력용 JPEG
+		public byte[] getJpeg() {
+			return jpeg;
+		}
+
+		// 64비트 dHash
+		public long getHash() {
+			return hash;
+		}
+	}
+}
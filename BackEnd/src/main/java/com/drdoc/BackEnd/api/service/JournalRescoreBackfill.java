@@ -0,0 +1,313 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.drdoc.BackEnd.api.domain.BackfillCheckpoint;
+import com.drdoc.BackEnd.api.domain.BackfillFailure;
+import com.drdoc.BackEnd.api.domain.dto.JournalRescoreTarget;
+import com.drdoc.BackEnd.api.repository.BackfillCheckpointRepository;
+import com.drdoc.BackEnd.api.repository.BackfillFailureRepository;
+import com.drdoc.BackEnd.api.repository.JournalRepository;
+import com.drdoc.BackEnd.api.util.RateLimiter;
+
+/**
+ * 진단 모델이 바뀌었을 때 예전 모델로 진단한 일지를 현재 모델로 다시 진단한다 (ai.diagnosis.backfill.enabled=true 일 때만).
+ * 일지를 id 순으로 chunk-size개씩 읽어 S3 원본 사진을 AI 서버에 다시 보내고, 한 묶음이 끝나면 결과와 진행 위치를 한 트랜잭션으로 저장한다.
+ * 대상은 AI 진단 결과로 작성한 일지(source = MODEL)뿐이고, 실행을 시작할 때의 마지막 일지 id까지만 처리한다.
+ * 진행 위치는 모델 버전별로 남기므로 서버가 재시작되면 마지막으로 저장한 묶음 다음부터 이어서 처리한다.
+ * 실패한 일지는 진행 위치와 함께 backfillFailure에 남기고 다음 실행 때 최대 MAX_RETRY_ATTEMPTS번까지 다시 진단한다.
+ * 실시간 진단이 밀리지 않도록 동시 호출 수와 초당 호출 수를 제한하고, 실시간 진단 대기 작업이 있으면 잠시 멈춘다.
+ */
+@Component
+public class JournalRescoreBackfill {
+
+	private static final Logger logger = LoggerFactory.getLogger(JournalRescoreBackfill.class);
+
+	private static final String NAME_PREFIX = "journal-rescore:";
+	// 등록일은 갱신 시 현재 시간으로 바뀌는 컬럼이라 그대로 다시 넣어서 유지
+	// 다시 진단하는 동안 사용자가 결과를 고쳤으면(MANUAL) 덮어쓰지 않음
+	private static final String UPDATE_SQL = "update journal set result = ?, model_version = ?, created_date = created_date "
+			+ "where id = ? and source = 'MODEL'";
+	// 출처 표시 작업 완료 기록 (진행 위치 테이블에 남겨 한 번만 실행)
+	private static final String LEGACY_SOURCE_MARKER = "journal-source:legacy";
+	private static final String MARK_LEGACY_SQL = "update journal set source = 'MODEL', created_date = created_date "
+			+ "where source is null and id > ? and id <= ?";
+	// 출처 표시를 나눠서 갱신할 id 구간 크기
+	private static final int LEGACY_MARK_RANGE = 10000;
+	// 실패한 일지의 최대 재진단 횟수
+	private static final int MAX_RETRY_ATTEMPTS = 3;
+	// 부위별 최근 진단 결과 요약에 해당 일지가 걸려 있으면 같이 갱신
+	private static final String UPDATE_TIMELINE_SQL = "update journal_timeline set result = ? where journal_id = ?";
+	// 실시간 진단 대기 작업이 줄어들 때까지 기다리는 간격
+	private static final long LIVE_BUSY_WAIT_MS = 1000;
+
+	private final JournalRepository journalRepository;
+	private final BackfillCheckpointRepository backfillCheckpointRepository;
+	private final BackfillFailureRepository backfillFailureRepository;
+	private final S3Service s3Service;
+	private final ImagePreprocessor imagePreprocessor;
+	private final DiagnosisClient diagnosisClient;
+	private final DiagnosisJobWorker diagnosisJobWorker;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	private final boolean enabled;
+	private final int chunkSize;
+	private final int liveQueueLimit;
+	private final Semaphore inFlight;
+	private final RateLimiter rateLimiter;
+	// 스케줄러 스레드를 오래 잡지 않도록 별도 스레드에서 실행
+	private final ExecutorService runner;
+	private final ExecutorService callers;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile boolean stopped;
+
+	public JournalRescoreBackfill(JournalRepository journalRepository,
+			BackfillCheckpointRepository backfillCheckpointRepository,
+			BackfillFailureRepository backfillFailureRepository, S3Service s3Service,
+			ImagePreprocessor imagePreprocessor, DiagnosisClient diagnosisClient, DiagnosisJobWorker diagnosisJobWorker,
+			JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			@Value("${ai.diagnosis.backfill.enabled:false}") boolean enabled,
+			@Value("${ai.diagnosis.backfill.chunk-size:100}") int chunkSize,
+			@Value("${ai.diagnosis.backfill.concurrency:2}") int concurrency,
+			@Value("${ai.diagnosis.backfill.rate-per-second:2}") double ratePerSecond,
+			@Value("${ai.diagnosis.backfill.live-queue-limit:0}") int liveQueueLimit) {
+		this.journalRepository = journalRepository;
+		this.backfillCheckpointRepository = backfillCheckpointRepository;
+		this.backfillFailureRepository = backfillFailureRepository;
+		this.s3Service = s3Service;
+		this.imagePreprocessor = imagePreprocessor;
+		this.diagnosisClient = diagnosisClient;
+		this.diagnosisJobWorker = diagnosisJobWorker;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+		this.liveQueueLimit = liveQueueLimit;
+		this.inFlight = new Semaphore(concurrency);
+		this.rateLimiter = new RateLimiter(ratePerSecond);
+		this.runner = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "journal-rescore"));
+		AtomicInteger count = new AtomicInteger();
+		this.callers = Executors.newFixedThreadPool(concurrency,
+				runnable -> daemon(runnable, "journal-rescore-call-" + count.incrementAndGet()));
+	}
+
+	// 주기적으로 새로 쌓인 대상이 있는지 확인 (이미 실행 중이면 건너뜀)
+	@Scheduled(fixedDelayString = "${ai.diagnosis.backfill.interval-ms:60000}")
+	public void start() {
+		if (!enabled || stopped || !running.compareAndSet(false, true)) {
+			return;
+		}
+		runner.execute(() -> {
+			try {
+				run(diagnosisClient.modelVersion());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				logger.warn("일지 재진단 중단: {}", e.getMessage());
+			} finally {
+				running.set(false);
+			}
+		});
+	}
+
+	private void run(String modelVersion) throws InterruptedException {
+		markLegacySources();
+		String name = NAME_PREFIX + modelVersion;
+		BackfillCheckpoint checkpoint = backfillCheckpointRepository.findById(name)
+				.orElseGet(() -> new BackfillCheckpoint(name));
+		// 실행을 시작할 때의 마지막 일지까지만 처리 (이후 작성된 일지는 현재 모델로 진단했으므로 대상이 아님)
+		int maxId = journalRepository.findMaxId();
+		while (!stopped) {
+			List<JournalRescoreTarget> chunk = journalRepository.findRescoreTargets(checkpoint.getLastId(), maxId,
+					modelVersion, PageRequest.of(0, chunkSize));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			checkpoint = rescoreAndSave(checkpoint, chunk, modelVersion, chunk.get(chunk.size() - 1).getId());
+		}
+		retryFailures(checkpoint, modelVersion);
+	}
+
+	// 진행 위치를 지나간 뒤 실패 목록에 남은 일지를 다시 진단 (재시도 횟수를 다 쓴 일지는 목록에만 남김)
+	private void retryFailures(BackfillCheckpoint checkpoint, String modelVersion) throws InterruptedException {
+		String name = checkpoint.getName();
+		int afterId = 0;
+		while (!stopped) {
+			List<BackfillFailure> failures = backfillFailureRepository.findRetryTargets(name, afterId,
+					MAX_RETRY_ATTEMPTS, PageRequest.of(0, chunkSize));
+			if (failures.isEmpty()) {
+				return;
+			}
+			afterId = failures.get(failures.size() - 1).getTargetId();
+			List<Integer> ids = failures.stream().map(BackfillFailure::getTargetId).collect(Collectors.toList());
+			List<JournalRescoreTarget> targets = journalRepository.findRescoreTargetsByIds(ids, modelVersion);
+			// 그사이 지워졌거나 사용자가 결과를 고친 일지는 목록에서 삭제
+			Set<Integer> remaining = targets.stream().map(JournalRescoreTarget::getId).collect(Collectors.toSet());
+			List<Integer> gone = ids.stream().filter(id -> !remaining.contains(id)).collect(Collectors.toList());
+			if (!gone.isEmpty()) {
+				transactionTemplate.executeWithoutResult(status -> backfillFailureRepository.deleteByTargetIds(name, gone));
+			}
+			if (!targets.isEmpty()) {
+				checkpoint = rescoreAndSave(checkpoint, targets, modelVersion, checkpoint.getLastId());
+			}
+		}
+	}
+
+	// 한 묶음을 다시 진단하고 결과, 실패 목록, 진행 위치를 한 트랜잭션으로 저장
+	private BackfillCheckpoint rescoreAndSave(BackfillCheckpoint checkpoint, List<JournalRescoreTarget> targets,
+			String modelVersion, int lastId) throws InterruptedException {
+		String name = checkpoint.getName();
+		Object[][] results = rescore(targets, modelVersion);
+		List<Object[]> updates = new ArrayList<>(targets.size());
+		List<Integer> succeeded = new ArrayList<>(targets.size());
+		Map<Integer, String> failed = new LinkedHashMap<>();
+		for (int i = 0; i < results.length; i++) {
+			int id = targets.get(i).getId();
+			if (results[i][0] != null) {
+				updates.add(results[i]);
+				succeeded.add(id);
+			} else {
+				failed.put(id, (String) results[i][1]);
+			}
+		}
+		checkpoint.advance(lastId, updates.size(), failed.size());
+		BackfillCheckpoint saved = transactionTemplate.execute(status -> {
+			if (!updates.isEmpty()) {
+				applyUpdates(updates);
+				backfillFailureRepository.deleteByTargetIds(name, succeeded);
+			}
+			if (!failed.isEmpty()) {
+				recordFailures(name, failed);
+			}
+			return backfillCheckpointRepository.save(checkpoint);
+		});
+		logger.info("일지 재진단 {}: {}번까지 (성공 {}, 실패 {})", modelVersion, saved.getLastId(), updates.size(), failed.size());
+		return saved;
+	}
+
+	private void applyUpdates(List<Object[]> updates) {
+		int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+		// 그사이 사용자가 결과를 고쳐서 갱신하지 않은 일지는 요약도 그대로 둠
+		List<Object[]> timeline = new ArrayList<>(updates.size());
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] != 0) {
+				timeline.add(new Object[] { updates.get(i)[0], updates.get(i)[2] });
+			}
+		}
+		if (!timeline.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_TIMELINE_SQL, timeline);
+		}
+	}
+
+	// 실패한 일지를 재시도 목록에 추가 (이미 있으면 시도 횟수 증가)
+	private void recordFailures(String name, Map<Integer, String> failed) {
+		Map<Integer, BackfillFailure> rows = backfillFailureRepository.findByTargetIds(name, failed.keySet()).stream()
+				.collect(Collectors.toMap(BackfillFailure::getTargetId, Function.identity()));
+		failed.forEach((id, error) -> rows.computeIfAbsent(id, key -> new BackfillFailure(name, key)).fail(error));
+		backfillFailureRepository.saveAll(rows.values());
+	}
+
+	// 출처를 기록하기 전 일지는 앱이 AI 서버 진단 결과로 작성했으므로 처음 한 번만 MODEL로 표시 (id 구간별로 나눠 잠금을 짧게)
+	private void markLegacySources() {
+		if (backfillCheckpointRepository.existsById(LEGACY_SOURCE_MARKER)) {
+			return;
+		}
+		int maxId = journalRepository.findMaxId();
+		int marked = 0;
+		for (int from = 0; from < maxId; from += LEGACY_MARK_RANGE) {
+			if (stopped) {
+				return;
+			}
+			marked += jdbcTemplate.update(MARK_LEGACY_SQL, from, from + LEGACY_MARK_RANGE);
+		}
+		BackfillCheckpoint marker = new BackfillCheckpoint(LEGACY_SOURCE_MARKER);
+		marker.advance(maxId, marked, 0);
+		backfillCheckpointRepository.save(marker);
+		logger.info("출처 기록 전 일지 {}건을 AI 진단 일지로 표시", marked);
+	}
+
+	// 한 묶음을 동시에 최대 concurrency개씩 다시 진단 (일지마다 {결과, 모델 버전, id}, 실패하면 {null, 오류})
+	private Object[][] rescore(List<JournalRescoreTarget> chunk, String modelVersion) throws InterruptedException {
+		Object[][] results = new Object[chunk.size()][];
+		CountDownLatch done = new CountDownLatch(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			JournalRescoreTarget target = chunk.get(i);
+			int index = i;
+			results[index] = new Object[] { null, "재진단이 끝나지 않았습니다." };
+			waitForLiveCapacity();
+			rateLimiter.acquire();
+			inFlight.acquire();
+			callers.execute(() -> {
+				try {
+					results[index] = new Object[] { rescore(target), modelVersion, target.getId() };
+				} catch (IOException | RuntimeException e) {
+					logger.warn("일지 재진단 실패: {} ({})", target.getId(), e.getMessage());
+					results[index] = new Object[] { null, e.getMessage() };
+				} finally {
+					inFlight.release();
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		return results;
+	}
+
+	private String rescore(JournalRescoreTarget target) throws IOException {
+		byte[] image;
+		try (InputStream in = s3Service.download(target.getPicture())) {
+			image = imagePreprocessor.preprocess(in).getJpeg();
+		}
+		return diagnosisClient.diagnose(target.getPart(), image);
+	}
+
+	// 실시간 진단 대기 작업이 live-queue-limit 이하가 될 때까지 대기
+	private void waitForLiveCapacity() throws InterruptedException {
+		while (!stopped && diagnosisJobWorker.queueDepth() > liveQueueLimit) {
+			TimeUnit.MILLISECONDS.sleep(LIVE_BUSY_WAIT_MS);
+		}
+		if (stopped) {
+			throw new InterruptedException("일지 재진단이 종료되었습니다.");
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		stopped = true;
+		runner.shutdownNow();
+		callers.shutdownNow();
+	}
+
+	private static Thread daemon(Runnable runnable, String name) {
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -1,10 +1,11 @@
 package com.drdoc.BackEnd.api.service;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.drdoc.BackEnd.api.domain.dto.JournalBatchDeleteRequestDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalSearchDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalThumbnailDto;
 
 public interface JournalService {
@@ -21,8 +22,8 @@ public interface JournalService {
 	// 일지 일괄 삭제
 	void batchDelete(JournalBatchDeleteRequestDto Journals);
 
-	// 일지 전체 조회
-	Page<JournalThumbnailDto> listAll();
+	// 일지 목록 조회 (검색 조건 적용, after 커서가 있으면 커서 이후부터 조회)
+	Slice<JournalThumbnailDto> listAll(int page, int size, String after, JournalSearchDto condition);
 	
 	// 일지 상세 조회
 	JournalDetailDto detail(int journalId);
@@ -1,12 +1,14 @@
 package com.drdoc.BackEnd.api.service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Sort;
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import com.drdoc.BackEnd.api.domain.Journal;
@@ -14,9 +16,12 @@ import com.drdoc.BackEnd.api.domain.User;
 import com.drdoc.BackEnd.api.domain.dto.JournalBatchDeleteRequestDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalSearchDto;
 import com.drdoc.BackEnd.api.domain.dto.JournalThumbnailDto;
 import com.drdoc.BackEnd.api.repository.JournalRepository;
 import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.util.CursorUtil;
+import com.drdoc.BackEnd.api.util.CursorUtil.TimeCursor;
 import com.drdoc.BackEnd.api.util.SecurityUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -26,51 +31,74 @@ import lombok.RequiredArgsConstructor;
 public class JournalServiceImpl implements JournalService {
 	private final JournalRepository repository;
 	private final UserRepository userRepository;
+	private final JournalTimelineService journalTimelineService;
 
 	// 일지 등록
 	@Override
+	@Transactional
 	public void register(JournalRequestDto request) {
 				User user = getCurrentUser();
 				Journal journal = new Journal(request, user);
 				repository.save(journal);
+				journalTimelineService.add(Collections.singletonList(new JournalDetailDto(journal)));
 	}
 
 	// 일지 수정
 	@Override
+	@Transactional
 	public void modify(Integer journalId, JournalRequestDto request) {
 		Journal journal = repository.findById(journalId)
 				.orElseThrow(() -> new IllegalArgumentException("일지를 찾을 수 없습니다."));
 		if (checkOwner(journal)) {
+			JournalDetailDto before = new JournalDetailDto(journal);
 			journal.modify(request);
-			repository.save(journal);
+			repository.saveAndFlush(journal);
+			// 작성일 컬럼은 수정 시 DB에서 현재 시간으로 바뀜
+			JournalDetailDto after = new JournalDetailDto(journal);
+			after.setCreated_date(LocalDateTime.now());
+			journalTimelineService.subtract(Collections.singletonList(before));
+			journalTimelineService.add(Collections.singletonList(after));
 		}
 	}
 
 	// 일지 삭제
 	@Override
+	@Transactional
 	public void delete(int journalId) {
 		Journal journal = repository.findById(journalId)
 				.orElseThrow(() -> new IllegalArgumentException("일지를 찾을 수 없습니다."));
 		if (checkOwner(journal)) {
-			repository.deleteById(journalId);
+			JournalDetailDto deleted = new JournalDetailDto(journal);
+			repository.delete(journal);
+			repository.flush();
+			journalTimelineService.subtract(Collections.singletonList(deleted));
 		}
 	}
 
 	// 일지 일괄 삭제
 	@Override
+	@Transactional
 	public void batchDelete(JournalBatchDeleteRequestDto Journals) {
+		List<JournalDetailDto> deleted = repository.findAllById(Journals.getJournal_ids()).stream()
+				.map(JournalDetailDto::new).collect(Collectors.toList());
 		repository.deleteAllByIdInBatch(Journals.getJournal_ids());
+		journalTimelineService.subtract(deleted);
 	}
 
-	// 일지 전체 조회
+	// 일지 목록 조회
 	@Override
-	public Page<JournalThumbnailDto> listAll() {
+	public Slice<JournalThumbnailDto> listAll(int page, int size, String after, JournalSearchDto condition) {
+		if (page < 0 || size < 1) {
+			throw new IllegalArgumentException("페이지 번호 또는 크기가 올바르지 않습니다.");
+		}
+		if (condition.getFrom() != null && condition.getTo() != null && condition.getTo().isBefore(condition.getFrom())) {
+			throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+		}
 		User user = getCurrentUser();
-		Sort sort = Sort.by(Sort.Direction.DESC, "id");
-		List<JournalThumbnailDto> list = repository.findByUserId(user.getId(), sort).stream()
-				.map(JournalThumbnailDto::new).collect(Collectors.toList());
-		return new PageImpl<>(list);
-
+		// 커서 이후 조회는 offset 없이 인덱스에서 커서 위치부터 탐색
+		TimeCursor cursor = after == null || after.isEmpty() ? null : CursorUtil.decodeTime(after);
+		return repository.search(user.getId(), condition, cursor, page, Math.min(size, CursorUtil.MAX_PAGE_SIZE))
+				.map(JournalThumbnailDto::new);
 	}
 
 	// 일지 상세 조회
@@ -0,0 +1,21 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.List;
+
+import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalTimelineDto;
+
+public interface JournalTimelineService {
+
+	// 일지 추가 반영
+	void add(List<JournalDetailDto> journals);
+
+	// 일지 제거 반영 (일지를 지우거나 수정한 뒤에 호출, 지운 값은 지우기 전에 복사해 둔 값)
+	void subtract(List<JournalDetailDto> journals);
+
+	// 월별 증상 건수와 부위별 최근 진단 결과
+	JournalTimelineDto get(int petId);
+
+	// 일지 원본으로 모든 반려동물의 요약 재계산
+	int rebuildAll();
+}
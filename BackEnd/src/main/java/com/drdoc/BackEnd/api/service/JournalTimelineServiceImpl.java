@@ -0,0 +1,179 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.drdoc.BackEnd.api.domain.Journal;
+import com.drdoc.BackEnd.api.domain.JournalTimeline;
+import com.drdoc.BackEnd.api.domain.JournalTimelineId;
+import com.drdoc.BackEnd.api.domain.JournalTimelineKind;
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.WalkCalendar;
+import com.drdoc.BackEnd.api.domain.dto.JournalDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalLatestResultDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalSymptomCountDto;
+import com.drdoc.BackEnd.api.domain.dto.JournalTimelineDto;
+import com.drdoc.BackEnd.api.repository.JournalRepository;
+import com.drdoc.BackEnd.api.repository.JournalTimelineRepository;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.util.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class JournalTimelineServiceImpl implements JournalTimelineService {
+	private final JournalTimelineRepository journalTimelineRepository;
+	private final JournalRepository journalRepository;
+	private final PetRepository petRepository;
+	private final UserRepository userRepository;
+
+	@Override
+	@Transactional
+	public void add(List<JournalDetailDto> journals) {
+		Map<JournalTimelineId, JournalTimeline> rows = createAndLockRows(journals);
+		for (JournalDetailDto journal : journals) {
+			apply(rows, journal);
+		}
+		journalTimelineRepository.saveAll(rows.values());
+	}
+
+	@Override
+	@Transactional
+	public void subtract(List<JournalDetailDto> journals) {
+		Map<JournalTimelineId, JournalTimeline> rows = lockRows(journals);
+		if (rows.isEmpty()) {
+			return;
+		}
+		// 지운 일지가 부위별 최근 일지였으면 남은 일지에서 다시 찾음
+		Set<JournalTimelineId> staleLatest = new LinkedHashSet<>();
+		for (JournalDetailDto journal : journals) {
+			if (hasSymptom(journal)) {
+				JournalTimeline symptom = rows.get(JournalTimeline.symptomId(journal));
+				if (symptom != null) {
+					symptom.decrement();
+				}
+			}
+			JournalTimeline latest = rows.get(JournalTimeline.latestId(journal));
+			if (latest != null && latest.getJournalId() != null && latest.getJournalId() == journal.getId()) {
+				staleLatest.add(latest.getId());
+			}
+		}
+		for (JournalTimelineId id : staleLatest) {
+			List<Journal> found = journalRepository.findLatest(id.getPetId(), id.getLabel(), PageRequest.of(0, 1));
+			rows.get(id).resetLatest(found.isEmpty() ? null : new JournalDetailDto(found.get(0)));
+		}
+		journalTimelineRepository
+				.deleteAll(rows.values().stream().filter(JournalTimeline::isEmpty).collect(Collectors.toList()));
+	}
+
+	@Override
+	public JournalTimelineDto get(int petId) {
+		Pet pet = petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
+		User user = userRepository.findByMemberId(SecurityUtil.getCurrentUsername())
+				.orElseThrow(() -> new IllegalArgumentException("가입하지 않은 계정입니다."));
+		if (pet.getUser().getId() != user.getId()) {
+			throw new IllegalArgumentException("반려동물에 접근 권한이 없습니다.");
+		}
+		List<JournalSymptomCountDto> symptoms = new ArrayList<>();
+		List<JournalLatestResultDto> latest = new ArrayList<>();
+		// 요약 행은 반려동물 id로 시작하는 유니크 인덱스 범위 한 번으로 모두 읽음
+		List<JournalTimeline> rows = journalTimelineRepository.findByPetId(petId);
+		rows.sort(Comparator.comparing(JournalTimeline::getMonthKey)
+				.thenComparing(Comparator.comparing(JournalTimeline::getCount).reversed())
+				.thenComparing(JournalTimeline::getLabel));
+		for (JournalTimeline row : rows) {
+			if (row.getKind() == JournalTimelineKind.SYMPTOM) {
+				symptoms.add(JournalSymptomCountDto.builder()
+						.month(WalkCalendar.toYearMonth(row.getMonthKey()).toString())
+						.symptom(row.getLabel())
+						.count(row.getCount())
+						.build());
+			} else {
+				latest.add(JournalLatestResultDto.builder()
+						.part(row.getLabel())
+						.result(row.getResult())
+						.journal_id(row.getJournalId())
+						.created_date(row.getCreated_date())
+						.build());
+			}
+		}
+		latest.sort(Comparator.comparing(JournalLatestResultDto::getCreated_date).reversed());
+		return JournalTimelineDto.builder().pet_id(petId).symptoms(symptoms).latest(latest).build();
+	}
+
+	@Override
+	@Transactional
+	public int rebuildAll() {
+		journalTimelineRepository.deleteAllInBatch();
+		List<Integer> petIds = petRepository.findAll().stream().map(Pet::getId).collect(Collectors.toList());
+		for (int petId : petIds) {
+			Map<JournalTimelineId, JournalTimeline> rows = new HashMap<>();
+			for (Journal journal : journalRepository.findByPetId(petId)) {
+				apply(rows, new JournalDetailDto(journal));
+			}
+			journalTimelineRepository.saveAll(rows.values());
+		}
+		return petIds.size();
+	}
+
+	private void apply(Map<JournalTimelineId, JournalTimeline> rows, JournalDetailDto journal) {
+		if (hasSymptom(journal)) {
+			rows.computeIfAbsent(JournalTimeline.symptomId(journal), JournalTimeline::new).increment();
+		}
+		rows.computeIfAbsent(JournalTimeline.latestId(journal), JournalTimeline::new).offerLatest(journal);
+	}
+
+	// 증상 없이 작성한 일지는 증상 건수에서 제외
+	private boolean hasSymptom(JournalDetailDto journal) {
+		return journal.getSymptom() != null && !journal.getSymptom().trim().isEmpty();
+	}
+
+	// 처음 나온 증상/부위는 잠글 행이 없어 동시에 저장하면 중복 키 오류가 나므로 빈 행을 먼저 만들고 다시 잠금 조회
+	// (이미 있으면 그 행이 잠기므로 교착 상태를 피하려고 키 순서대로, 반려동물 전체 범위는 잠그지 않고 쓸 행만)
+	private Map<JournalTimelineId, JournalTimeline> createAndLockRows(List<JournalDetailDto> journals) {
+		Set<JournalTimelineId> ids = new TreeSet<>(Comparator.comparing(JournalTimelineId::getPetId)
+				.thenComparing(id -> id.getKind().name()).thenComparing(JournalTimelineId::getLabel)
+				.thenComparing(JournalTimelineId::getMonthKey));
+		for (JournalDetailDto journal : journals) {
+			if (hasSymptom(journal)) {
+				ids.add(JournalTimeline.symptomId(journal));
+			}
+			ids.add(JournalTimeline.latestId(journal));
+		}
+		Map<JournalTimelineId, JournalTimeline> rows = new HashMap<>();
+		for (JournalTimelineId id : ids) {
+			journalTimelineRepository.insertIfAbsent(id.getPetId(), id.getKind().name(), id.getLabel(),
+					id.getMonthKey());
+		}
+		for (JournalTimelineId id : ids) {
+			journalTimelineRepository.findForUpdate(id.getPetId(), id.getKind(), id.getLabel(), id.getMonthKey())
+					.ifPresent(row -> rows.put(id, row));
+		}
+		return rows;
+	}
+
+	private Map<JournalTimelineId, JournalTimeline> lockRows(List<JournalDetailDto> journals) {
+		Set<Integer> petIds = journals.stream().map(JournalDetailDto::getPet_id).collect(Collectors.toSet());
+		if (petIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return journalTimelineRepository.findAllForUpdate(petIds).stream()
+				.collect(Collectors.toMap(JournalTimeline::getId, Function.identity()));
+	}
+}
@@ -0,0 +1,131 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.drdoc.BackEnd.api.domain.WalkTotal;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.WalkPetRepository;
+import com.drdoc.BackEnd.api.repository.WalkTotalRepository;
+
+/**
+ * 반려동물별 마지막 산책 날짜를 메모리에 들고 있는 인덱스.
+ * 오늘 산책 여부 조회는 대부분 DB를 거치지 않고 여기서 응답한다.
+ * 최대 개수를 넘으면 가장 오래 조회되지 않은 반려동물부터 제거(LRU).
+ */
+@Component
+public class LastWalkIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(LastWalkIndex.class);
+
+	// 산책 기록이 없는 반려동물
+	private static final LocalDate NO_HISTORY = LocalDate.MIN;
+
+	private final WalkPetRepository walkPetRepository;
+	private final WalkTotalRepository walkTotalRepository;
+	private final PetRepository petRepository;
+	private final Map<Integer, LocalDate> lastWalkDates;
+
+	public LastWalkIndex(WalkPetRepository walkPetRepository, WalkTotalRepository walkTotalRepository,
+			PetRepository petRepository, @Value("${walk.last-walk-index.max-size:100000}") int maxSize) {
+		this.walkPetRepository = walkPetRepository;
+		this.walkTotalRepository = walkTotalRepository;
+		this.petRepository = petRepository;
+		this.lastWalkDates = new LinkedHashMap<Integer, LocalDate>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, LocalDate> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	// 서버 시작 시 그룹 쿼리 1번으로 채워둠
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<Object[]> rows = walkPetRepository.findLastEndTimeGroupByPet();
+		synchronized (lastWalkDates) {
+			for (Object[] row : rows) {
+				lastWalkDates.put((Integer) row[0], ((LocalDateTime) row[1]).toLocalDate());
+			}
+		}
+		logger.info("마지막 산책 날짜 인덱스 로딩 완료: {}건", rows.size());
+	}
+
+	// 해당 반려동물이 오늘 산책했는지 여부
+	public boolean isDoneToday(int petId) {
+		LocalDate last;
+		synchronized (lastWalkDates) {
+			last = lastWalkDates.get(petId);
+		}
+		if (last == null) {
+			last = load(petId);
+			synchronized (lastWalkDates) {
+				lastWalkDates.putIfAbsent(petId, last);
+			}
+		}
+		return last.equals(LocalDate.now());
+	}
+
+	// 산책 기록이 추가되면 커밋 후 반영
+	public void onWalkAdded(Collection<Integer> petIds, LocalDateTime endTime) {
+		LocalDate date = endTime.toLocalDate();
+		List<Integer> ids = new ArrayList<>(petIds);
+		afterCommit(() -> {
+			synchronized (lastWalkDates) {
+				for (int petId : ids) {
+					LocalDate last = lastWalkDates.get(petId);
+					if (last == null || date.isAfter(last)) {
+						lastWalkDates.put(petId, date);
+					}
+				}
+			}
+		});
+	}
+
+	// 산책 기록이 빠지면 마지막 날짜가 바뀔 수 있으므로 제거 후 다음 조회 때 다시 읽음
+	public void onWalkRemoved(Collection<Integer> petIds) {
+		List<Integer> ids = new ArrayList<>(petIds);
+		afterCommit(() -> {
+			synchronized (lastWalkDates) {
+				ids.forEach(lastWalkDates::remove);
+			}
+		});
+	}
+
+	private LocalDate load(int petId) {
+		return walkTotalRepository.findById(petId).map(WalkTotal::getLastEndTime)
+				.map(LocalDateTime::toLocalDate).orElseGet(() -> {
+					petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
+					return NO_HISTORY;
+				});
+	}
+
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,137 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkTrackDto;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.util.LiveTrackBuffer;
+import com.drdoc.BackEnd.api.util.TrackPoints;
+
+/**
+ * 진행 중인 실시간 산책 세션 목록 (웹소켓 세션 id -> 세션).
+ * 세션마다 고정 크기 경로 버퍼(LiveTrackBuffer)만 들고 있다가, 종료 시 산책 기록을 한 번에 저장한다.
+ */
+@Component
+public class LiveWalkRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(LiveWalkRegistry.class);
+
+	private final WalkService walkService;
+	private final PetRepository petRepository;
+	private final Map<String, LiveWalkSession> sessions = new ConcurrentHashMap<>();
+	private final int maxSessions;
+	private final int bufferSize;
+	private final long idleTimeoutMillis;
+
+	public LiveWalkRegistry(WalkService walkService, PetRepository petRepository,
+			@Value("${walk.live.max-sessions:10000}") int maxSessions,
+			@Value("${walk.live.buffer-size:2048}") int bufferSize,
+			@Value("${walk.live.idle-timeout-minutes:10}") long idleTimeoutMinutes) {
+		this.walkService = walkService;
+		this.petRepository = petRepository;
+		this.maxSessions = maxSessions;
+		this.bufferSize = bufferSize;
+		this.idleTimeoutMillis = idleTimeoutMinutes * 60 * 1000;
+	}
+
+	// 산책 시작
+	public LiveWalkSession start(String sessionId, String memberId, List<Integer> petIds) {
+		if (sessions.containsKey(sessionId)) {
+			throw new IllegalArgumentException("이미 진행 중인 산책입니다.");
+		}
+		if (petIds == null || petIds.isEmpty()) {
+			throw new IllegalArgumentException("해당 산책에 데려간 반려동물이 없습니다.");
+		}
+		List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(petIds));
+		List<Pet> pets = petRepository.findAllById(uniqueIds);
+		if (pets.size() != uniqueIds.size() || pets.stream().anyMatch(pet -> !memberId.equals(pet.getUser().getMemberId()))) {
+			throw new IllegalArgumentException("존재하지 않거나 접근 권한이 없는 반려동물입니다.");
+		}
+		if (sessions.size() >= maxSessions) {
+			throw new IllegalStateException("진행 중인 실시간 산책이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+		LiveWalkSession session = new LiveWalkSession(memberId, uniqueIds, new LiveTrackBuffer(bufferSize));
+		sessions.put(sessionId, session);
+		return session;
+	}
+
+	public LiveWalkSession get(String sessionId) {
+		LiveWalkSession session = sessions.get(sessionId);
+		if (session == null) {
+			throw new IllegalArgumentException("진행 중인 산책이 없습니다.");
+		}
+		return session;
+	}
+
+	// 산책 종료 후 저장 (진행 중인 산책이 없거나 좌표가 2개 미만이면 저장하지 않고 null)
+	public Integer finish(String sessionId) {
+		LiveWalkSession session = sessions.remove(sessionId);
+		if (session == null) {
+			return null;
+		}
+		return save(session);
+	}
+
+	private Integer save(LiveWalkSession session) {
+		WalkRegisterRequestDto request;
+		synchronized (session) {
+			LiveTrackBuffer buffer = session.getBuffer();
+			if (buffer.fixCount() < 2) {
+				return null;
+			}
+			TrackPoints points = buffer.toPoints();
+			request = WalkRegisterRequestDto.builder()
+					.start_time(toLocalDateTime(buffer.startTime()))
+					.end_time(toLocalDateTime(buffer.lastTime()))
+					// 경로는 버퍼가 솎아낸 점만 남으므로 거리는 모든 좌표로 누적한 값 사용
+					.distance((int) Math.round(buffer.distance()))
+					.pet_ids(session.getPetIds())
+					.track(new WalkTrackDto(points))
+					.build();
+		}
+		return walkService.registerLive(session.getMemberId(), request);
+	}
+
+	private LocalDateTime toLocalDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+
+	public int size() {
+		return sessions.size();
+	}
+
+	// 연결이 끊긴 채 좌표가 오지 않는 세션은 정리하면서 저장
+	@Scheduled(fixedDelay = 60 * 1000)
+	public void expireIdleSessions() {
+		long now = System.currentTimeMillis();
+		for (Map.Entry<String, LiveWalkSession> entry : sessions.entrySet()) {
+			if (now - entry.getValue().getLastActiveAt() < idleTimeoutMillis) {
+				continue;
+			}
+			LiveWalkSession session = sessions.remove(entry.getKey());
+			if (session == null) {
+				continue;
+			}
+			try {
+				save(session);
+			} catch (RuntimeException e) {
+				logger.warn("유휴 실시간 산책 저장 실패: {}", e.getMessage());
+			}
+		}
+	}
+}
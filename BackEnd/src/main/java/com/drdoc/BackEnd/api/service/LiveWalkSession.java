@@ -0,0 +1,49 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.List;
+
+import com.drdoc.BackEnd.api.domain.dto.LiveWalkStatusDto;
+import com.drdoc.BackEnd.api.util.LiveTrackBuffer;
+
+import lombok.Getter;
+
+// 진행 중인 실시간 산책 하나 (버퍼 접근은 세션 객체로 동기화)
+@Getter
+public class LiveWalkSession {
+
+	private final String memberId;
+	private final List<Integer> petIds;
+	private final LiveTrackBuffer buffer;
+	private volatile long lastActiveAt;
+
+	public LiveWalkSession(String memberId, List<Integer> petIds, LiveTrackBuffer buffer) {
+		this.memberId = memberId;
+		this.petIds = petIds;
+		this.buffer = buffer;
+		this.lastActiveAt = System.currentTimeMillis();
+	}
+
+	// 좌표 추가 후 현재 상태 반환
+	public synchronized LiveWalkStatusDto addFixes(double[] lats, double[] lons, long[] times) {
+		if (lats == null || lons == null || times == null || lats.length != lons.length
+				|| lats.length != times.length) {
+			throw new IllegalArgumentException("경로의 위도, 경도, 시간 개수가 일치하지 않습니다.");
+		}
+		for (int i = 0; i < lats.length; i++) {
+			buffer.add(lats[i], lons[i], times[i]);
+		}
+		lastActiveAt = System.currentTimeMillis();
+		return status();
+	}
+
+	public synchronized LiveWalkStatusDto status() {
+		long elapsed = buffer.startTime() < 0 ? 0 : (buffer.lastTime() - buffer.startTime()) / 1000;
+		return LiveWalkStatusDto.builder()
+				.type(LiveWalkStatusDto.STATUS)
+				.points(buffer.fixCount())
+				.distance((int) Math.round(buffer.distance()))
+				.elapsed_seconds(elapsed)
+				.pace((int) Math.round(buffer.recentPaceSecondsPerKm()))
+				.build();
+	}
+}
@@ -2,6 +2,8 @@ package com.drdoc.BackEnd.api.service;
 
 import java.util.List;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import com.drdoc.BackEnd.api.domain.dto.PetDetailDto;
 import com.drdoc.BackEnd.api.domain.dto.PetKindListDto;
 import com.drdoc.BackEnd.api.domain.dto.PetListDto;
@@ -15,6 +17,7 @@ public interface PetService {
 	void deletePet(int petId, String userId);
 	List<PetListDto> getPetList(String memberId);
 	PetDetailDto getPetDetail(int petId);
+	StreamingResponseBody getReport(int petId, String memberId);
 	List<PetKindListDto> getPetKindList();
 	PetKindListDto getPetKind(int kindId);
 
@@ -1,28 +1,49 @@
 package com.drdoc.BackEnd.api.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
 
 import com.drdoc.BackEnd.api.domain.Kind;
 import com.drdoc.BackEnd.api.domain.Pet;
 import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.WalkRollup;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.dto.JournalReportRow;
 import com.drdoc.BackEnd.api.domain.dto.PetDetailDto;
 import com.drdoc.BackEnd.api.domain.dto.PetKindListDto;
 import com.drdoc.BackEnd.api.domain.dto.PetListDto;
 import com.drdoc.BackEnd.api.domain.dto.PetModifyRequestDto;
 import com.drdoc.BackEnd.api.domain.dto.PetRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.PetReportJournalDto;
+import com.drdoc.BackEnd.api.domain.dto.PetReportLineDto;
+import com.drdoc.BackEnd.api.domain.dto.PetReportWalkTotalDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsDto;
 import com.drdoc.BackEnd.api.repository.PetRepository;
 import com.drdoc.BackEnd.api.repository.JournalRepository;
+import com.drdoc.BackEnd.api.repository.JournalTimelineRepository;
 import com.drdoc.BackEnd.api.repository.PetKindRepository;
 import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.repository.WalkCalendarRepository;
 import com.drdoc.BackEnd.api.repository.WalkPetRepository;
 import com.drdoc.BackEnd.api.repository.WalkRepository;
+import com.drdoc.BackEnd.api.repository.WalkRollupRepository;
+import com.drdoc.BackEnd.api.repository.WalkTotalRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class PetServiceImpl implements PetService {
@@ -39,6 +60,30 @@ public class PetServiceImpl implements PetService {
 	@Autowired
 	private JournalRepository journalRepository;
 
+	@Autowired
+	private WalkTotalRepository walkTotalRepository;
+
+	@Autowired
+	private WalkRollupRepository walkRollupRepository;
+
+	@Autowired
+	private WalkCalendarRepository walkCalendarRepository;
+
+	@Autowired
+	private JournalTimelineRepository journalTimelineRepository;
+
+	@Autowired
+	private WalkLeaderboard walkLeaderboard;
+
+	@Autowired
+	private DiagnosisCache diagnosisCache;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	@Override
 	@Transactional
 	public void registerPet(String userId, PetRegisterRequestDto petRegisterRequestDto) {
@@ -89,6 +134,12 @@ public class PetServiceImpl implements PetService {
 			throw new AccessDeniedException("권한이 없습니다.");
 		petRepository.delete(pet);
 		journalRepository.deleteByPetId(pet.getId());
+		walkTotalRepository.deleteByPetId(pet.getId());
+		walkRollupRepository.deleteByPetId(pet.getId());
+		walkCalendarRepository.deleteByPetId(pet.getId());
+		journalTimelineRepository.deleteByPetId(pet.getId());
+		walkLeaderboard.onPetDeleted(pet.getId());
+		diagnosisCache.evict(pet.getId());
 	}
 
 	@Override
@@ -111,6 +162,64 @@ public class PetServiceImpl implements PetService {
 		return petdetailDto;
 	}
 
+	// 진료용 보고서 (JSON Lines: 반려동물 정보, 전체/월별 산책 집계, 작성순 일지)
+	// 일지는 DB 커서로 한 건씩 읽어 바로 응답에 쓰므로 일지 수와 관계없이 메모리 사용량이 일정하다.
+	@Override
+	public StreamingResponseBody getReport(int petId, String memberId) {
+		// 응답은 다른 스레드에서 쓰므로 권한은 요청 스레드에서 미리 확인
+		User user = userRepository.findByMemberId(memberId)
+				.orElseThrow(() -> new IllegalArgumentException("가입하지 않은 계정입니다."));
+		Pet pet = petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
+		if (user.getId() != pet.getUser().getId())
+			throw new AccessDeniedException("권한이 없습니다.");
+		PetDetailDto detail = getPetDetail(petId);
+		int userId = user.getId();
+		return out -> {
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			writeReportLine(generator, "pet", detail);
+			TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+			readOnly.setReadOnly(true);
+			readOnly.executeWithoutResult(status -> {
+				walkTotalRepository.findById(petId)
+						.ifPresent(total -> writeReportLine(generator, "walk_total", new PetReportWalkTotalDto(total)));
+				for (WalkRollup rollup : walkRollupRepository.findByPetIdAndGranularityOrderByBucketStart(petId,
+						WalkRollupGranularity.MONTH)) {
+					writeReportLine(generator, "walk_month", new WalkStatsDto(rollup));
+				}
+				// 커서를 여는 동안 같은 연결로 다른 쿼리를 실행할 수 없으므로 일지는 마지막에 읽음
+				try (Stream<JournalReportRow> journals = journalRepository.streamReport(userId, petId)) {
+					journals.forEach(row -> writeReportLine(generator, "journal", toReportJournal(row)));
+				}
+			});
+			generator.flush();
+		};
+	}
+
+	private void writeReportLine(JsonGenerator generator, String type, Object data) {
+		try {
+			generator.writeObject(new PetReportLineDto(type, data));
+			generator.writeRaw('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private PetReportJournalDto toReportJournal(JournalReportRow row) {
+		return PetReportJournalDto.builder()
+				.id(row.getId())
+				.created_date(row.getCreatedDate())
+				.part(row.getPart())
+				.symptom(row.getSymptom())
+				.result(row.getResult())
+				.model_version(row.getModelVersion())
+				.picture_url(row.getPicture() == null ? null
+						: "https://" + S3Service.CLOUD_FRONT_DOMAIN_NAME + "/"
+								+ UriUtils.encodePath(row.getPicture(), StandardCharsets.UTF_8))
+				.build();
+	}
+
 	@Override
 	public List<PetKindListDto> getPetKindList() {
 		List<PetKindListDto> list = petTypeRepository.findAll()
@@ -14,7 +14,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.PostConstruct;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
@@ -60,6 +62,22 @@ public class S3Service {
         return fileName;
     }
 
+    // 서버에 임시로 받아둔 파일 업로드 (파일에서 바로 읽어서 보냄)
+    public String upload(String originalFileName, File file) {
+        SimpleDateFormat date = new SimpleDateFormat("yyyyMMddHHmmss");
+        String fileName = date.format(new Date())+"-"+originalFileName;
+
+        s3Client.putObject(new PutObjectRequest(bucket, fileName, file)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+
+        return fileName;
+    }
+
+    // 저장된 파일 읽기 (사용 후 닫아야 함)
+    public InputStream download(String key) {
+        return s3Client.getObject(bucket, key).getObjectContent();
+    }
+
     public void delete(String currentFilePath) throws IOException {
         // key가 존재하면 기존 파일은 삭제
         if ("".equals(currentFilePath) == false && currentFilePath != null) {
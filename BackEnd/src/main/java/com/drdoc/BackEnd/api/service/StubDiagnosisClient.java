@@ -0,0 +1,36 @@
+package com.drdoc.BackEnd.api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// ai.diagnosis.stub=true 일 때 AI 서버 대신 사용하는 로컬 대역 (지정한 시간만큼 기다린 뒤 고정 결과 반환)
+@Component
+@ConditionalOnProperty(name = "ai.diagnosis.stub", havingValue = "true")
+public class StubDiagnosisClient implements DiagnosisClient {
+
+	private final String result;
+	private final long delayMs;
+
+	public StubDiagnosisClient(@Value("${ai.diagnosis.stub-result:정상}") String result,
+			@Value("${ai.diagnosis.stub-delay-ms:1000}") long delayMs) {
+		this.result = result;
+		this.delayMs = delayMs;
+	}
+
+	@Override
+	public String diagnose(String part, byte[] image) {
+		try {
+			Thread.sleep(delayMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("진단이 중단되었습니다.");
+		}
+		return result;
+	}
+
+	@Override
+	public String modelVersion() {
+		return "stub";
+	}
+}
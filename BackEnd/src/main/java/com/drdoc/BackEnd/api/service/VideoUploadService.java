@@ -0,0 +1,25 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadDto;
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadRequestDto;
+
+public interface VideoUploadService {
+
+	// 분할 업로드 시작 (청크 크기와 업로드 id 반환)
+	VideoUploadDto create(VideoUploadRequestDto request) throws IOException;
+
+	// 업로드 상태 조회 (연결이 끊기면 received_bytes, next_chunk부터 이어서 업로드)
+	VideoUploadDto status(String uploadId);
+
+	// index번째 청크 저장 (이미 받은 청크는 다시 쓰지 않고 현재 상태 반환)
+	VideoUploadDto writeChunk(String uploadId, int index, long length, InputStream in) throws IOException;
+
+	// 모든 청크를 받았으면 S3에 저장하고 임시 파일 삭제
+	VideoUploadDto complete(String uploadId);
+
+	// 업로드 취소
+	void cancel(String uploadId) throws IOException;
+}
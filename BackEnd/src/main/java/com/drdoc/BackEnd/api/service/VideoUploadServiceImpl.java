@@ -0,0 +1,237 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.VideoUpload;
+import com.drdoc.BackEnd.api.domain.VideoUploadStatus;
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadDto;
+import com.drdoc.BackEnd.api.domain.dto.VideoUploadRequestDto;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.repository.VideoUploadRepository;
+import com.drdoc.BackEnd.api.util.SecurityUtil;
+
+/**
+ * 행동 인식용 영상 분할 업로드. 업로드를 만들면 서버 임시 폴더에 빈 파일을 만들고,
+ * 청크는 요청 본문을 작은 버퍼로 읽어 파일의 (번호 x 청크 크기) 위치에 바로 쓴 뒤 디스크에 기록하고 나서 받은 바이트 수를 올린다.
+ * 영상 전체를 메모리에 올리지 않고, 연결이 끊기면 받은 바이트 수(next_chunk)부터 이어서 올리면 된다.
+ * 모든 청크를 받으면 임시 파일을 S3에 저장하고 지운다. 오래 멈춘 업로드는 주기적으로 정리한다.
+ */
+@Service
+public class VideoUploadServiceImpl implements VideoUploadService {
+
+	private static final Logger logger = LoggerFactory.getLogger(VideoUploadServiceImpl.class);
+
+	private static final List<String> EXTENSIONS = Arrays.asList(".mp4", ".mov", ".avi");
+	// 요청 본문을 읽어 파일에 쓰는 버퍼 크기
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+	// 한 번에 정리하는 업로드 수
+	private static final int SWEEP_BATCH_SIZE = 100;
+
+	private final VideoUploadRepository videoUploadRepository;
+	private final UserRepository userRepository;
+	private final PetRepository petRepository;
+	private final S3Service s3Service;
+	private final Path spoolDir;
+	private final int chunkSize;
+	private final long maxSize;
+	private final long expireHours;
+
+	public VideoUploadServiceImpl(VideoUploadRepository videoUploadRepository, UserRepository userRepository,
+			PetRepository petRepository, S3Service s3Service,
+			@Value("${video.upload.spool-dir:${java.io.tmpdir}/drdoc-video-upload}") String spoolDir,
+			@Value("${video.upload.chunk-size:8388608}") int chunkSize,
+			@Value("${video.upload.max-size:1073741824}") long maxSize,
+			@Value("${video.upload.expire-hours:24}") long expireHours) throws IOException {
+		this.videoUploadRepository = videoUploadRepository;
+		this.userRepository = userRepository;
+		this.petRepository = petRepository;
+		this.s3Service = s3Service;
+		this.spoolDir = Files.createDirectories(Paths.get(spoolDir));
+		this.chunkSize = chunkSize;
+		this.maxSize = maxSize;
+		this.expireHours = expireHours;
+	}
+
+	@Override
+	public VideoUploadDto create(VideoUploadRequestDto request) throws IOException {
+		User user = getCurrentUser();
+		Pet pet = petRepository.findById(request.getPet_id())
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
+		if (pet.getUser().getId() != user.getId()) {
+			throw new IllegalArgumentException("반려동물에 접근 권한이 없습니다.");
+		}
+		String fileName = request.getFile_name();
+		int dot = fileName.lastIndexOf('.');
+		if (dot < 0 || !EXTENSIONS.contains(fileName.substring(dot).toLowerCase())) {
+			throw new IllegalArgumentException("mp4, mov, avi의 영상 파일만 업로드해주세요.");
+		}
+		if (request.getTotal_size() > maxSize) {
+			throw new IllegalArgumentException("영상 크기 제한은 " + (maxSize / 1024 / 1024) + "MB 입니다.");
+		}
+		VideoUpload upload = new VideoUpload(request, chunkSize, user);
+		Files.createFile(spoolFile(upload.getId()));
+		return new VideoUploadDto(videoUploadRepository.save(upload));
+	}
+
+	@Override
+	public VideoUploadDto status(String uploadId) {
+		return new VideoUploadDto(findMyUpload(uploadId));
+	}
+
+	@Override
+	public VideoUploadDto writeChunk(String uploadId, int index, long length, InputStream in) throws IOException {
+		VideoUpload upload = findMyUpload(uploadId);
+		if (upload.getStatus() != VideoUploadStatus.UPLOADING) {
+			throw new IllegalArgumentException("이미 완료된 업로드입니다.");
+		}
+		if (index < 0 || index >= upload.getChunkCount()) {
+			throw new IllegalArgumentException("청크 번호가 올바르지 않습니다.");
+		}
+		long offset = (long) index * upload.getChunkSize();
+		// 응답을 받지 못해 이미 받은 청크를 다시 보낸 경우
+		if (offset < upload.getReceivedBytes()) {
+			return new VideoUploadDto(upload);
+		}
+		if (offset > upload.getReceivedBytes()) {
+			throw new IllegalArgumentException(new VideoUploadDto(upload).getNext_chunk() + "번 청크부터 이어서 올려주세요.");
+		}
+		long expected = Math.min(upload.getChunkSize(), upload.getTotalSize() - offset);
+		if (length >= 0 && length != expected) {
+			throw new IllegalArgumentException("청크 크기가 올바르지 않습니다.");
+		}
+		write(spoolFile(uploadId), offset, expected, in);
+		// 같은 청크를 동시에 받았으면 먼저 끝난 요청만 반영 (같은 위치에 같은 내용을 썼으므로 파일은 그대로)
+		videoUploadRepository.advance(uploadId, offset, offset + expected, LocalDateTime.now());
+		return new VideoUploadDto(findMyUpload(uploadId));
+	}
+
+	// 요청 본문을 버퍼 크기씩 읽어 position부터 위치 지정 쓰기
+	private void write(Path spool, long position, long length, InputStream in) throws IOException {
+		byte[] buffer = new byte[COPY_BUFFER_SIZE];
+		ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+		long remaining = length;
+		try (FileChannel channel = FileChannel.open(spool, StandardOpenOption.WRITE)) {
+			while (remaining > 0) {
+				int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					throw new IllegalArgumentException("청크를 끝까지 받지 못했습니다.");
+				}
+				wrapped.clear();
+				wrapped.limit(read);
+				while (wrapped.hasRemaining()) {
+					position += channel.write(wrapped, position);
+				}
+				remaining -= read;
+			}
+			if (in.read() >= 0) {
+				throw new IllegalArgumentException("청크 크기가 올바르지 않습니다.");
+			}
+			// 받은 바이트 수를 올리기 전에 디스크에 기록
+			channel.force(false);
+		}
+	}
+
+	@Override
+	public VideoUploadDto complete(String uploadId) {
+		VideoUpload upload = findMyUpload(uploadId);
+		if (upload.getStatus() == VideoUploadStatus.COMPLETED) {
+			return new VideoUploadDto(upload);
+		}
+		if (upload.getReceivedBytes() != upload.getTotalSize()) {
+			throw new IllegalArgumentException("아직 받지 못한 청크가 있습니다.");
+		}
+		if (videoUploadRepository.changeStatus(uploadId, VideoUploadStatus.UPLOADING, VideoUploadStatus.COMPLETING,
+				LocalDateTime.now()) == 0) {
+			throw new IllegalArgumentException("이미 완료 처리 중인 업로드입니다.");
+		}
+		Path spool = spoolFile(uploadId);
+		String video;
+		try {
+			video = s3Service.upload(upload.getFileName(), spool.toFile());
+		} catch (RuntimeException e) {
+			// 임시 파일은 그대로 있으므로 다시 완료 요청 가능
+			videoUploadRepository.changeStatus(uploadId, VideoUploadStatus.COMPLETING, VideoUploadStatus.UPLOADING,
+					LocalDateTime.now());
+			throw e;
+		}
+		upload = findMyUpload(uploadId);
+		upload.complete(video);
+		videoUploadRepository.save(upload);
+		deleteSpool(uploadId);
+		return new VideoUploadDto(upload);
+	}
+
+	@Override
+	public void cancel(String uploadId) throws IOException {
+		VideoUpload upload = findMyUpload(uploadId);
+		if (upload.getStatus() == VideoUploadStatus.COMPLETING) {
+			throw new IllegalArgumentException("완료 처리 중인 업로드는 취소할 수 없습니다.");
+		}
+		videoUploadRepository.delete(upload);
+		Files.deleteIfExists(spoolFile(uploadId));
+	}
+
+	// expire-hours 동안 청크가 들어오지 않은 업로드와 임시 파일 정리
+	@Scheduled(fixedDelayString = "${video.upload.sweep-interval-ms:3600000}")
+	public void sweep() {
+		LocalDateTime before = LocalDateTime.now().minusHours(expireHours);
+		for (VideoUploadStatus status : Arrays.asList(VideoUploadStatus.UPLOADING, VideoUploadStatus.COMPLETING)) {
+			List<String> uploadIds = videoUploadRepository.findIdsByStatusBefore(status, before,
+					PageRequest.of(0, SWEEP_BATCH_SIZE));
+			for (String uploadId : uploadIds) {
+				videoUploadRepository.deleteById(uploadId);
+				deleteSpool(uploadId);
+			}
+			if (!uploadIds.isEmpty()) {
+				logger.info("멈춘 영상 업로드 {}건 정리 ({})", uploadIds.size(), status);
+			}
+		}
+	}
+
+	private void deleteSpool(String uploadId) {
+		try {
+			Files.deleteIfExists(spoolFile(uploadId));
+		} catch (IOException e) {
+			logger.warn("영상 임시 파일 삭제 실패: {} ({})", uploadId, e.getMessage());
+		}
+	}
+
+	private Path spoolFile(String uploadId) {
+		return spoolDir.resolve(uploadId + ".part");
+	}
+
+	private VideoUpload findMyUpload(String uploadId) {
+		VideoUpload upload = videoUploadRepository.findById(uploadId)
+				.orElseThrow(() -> new IllegalArgumentException("업로드를 찾을 수 없습니다."));
+		if (upload.getUser().getId() != getCurrentUser().getId()) {
+			throw new IllegalArgumentException("업로드에 접근 권한이 없습니다.");
+		}
+		return upload;
+	}
+
+	private User getCurrentUser() {
+		String memberId = SecurityUtil.getCurrentUsername();
+		return userRepository.findByMemberId(memberId)
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+	}
+}
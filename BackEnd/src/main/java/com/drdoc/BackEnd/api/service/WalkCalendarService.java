@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.dto.WalkCalendarDto;
+
+public interface WalkCalendarService {
+
+	// 산책 기록 추가 반영 (산책 -> 데려간 반려동물 id 목록)
+	void add(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 산책 기록 제거 반영 (일 단위 집계가 갱신된 뒤에 호출)
+	void subtract(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 월간 산책 달력과 연속 산책 일수
+	WalkCalendarDto get(int petId, int year, int month);
+
+	// 산책 원본 기록으로 모든 반려동물의 달력 재계산
+	int rebuildAll();
+}
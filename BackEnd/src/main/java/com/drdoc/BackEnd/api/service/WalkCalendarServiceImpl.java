@@ -0,0 +1,203 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkCalendar;
+import com.drdoc.BackEnd.api.domain.WalkCalendarId;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.dto.WalkCalendarDto;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.WalkCalendarRepository;
+import com.drdoc.BackEnd.api.repository.WalkPetRepository;
+import com.drdoc.BackEnd.api.repository.WalkRollupRepository;
+import com.drdoc.BackEnd.api.util.DayBitmap;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class WalkCalendarServiceImpl implements WalkCalendarService {
+	private final WalkCalendarRepository walkCalendarRepository;
+	private final WalkRollupRepository walkRollupRepository;
+	private final WalkPetRepository walkPetRepository;
+	private final PetRepository petRepository;
+
+	@Override
+	@Transactional
+	public void add(Map<Walk, List<Integer>> petIdsByWalk) {
+		createMissing(petIdsByWalk);
+		Map<WalkCalendarId, WalkCalendar> calendars = lockCalendars(petIdsByWalk);
+		petIdsByWalk.forEach((walk, petIds) -> {
+			LocalDate date = walk.getStart_time().toLocalDate();
+			for (int petId : petIds) {
+				calendars.computeIfAbsent(new WalkCalendarId(petId, WalkCalendar.monthKey(date)), WalkCalendar::new)
+						.mark(date.getDayOfMonth());
+			}
+		});
+		walkCalendarRepository.saveAll(calendars.values());
+	}
+
+	@Override
+	@Transactional
+	public void subtract(Map<Walk, List<Integer>> petIdsByWalk) {
+		Map<WalkCalendarId, WalkCalendar> calendars = lockCalendars(petIdsByWalk);
+		if (calendars.isEmpty()) {
+			return;
+		}
+		// 같은 날 다른 산책이 남아 있으면 일 단위 집계 행이 남아 있으므로 그날은 그대로 둠
+		Set<Integer> petIds = new HashSet<>();
+		Set<LocalDate> dates = new HashSet<>();
+		petIdsByWalk.forEach((walk, walkPetIds) -> {
+			petIds.addAll(walkPetIds);
+			dates.add(walk.getStart_time().toLocalDate());
+		});
+		Set<String> stillWalked = walkRollupRepository
+				.findByPetIdInAndGranularityAndBucketStartIn(petIds, WalkRollupGranularity.DAY, dates).stream()
+				.map(rollup -> rollup.getPetId() + ":" + rollup.getBucketStart()).collect(Collectors.toSet());
+
+		petIdsByWalk.forEach((walk, walkPetIds) -> {
+			LocalDate date = walk.getStart_time().toLocalDate();
+			for (int petId : walkPetIds) {
+				WalkCalendar calendar = calendars.get(new WalkCalendarId(petId, WalkCalendar.monthKey(date)));
+				if (calendar != null && !stillWalked.contains(petId + ":" + date)) {
+					calendar.unmark(date.getDayOfMonth());
+				}
+			}
+		});
+		walkCalendarRepository.deleteAll(
+				calendars.values().stream().filter(calendar -> calendar.getDays() == 0).collect(Collectors.toList()));
+	}
+
+	@Override
+	public WalkCalendarDto get(int petId, int year, int month) {
+		if (month < 1 || month > 12) {
+			throw new IllegalArgumentException("월은 1 ~ 12 사이여야 합니다.");
+		}
+		// 가장 긴 연속 산책은 전체 기간에서 찾아야 하므로 산책한 달의 행(한 해에 최대 12개)을 모두 읽어서 계산
+		List<WalkCalendar> calendars = walkCalendarRepository.findByPetIdOrderByMonthKey(petId);
+		if (calendars.isEmpty()) {
+			petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
+		}
+		Map<Integer, Integer> daysByMonth = calendars.stream()
+				.collect(Collectors.toMap(WalkCalendar::getMonthKey, WalkCalendar::getDays));
+		int days = daysByMonth.getOrDefault(WalkCalendar.monthKey(YearMonth.of(year, month)), 0);
+		return WalkCalendarDto.builder()
+				.year(year)
+				.month(month)
+				.days(days)
+				.walked_days(DayBitmap.days(days))
+				.current_streak(currentStreak(daysByMonth, LocalDate.now()))
+				.longest_streak(longestStreak(calendars))
+				.build();
+	}
+
+	// 오늘까지 연속 산책 일수 (오늘 아직 산책 전이면 어제까지)
+	private int currentStreak(Map<Integer, Integer> daysByMonth, LocalDate today) {
+		LocalDate day = today;
+		if ((daysByMonth.getOrDefault(WalkCalendar.monthKey(today), 0) & (1 << (today.getDayOfMonth() - 1))) == 0) {
+			day = today.minusDays(1);
+		}
+		int streak = 0;
+		while (true) {
+			int bits = daysByMonth.getOrDefault(WalkCalendar.monthKey(day), 0);
+			int run = DayBitmap.runEndingAt(bits, day.getDayOfMonth());
+			streak += run;
+			if (run < day.getDayOfMonth()) {
+				return streak;
+			}
+			// 1일까지 모두 산책했으면 지난달 말일부터 이어서
+			day = day.withDayOfMonth(1).minusDays(1);
+		}
+	}
+
+	// 가장 긴 연속 산책 일수 (달 경계를 넘는 구간은 지난달 끝 구간 + 이번 달 처음 구간으로 이어 붙임)
+	private int longestStreak(List<WalkCalendar> calendars) {
+		int longest = 0;
+		int carry = 0;
+		YearMonth previous = null;
+		for (WalkCalendar calendar : calendars) {
+			YearMonth yearMonth = calendar.getYearMonth();
+			int length = yearMonth.lengthOfMonth();
+			int bits = calendar.getDays();
+			if (previous == null || !previous.plusMonths(1).equals(yearMonth)) {
+				carry = 0;
+			}
+			int leading = DayBitmap.leadingRun(bits);
+			if (leading >= length) {
+				carry += length;
+				longest = Math.max(longest, carry);
+			} else {
+				longest = Math.max(longest, Math.max(carry + leading, DayBitmap.longestRun(bits)));
+				carry = DayBitmap.runEndingAt(bits, length);
+			}
+			previous = yearMonth;
+		}
+		return longest;
+	}
+
+	@Override
+	@Transactional
+	public int rebuildAll() {
+		walkCalendarRepository.deleteAllInBatch();
+		List<Integer> petIds = petRepository.findAll().stream().map(Pet::getId).collect(Collectors.toList());
+		for (int petId : petIds) {
+			Map<WalkCalendarId, WalkCalendar> calendars = new HashMap<>();
+			for (Walk walk : walkPetRepository.findWalksByPetId(petId)) {
+				LocalDate date = walk.getStart_time().toLocalDate();
+				calendars.computeIfAbsent(new WalkCalendarId(petId, WalkCalendar.monthKey(date)), WalkCalendar::new)
+						.mark(date.getDayOfMonth());
+			}
+			walkCalendarRepository.saveAll(calendars.values());
+		}
+		return petIds.size();
+	}
+
+	// 처음 산책한 달은 잠글 행이 없어 동시에 저장하면 중복 키 오류가 나므로 빈 행을 먼저 만듦
+	// (이미 있으면 그 행이 잠기므로 교착 상태를 피하려고 키 순서대로)
+	private void createMissing(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<WalkCalendarId> ids = new TreeSet<>(
+				Comparator.comparing(WalkCalendarId::getPetId).thenComparing(WalkCalendarId::getMonthKey));
+		petIdsByWalk.forEach((walk, petIds) -> {
+			int monthKey = WalkCalendar.monthKey(walk.getStart_time().toLocalDate());
+			for (int petId : petIds) {
+				ids.add(new WalkCalendarId(petId, monthKey));
+			}
+		});
+		for (WalkCalendarId id : ids) {
+			walkCalendarRepository.insertIfAbsent(id.getPetId(), id.getMonthKey());
+		}
+	}
+
+	private Map<WalkCalendarId, WalkCalendar> lockCalendars(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<Integer> petIds = new HashSet<>();
+		Set<Integer> monthKeys = new HashSet<>();
+		petIdsByWalk.forEach((walk, walkPetIds) -> {
+			if (walkPetIds.isEmpty()) {
+				return;
+			}
+			petIds.addAll(walkPetIds);
+			monthKeys.add(WalkCalendar.monthKey(walk.getStart_time().toLocalDate()));
+		});
+		if (petIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return walkCalendarRepository.findAllForUpdate(petIds, monthKeys).stream()
+				.collect(Collectors.toMap(WalkCalendar::getId, Function.identity()));
+	}
+}
@@ -0,0 +1,17 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.drdoc.BackEnd.api.domain.dto.WalkImportResultDto;
+
+public interface WalkGpxService {
+
+	// 내 산책 기록 전체를 GPX로 내보내기 (응답에 바로 쓰면서 조회)
+	StreamingResponseBody export();
+
+	// GPX 파일의 트랙을 산책 기록으로 가져오기 (트랙마다 산책 1개, 데려간 반려동물은 petIds)
+	WalkImportResultDto importGpx(InputStream in, List<Integer> petIds);
+}
@@ -0,0 +1,384 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkTrack;
+import com.drdoc.BackEnd.api.domain.dto.WalkImportResultDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncItemDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncResultDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkTrackDto;
+import com.drdoc.BackEnd.api.repository.UserRepository;
+import com.drdoc.BackEnd.api.repository.WalkRepository;
+import com.drdoc.BackEnd.api.repository.WalkTrackRepository;
+import com.drdoc.BackEnd.api.util.GeoUtil;
+import com.drdoc.BackEnd.api.util.SecurityUtil;
+import com.drdoc.BackEnd.api.util.TrackCodec;
+import com.drdoc.BackEnd.api.util.TrackPoints;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GPX 1.1 내보내기/가져오기. 둘 다 StAX로 처리해서 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * 산책 하나 = trk 하나. 경로가 없는 산책도 trk로 내보내고, 산책 시간/거리/client_id는 trk extensions에 기록해서
+ * 가져올 때 그대로 복원한다. 가져오기는 산책 일괄 동기화(client_id 기준 중복 제외)를 배치 단위로 호출한다.
+ * client_id가 없는 산책(앱에서 바로 등록한 산책, 다른 앱의 GPX)은 client_id 없이 내보내고,
+ * 가져올 때 시작/종료 시간이 같은 산책이 이미 있으면 중복으로 본다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WalkGpxServiceImpl implements WalkGpxService {
+	private static final String GPX_NS = "http://www.topografix.com/GPX/1/1";
+	private static final String WALK_NS = "urn:drdoc:walk:1";
+	private static final String WALK_PREFIX = "walk";
+	// 예전 내보내기가 client_id 없는 산책에 붙이던 값 ("walk-" + 산책 id)은 client_id가 없는 것으로 취급
+	private static final String LEGACY_EXPORT_ID = "walk-\\d+";
+
+	// 내보낼 때 한 번에 읽는 산책 수
+	private static final int EXPORT_PAGE_SIZE = 100;
+	// 가져올 때 한 번에 저장하는 산책 수, 좌표 수
+	private static final int IMPORT_BATCH_SIZE = 100;
+	private static final int IMPORT_BATCH_POINTS = 200000;
+
+	private final UserRepository userRepository;
+	private final WalkRepository walkRepository;
+	private final WalkTrackRepository walkTrackRepository;
+	private final WalkService walkService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public StreamingResponseBody export() {
+		// 응답은 다른 스레드에서 쓰므로 사용자는 요청 스레드에서 미리 확인
+		User user = userRepository.findByMemberId(SecurityUtil.getCurrentUsername())
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		return out -> {
+			try {
+				XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+				writer.writeStartDocument("UTF-8", "1.0");
+				writer.setDefaultNamespace(GPX_NS);
+				writer.setPrefix(WALK_PREFIX, WALK_NS);
+				writer.writeStartElement(GPX_NS, "gpx");
+				writer.writeDefaultNamespace(GPX_NS);
+				writer.writeNamespace(WALK_PREFIX, WALK_NS);
+				writer.writeAttribute("version", "1.1");
+				writer.writeAttribute("creator", "DrDoc");
+
+				// id 순 keyset 페이지로 읽고, 페이지마다 영속성 컨텍스트를 비워 조회한 엔티티가 쌓이지 않게 함
+				int lastId = 0;
+				while (true) {
+					Slice<Walk> walks = walkRepository.findByUserAndIdGreaterThan(user, lastId,
+							PageRequest.of(0, EXPORT_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+					if (walks.isEmpty()) {
+						break;
+					}
+					List<Integer> walkIds = walks.stream().map(Walk::getId).collect(Collectors.toList());
+					Map<Integer, WalkTrack> tracks = walkTrackRepository.findAllById(walkIds).stream()
+							.collect(Collectors.toMap(WalkTrack::getWalkId, Function.identity()));
+					for (Walk walk : walks) {
+						WalkTrack track = tracks.get(walk.getId());
+						writeTrack(writer, walk, track == null ? null : track.getPoints());
+					}
+					writer.flush();
+					entityManager.clear();
+					if (!walks.hasNext()) {
+						break;
+					}
+					lastId = walkIds.get(walkIds.size() - 1);
+				}
+
+				writer.writeEndElement();
+				writer.writeEndDocument();
+				writer.flush();
+				writer.close();
+			} catch (XMLStreamException e) {
+				throw new IllegalStateException("GPX 파일을 만드는 중 오류가 발생했습니다.", e);
+			}
+		};
+	}
+
+	private void writeTrack(XMLStreamWriter writer, Walk walk, TrackPoints points) throws XMLStreamException {
+		writer.writeStartElement(GPX_NS, "trk");
+		writeText(writer, GPX_NS, "name", "산책 " + walk.getStart_time().toLocalDate());
+		writeText(writer, GPX_NS, "type", "walk");
+		writer.writeStartElement(GPX_NS, "extensions");
+		if (walk.getClientId() != null) {
+			writeText(writer, WALK_NS, "client_id", walk.getClientId());
+		}
+		writeText(writer, WALK_NS, "start_time", toInstant(walk.getStart_time()).toString());
+		writeText(writer, WALK_NS, "end_time", toInstant(walk.getEnd_time()).toString());
+		writeText(writer, WALK_NS, "distance", String.valueOf(walk.getDistance()));
+		writer.writeEndElement();
+		if (points != null && points.size() > 0) {
+			writer.writeStartElement(GPX_NS, "trkseg");
+			for (int i = 0; i < points.size(); i++) {
+				writer.writeStartElement(GPX_NS, "trkpt");
+				writer.writeAttribute("lat", String.valueOf(points.lat(i)));
+				writer.writeAttribute("lon", String.valueOf(points.lon(i)));
+				writeText(writer, GPX_NS, "time", Instant.ofEpochMilli(points.time(i)).toString());
+				writer.writeEndElement();
+			}
+			writer.writeEndElement();
+		}
+		writer.writeEndElement();
+	}
+
+	private void writeText(XMLStreamWriter writer, String namespace, String name, String text) throws XMLStreamException {
+		writer.writeStartElement(namespace, name);
+		writer.writeCharacters(text);
+		writer.writeEndElement();
+	}
+
+	@Override
+	public WalkImportResultDto importGpx(InputStream in, List<Integer> petIds) {
+		if (petIds == null || petIds.isEmpty()) {
+			throw new IllegalArgumentException("해당 산책에 데려간 반려동물이 없습니다.");
+		}
+		WalkImportResultDto result = new WalkImportResultDto();
+		List<WalkSyncItemDto> batch = new ArrayList<>();
+		int batchPoints = 0;
+		XMLStreamReader reader = null;
+		try {
+			reader = createReader(in);
+			ParsedTrack track = null;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					String name = reader.getLocalName();
+					if ("trk".equals(name)) {
+						track = new ParsedTrack();
+					} else if (track == null) {
+						continue;
+					} else if ("trkpt".equals(name)) {
+						track.startPoint(reader.getAttributeValue(null, "lat"), reader.getAttributeValue(null, "lon"));
+					} else if ("time".equals(name) && track.inPoint) {
+						track.pointTime = parseInstant(reader.getElementText());
+					} else if (WALK_NS.equals(reader.getNamespaceURI())) {
+						track.readExtension(name, reader.getElementText());
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT && track != null) {
+					String name = reader.getLocalName();
+					if ("trkpt".equals(name)) {
+						track.endPoint();
+					} else if ("trk".equals(name)) {
+						batchPoints += track.size;
+						batch.add(track.toSyncItem(petIds));
+						track = null;
+						// 트랙 수나 좌표 수가 차면 저장하고 비움
+						if (batch.size() >= IMPORT_BATCH_SIZE || batchPoints >= IMPORT_BATCH_POINTS) {
+							flush(batch, result);
+							batchPoints = 0;
+						}
+					}
+				}
+			}
+			flush(batch, result);
+		} catch (XMLStreamException e) {
+			throw new IllegalArgumentException("GPX 파일 형식이 올바르지 않습니다.");
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException ignored) {
+				}
+			}
+		}
+		return result;
+	}
+
+	// 외부 엔티티, DTD는 처리하지 않음 (XXE 방지)
+	private XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		return factory.createXMLStreamReader(in);
+	}
+
+	// 모아둔 트랙을 일괄 동기화로 저장 (client_id로 중복 제외, 배치마다 커밋)
+	private void flush(List<WalkSyncItemDto> batch, WalkImportResultDto result) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<WalkSyncItemDto> valid = new ArrayList<>();
+		List<WalkSyncItemDto> withoutClientId = new ArrayList<>();
+		for (WalkSyncItemDto item : batch) {
+			if (item.getWalk() == null) {
+				result.addFailure(WalkSyncResultDto.failed(item.getClient_id(), "산책 시간을 알 수 없는 트랙입니다."));
+			} else if (item.getClient_id() == null) {
+				withoutClientId.add(item);
+			} else {
+				valid.add(item);
+			}
+		}
+		if (!withoutClientId.isEmpty()) {
+			valid.addAll(excludeSameTimeWalks(withoutClientId, result));
+		}
+		if (!valid.isEmpty()) {
+			walkService.sync(new WalkSyncRequestDto(valid)).forEach(result::add);
+		}
+		batch.clear();
+		entityManager.clear();
+	}
+
+	// client_id가 없는 트랙은 시작/종료 시간이 같은 산책이 이미 있으면 중복, 없으면 시작 시간으로 client_id를 만들어 등록
+	// (한 번 가져온 트랙은 만든 client_id로 다시 내보내지므로 이후에는 client_id로 중복 제외)
+	private List<WalkSyncItemDto> excludeSameTimeWalks(List<WalkSyncItemDto> items, WalkImportResultDto result) {
+		User user = userRepository.findByMemberId(SecurityUtil.getCurrentUsername())
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		Set<LocalDateTime> startTimes = items.stream().map(item -> item.getWalk().getStart_time())
+				.collect(Collectors.toSet());
+		Map<List<LocalDateTime>, Integer> existing = new HashMap<>();
+		for (Walk walk : walkRepository.findByUserAndStartTimeIn(user, startTimes)) {
+			existing.putIfAbsent(Arrays.asList(walk.getStart_time(), walk.getEnd_time()), walk.getId());
+		}
+		List<WalkSyncItemDto> remaining = new ArrayList<>();
+		for (WalkSyncItemDto item : items) {
+			WalkRegisterRequestDto walk = item.getWalk();
+			Integer walkId = existing.get(Arrays.asList(walk.getStart_time(), walk.getEnd_time()));
+			if (walkId != null) {
+				WalkSyncResultDto duplicate = WalkSyncResultDto.of(null, WalkSyncResultDto.DUPLICATE);
+				duplicate.setWalk_id(walkId);
+				result.add(duplicate);
+			} else {
+				item.setClient_id("gpx-" + toInstant(walk.getStart_time()).toEpochMilli());
+				remaining.add(item);
+			}
+		}
+		return remaining;
+	}
+
+	private static Instant toInstant(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant();
+	}
+
+	private static LocalDateTime toLocalDateTime(Instant instant) {
+		return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+	}
+
+	private static Instant parseInstant(String text) {
+		try {
+			return Instant.parse(text.trim());
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	// 읽는 중인 trk 하나 (좌표는 primitive 배열에 모음)
+	private static class ParsedTrack {
+		private double[] lats = new double[256];
+		private double[] lons = new double[256];
+		private long[] times = new long[256];
+		private int size;
+		private double distance;
+
+		private boolean inPoint;
+		private double pointLat;
+		private double pointLon;
+		private Instant pointTime;
+
+		private String clientId;
+		private Instant startTime;
+		private Instant endTime;
+		private Integer walkDistance;
+
+		void startPoint(String lat, String lon) {
+			inPoint = true;
+			pointTime = null;
+			try {
+				pointLat = Double.parseDouble(lat);
+				pointLon = Double.parseDouble(lon);
+			} catch (NullPointerException | NumberFormatException e) {
+				pointLat = Double.NaN;
+			}
+		}
+
+		// 시간이 없거나 좌표가 잘못된 점, 최대 좌표 수를 넘는 점은 버림
+		void endPoint() {
+			inPoint = false;
+			if (pointTime == null || Double.isNaN(pointLat) || !GeoUtil.isValid(pointLat, pointLon)
+					|| size >= TrackCodec.MAX_POINTS) {
+				return;
+			}
+			if (size == lats.length) {
+				int capacity = Math.min(size * 2, TrackCodec.MAX_POINTS);
+				lats = Arrays.copyOf(lats, capacity);
+				lons = Arrays.copyOf(lons, capacity);
+				times = Arrays.copyOf(times, capacity);
+			}
+			if (size > 0) {
+				distance += GeoUtil.haversineMeters(lats[size - 1], lons[size - 1], pointLat, pointLon);
+			}
+			lats[size] = pointLat;
+			lons[size] = pointLon;
+			times[size] = pointTime.toEpochMilli();
+			size++;
+		}
+
+		void readExtension(String name, String text) {
+			if ("client_id".equals(name)) {
+				clientId = text.trim();
+			} else if ("start_time".equals(name)) {
+				startTime = parseInstant(text);
+			} else if ("end_time".equals(name)) {
+				endTime = parseInstant(text);
+			} else if ("distance".equals(name)) {
+				try {
+					walkDistance = Integer.valueOf(text.trim());
+				} catch (NumberFormatException ignored) {
+				}
+			}
+		}
+
+		// 산책 시간, 거리는 extensions 값이 있으면 사용하고 없으면 좌표로 계산
+		WalkSyncItemDto toSyncItem(List<Integer> petIds) {
+			Instant start = startTime != null ? startTime : size > 0 ? Instant.ofEpochMilli(times[0]) : null;
+			Instant end = endTime != null ? endTime : size > 0 ? Instant.ofEpochMilli(times[size - 1]) : null;
+			// client_id가 없으면 저장할 때 시작/종료 시간으로 중복 확인
+			String id = clientId != null && !clientId.isEmpty() && !clientId.matches(LEGACY_EXPORT_ID) ? clientId : null;
+			if (start == null || end == null) {
+				return new WalkSyncItemDto(id, null);
+			}
+			WalkRegisterRequestDto walk = WalkRegisterRequestDto.builder()
+					.start_time(toLocalDateTime(start))
+					.end_time(toLocalDateTime(end))
+					.distance(walkDistance != null ? walkDistance : (int) Math.round(distance))
+					.pet_ids(new ArrayList<>(petIds))
+					.track(size > 0 ? new WalkTrackDto(Arrays.copyOf(lats, size), Arrays.copyOf(lons, size),
+							Arrays.copyOf(times, size)) : null)
+					.build();
+			return new WalkSyncItemDto(id, walk);
+		}
+	}
+}
@@ -0,0 +1,451 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.drdoc.BackEnd.api.domain.WalkTrack;
+import com.drdoc.BackEnd.api.repository.WalkTrackRepository;
+import com.drdoc.BackEnd.api.util.GeoHash;
+import com.drdoc.BackEnd.api.util.GeoUtil;
+import com.drdoc.BackEnd.api.util.TrackCodec;
+import com.drdoc.BackEnd.api.util.TrackPoints;
+
+/**
+ * 산책 경로가 지나간 geohash 셀(정밀도 7, 약 150m)별 통과 횟수 인덱스 (전체 사용자 기준).
+ * - 셀은 상위 셀(정밀도 5, 약 5km)로 묶어두고, 주변 조회는 상위 셀 3x3만 훑는다.
+ * - 갱신은 커밋 후 전용 스레드 하나에서만 하고(쓰기 스레드 1개), 조회는 요청 스레드에서 메모리만 읽는다.
+ * - 주기적으로 디스크에 스냅샷을 남기고, 재시작하면 스냅샷 이후 저장된 경로만 다시 반영한다.
+ *   산책 id는 pooled 생성기가 미리 나눠준 값이라 커밋 순서와 다르므로 경로 저장 시각으로 이어서 읽는다.
+ *   스냅샷 시각에서 commit-lag만큼 앞선 시각부터 다시 읽고, 그 사이에 이미 반영한 산책은 id로 걸러낸다.
+ * 셀 수가 최대치에 도달하면 새 셀은 더 만들지 않는다 (기존 셀 통과 횟수는 계속 갱신).
+ * 산책 삭제는 반영하지 않는다 (인기 구간 통계라 누적 통과 횟수로 충분하고, 대표 경로 조회 시 없는 산책은 제외됨).
+ */
+@Component
+public class WalkHeatIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(WalkHeatIndex.class);
+
+	public static final int CELL_PRECISION = 7;
+	private static final int PARENT_PRECISION = 5;
+	private static final int PARENT_SHIFT = 5 * (CELL_PRECISION - PARENT_PRECISION);
+	// 이보다 멀리 떨어진 연속 좌표 사이는 보간해서 지나간 셀을 빠뜨리지 않음 (셀 크기의 절반)
+	private static final double STEP_METERS = 75;
+	// 이보다 먼 연속 좌표는 GPS 튐으로 보고 보간하지 않음
+	private static final double MAX_INTERPOLATE_METERS = 2000;
+	// 셀마다 기억하는 최근 산책 수 (대표 경로 후보)
+	private static final int SAMPLES_PER_CELL = 4;
+	private static final int SNAPSHOT_VERSION = 2;
+	private static final int REBUILD_PAGE_SIZE = 200;
+
+	private final WalkTrackRepository walkTrackRepository;
+	private final Path snapshotPath;
+	private final int maxCells;
+	// 경로를 저장하고 커밋하기까지 걸릴 수 있는 최대 시간 (서버 간 시계 차이 포함)
+	private final Duration commitLag;
+	// 상위 셀 -> (셀 -> 통과 횟수)
+	private final Map<Long, Map<Long, HeatCell>> parents = new ConcurrentHashMap<>();
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "walk-heat-index");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// 아래 값은 쓰기 스레드에서만 변경
+	private volatile int cellCount;
+	private volatile boolean dirty;
+	// 이 시각 이후 저장된 경로부터 다시 읽음 (스냅샷에서 복원)
+	private LocalDateTime resumeFrom;
+	// 최근 commitLag 안에 저장되어 이미 반영한 산책 id -> 저장 시각 (다시 읽어도 두 번 세지 않도록)
+	private final Map<Integer, LocalDateTime> recent = new HashMap<>();
+
+	public WalkHeatIndex(WalkTrackRepository walkTrackRepository,
+			@Value("${walk.heat-index.snapshot-path:./data/walk-heat-index.bin}") String snapshotPath,
+			@Value("${walk.heat-index.max-cells:1000000}") int maxCells,
+			@Value("${walk.heat-index.commit-lag-ms:600000}") long commitLagMs) {
+		this.walkTrackRepository = walkTrackRepository;
+		this.snapshotPath = Paths.get(snapshotPath);
+		this.maxCells = maxCells;
+		this.commitLag = Duration.ofMillis(commitLagMs);
+	}
+
+	// 서버 시작 시 스냅샷을 읽고 이후 등록된 경로만 반영 (스냅샷이 없으면 전체 재구성)
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		writer.submit(() -> {
+			long started = System.currentTimeMillis();
+			boolean loaded = loadSnapshot();
+			int walks = loaded ? catchUp() : rebuild();
+			logger.info("산책 인기 구간 인덱스 로딩 완료: 스냅샷 {}, 추가 반영 {}건, 셀 {}개, {}ms", loaded ? "사용" : "없음", walks,
+					cellCount, System.currentTimeMillis() - started);
+		});
+	}
+
+	// 경로 저장 후 호출 (커밋된 뒤에 쓰기 스레드에서 반영)
+	public void onTracksSaved(List<WalkTrack> tracks) {
+		if (tracks.isEmpty()) {
+			return;
+		}
+		Map<Integer, byte[]> encoded = new HashMap<>();
+		Map<Integer, LocalDateTime> createdDates = new HashMap<>();
+		tracks.forEach(track -> {
+			encoded.put(track.getWalk().getId(), track.getTrack());
+			createdDates.put(track.getWalk().getId(), track.getCreated_date());
+		});
+		Runnable apply = () -> writer.submit(() -> encoded.forEach((walkId, track) -> {
+			try {
+				add(walkId, createdDates.get(walkId), TrackCodec.decode(track));
+			} catch (RuntimeException e) {
+				logger.warn("산책 인기 구간 반영 실패: walkId={}, {}", walkId, e.getMessage());
+			}
+		}));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		} else {
+			apply.run();
+		}
+	}
+
+	// 주변(상위 셀 3x3) 통과 횟수 상위 k개 셀
+	public List<HeatCell> top(double lat, double lon, int k) {
+		long parent = GeoHash.encode(lat, lon, PARENT_PRECISION);
+		PriorityQueue<HeatCell> heap = new PriorityQueue<>(k + 1, Comparator.comparingInt(HeatCell::getCount));
+		for (long neighbor : GeoHash.neighbors(parent, PARENT_PRECISION)) {
+			Map<Long, HeatCell> cells = parents.get(neighbor);
+			if (cells == null) {
+				continue;
+			}
+			for (HeatCell cell : cells.values()) {
+				if (heap.size() < k) {
+					heap.add(cell);
+				} else if (cell.getCount() > heap.peek().getCount()) {
+					heap.poll();
+					heap.add(cell);
+				}
+			}
+		}
+		List<HeatCell> result = new ArrayList<>(heap);
+		result.sort(Comparator.comparingInt(HeatCell::getCount).reversed());
+		return result;
+	}
+
+	// 상위 셀들을 가장 많이 지나간 산책 id (대표 경로 후보)
+	public List<Integer> representativeWalkIds(List<HeatCell> cells, int limit) {
+		Map<Integer, Integer> scores = new HashMap<>();
+		for (HeatCell cell : cells) {
+			for (int walkId : cell.getSamples()) {
+				scores.merge(walkId, 1, Integer::sum);
+			}
+		}
+		// 겹치는 셀이 많은 순, 같으면 최근 산책(큰 id) 순
+		return scores.entrySet().stream()
+				.sorted((a, b) -> !a.getValue().equals(b.getValue()) ? Integer.compare(b.getValue(), a.getValue())
+						: Integer.compare(b.getKey(), a.getKey()))
+				.limit(limit).map(Map.Entry::getKey).collect(Collectors.toList());
+	}
+
+	// 쓰기 스레드에서만 호출. 한 산책이 같은 셀을 여러 번 지나도 1번으로 셈
+	private void add(int walkId, LocalDateTime createdDate, TrackPoints points) {
+		if (recent.containsKey(walkId)) {
+			return;
+		}
+		// 재구성/이어서 반영 중에 커밋된 경로는 조회와 커밋 후 반영 양쪽으로 들어올 수 있음
+		if (createdDate != null && !createdDate.isBefore(LocalDateTime.now().minus(commitLag))) {
+			recent.put(walkId, createdDate);
+		}
+		long[] cells = cellsOf(points);
+		long previous = Long.MIN_VALUE;
+		for (long cell : cells) {
+			if (cell == previous) {
+				continue;
+			}
+			previous = cell;
+			Map<Long, HeatCell> siblings = parents.computeIfAbsent(cell >>> PARENT_SHIFT, key -> new ConcurrentHashMap<>());
+			HeatCell heatCell = siblings.get(cell);
+			if (heatCell == null) {
+				if (cellCount >= maxCells) {
+					continue;
+				}
+				heatCell = new HeatCell(cell);
+				siblings.put(cell, heatCell);
+				cellCount++;
+			}
+			heatCell.add(walkId);
+		}
+		dirty = true;
+	}
+
+	// 경로가 지나간 셀 (정렬됨, 중복 포함)
+	private long[] cellsOf(TrackPoints points) {
+		long[] cells = new long[Math.max(16, points.size() * 2)];
+		int size = 0;
+		for (int i = 0; i < points.size(); i++) {
+			int steps = 1;
+			if (i > 0) {
+				double distance = GeoUtil.haversineMeters(points.lat(i - 1), points.lon(i - 1), points.lat(i), points.lon(i));
+				if (distance <= MAX_INTERPOLATE_METERS) {
+					steps = Math.max(1, (int) Math.ceil(distance / STEP_METERS));
+				}
+			}
+			for (int step = 1; step <= steps; step++) {
+				double ratio = (double) step / steps;
+				double lat = i == 0 ? points.lat(i) : points.lat(i - 1) + (points.lat(i) - points.lat(i - 1)) * ratio;
+				double lon = i == 0 ? points.lon(i) : points.lon(i - 1) + (points.lon(i) - points.lon(i - 1)) * ratio;
+				if (size == cells.length) {
+					cells = Arrays.copyOf(cells, size * 2);
+				}
+				cells[size++] = GeoHash.encode(lat, lon, CELL_PRECISION);
+			}
+		}
+		long[] result = Arrays.copyOf(cells, size);
+		Arrays.sort(result);
+		return result;
+	}
+
+	// 스냅샷이 없으면 전체 경로를 산책 id 순으로 읽어 재구성
+	private int rebuild() {
+		int count = 0;
+		int after = 0;
+		while (true) {
+			Slice<WalkTrack> tracks = walkTrackRepository.findByWalkIdGreaterThan(after,
+					PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "walkId")));
+			for (WalkTrack track : tracks) {
+				add(track.getWalkId(), track.getCreated_date(), track.getPoints());
+				after = track.getWalkId();
+				count++;
+			}
+			if (!tracks.hasNext()) {
+				return count;
+			}
+		}
+	}
+
+	// 스냅샷의 resumeFrom 이후 저장된 경로를 (저장 시각, 산책 id) 순으로 읽어 반영 (이미 반영한 산책은 add에서 제외)
+	private int catchUp() {
+		int count = 0;
+		LocalDateTime time = resumeFrom;
+		int walkId = 0;
+		while (true) {
+			Slice<WalkTrack> tracks = walkTrackRepository.findCreatedAfter(time, walkId,
+					PageRequest.of(0, REBUILD_PAGE_SIZE));
+			for (WalkTrack track : tracks) {
+				add(track.getWalkId(), track.getCreated_date(), track.getPoints());
+				time = track.getCreated_date();
+				walkId = track.getWalkId();
+				count++;
+			}
+			if (!tracks.hasNext()) {
+				return count;
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${walk.heat-index.snapshot-interval-ms:600000}", initialDelayString = "${walk.heat-index.snapshot-interval-ms:600000}")
+	public void scheduleSnapshot() {
+		if (dirty) {
+			writer.submit(this::writeSnapshot);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		if (dirty) {
+			writer.submit(this::writeSnapshot);
+		}
+		writer.shutdown();
+		writer.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	// 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료되어도 이전 스냅샷은 그대로)
+	private void writeSnapshot() {
+		try {
+			if (snapshotPath.toAbsolutePath().getParent() != null) {
+				Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+			}
+			Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+			List<HeatCell> cells = new ArrayList<>();
+			parents.values().forEach(siblings -> cells.addAll(siblings.values()));
+			// 지금 커밋되지 않은 경로는 이 시각 이후에 저장된 것이므로 다음 시작 때 여기서부터 다시 읽음
+			LocalDateTime resume = LocalDateTime.now().minus(commitLag);
+			recent.values().removeIf(createdDate -> createdDate.isBefore(resume));
+			try (OutputStream file = Files.newOutputStream(temp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+				out.writeInt(SNAPSHOT_VERSION);
+				out.writeLong(toEpochMilli(resume));
+				out.writeInt(cells.size());
+				for (HeatCell cell : cells) {
+					cell.write(out);
+				}
+				out.writeInt(recent.size());
+				for (Map.Entry<Integer, LocalDateTime> entry : recent.entrySet()) {
+					out.writeInt(entry.getKey());
+					out.writeLong(toEpochMilli(entry.getValue()));
+				}
+			}
+			Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			dirty = false;
+			logger.info("산책 인기 구간 스냅샷 저장: 셀 {}개", cells.size());
+		} catch (IOException e) {
+			logger.warn("산책 인기 구간 스냅샷 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	private boolean loadSnapshot() {
+		if (!Files.exists(snapshotPath)) {
+			return false;
+		}
+		try (InputStream file = Files.newInputStream(snapshotPath);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+			if (in.readInt() != SNAPSHOT_VERSION) {
+				return false;
+			}
+			LocalDateTime resume = toLocalDateTime(in.readLong());
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				HeatCell cell = HeatCell.read(in);
+				parents.computeIfAbsent(cell.getCell() >>> PARENT_SHIFT, key -> new ConcurrentHashMap<>()).put(cell.getCell(),
+						cell);
+			}
+			int recentCount = in.readInt();
+			for (int i = 0; i < recentCount; i++) {
+				recent.put(in.readInt(), toLocalDateTime(in.readLong()));
+			}
+			cellCount = count;
+			resumeFrom = resume;
+			return true;
+		} catch (IOException e) {
+			// 깨진 스냅샷은 버리고 전체 재구성
+			logger.warn("산책 인기 구간 스냅샷을 읽을 수 없어 다시 만듭니다: {}", e.getMessage());
+			parents.clear();
+			recent.clear();
+			cellCount = 0;
+			return false;
+		}
+	}
+
+	private static long toEpochMilli(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMilli) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+	}
+
+	// 셀 하나의 통과 횟수와 최근 통과한 산책 id
+	public static class HeatCell {
+		private final long cell;
+		private volatile int count;
+		private final int[] samples = new int[SAMPLES_PER_CELL];
+		private int sampleSize;
+		private int sampleHead;
+
+		HeatCell(long cell) {
+			this.cell = cell;
+		}
+
+		synchronized void add(int walkId) {
+			count++;
+			samples[sampleHead] = walkId;
+			sampleHead = (sampleHead + 1) % SAMPLES_PER_CELL;
+			sampleSize = Math.min(sampleSize + 1, SAMPLES_PER_CELL);
+		}
+
+		public long getCell() {
+			return cell;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public synchronized List<Integer> getSamples() {
+			if (sampleSize == 0) {
+				return Collections.emptyList();
+			}
+			List<Integer> result = new ArrayList<>(sampleSize);
+			for (int i = 0; i < sampleSize; i++) {
+				result.add(samples[i]);
+			}
+			return result;
+		}
+
+		public String getGeohash() {
+			return GeoHash.toBase32(cell, CELL_PRECISION);
+		}
+
+		// 셀 중심 [위도, 경도]
+		public double[] getCenter() {
+			double[] bounds = GeoHash.bounds(cell, CELL_PRECISION);
+			return new double[] { (bounds[0] + bounds[1]) / 2, (bounds[2] + bounds[3]) / 2 };
+		}
+
+		synchronized void write(DataOutputStream out) throws IOException {
+			out.writeLong(cell);
+			out.writeInt(count);
+			out.writeByte(sampleSize);
+			for (int i = 0; i < sampleSize; i++) {
+				out.writeInt(samples[i]);
+			}
+		}
+
+		static HeatCell read(DataInputStream in) throws IOException {
+			HeatCell heatCell = new HeatCell(in.readLong());
+			heatCell.count = in.readInt();
+			int size = in.readByte();
+			if (size < 0 || size > SAMPLES_PER_CELL) {
+				throw new IOException("잘못된 스냅샷 형식입니다.");
+			}
+			for (int i = 0; i < size; i++) {
+				heatCell.samples[i] = in.readInt();
+			}
+			heatCell.sampleSize = size;
+			heatCell.sampleHead = size % SAMPLES_PER_CELL;
+			return heatCell;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkRollup;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.repository.WalkRollupRepository;
+import com.drdoc.BackEnd.api.util.RankedSkipList;
+
+/**
+ * 주간/월간 산책 거리 순위표를 메모리에 들고 있는 인덱스.
+ * 서버 시작 시 주/월 집계 행으로 채우고, 이후에는 산책 기록이 바뀔 때마다 커밋 후 해당 반려동물 점수만 갱신한다.
+ * 기간마다 이번 구간과 직전 구간만 유지하고 그보다 오래된 순위표는 자정마다 버린다.
+ */
+@Component
+public class WalkLeaderboard {
+
+	private static final Logger logger = LoggerFactory.getLogger(WalkLeaderboard.class);
+
+	// 순위표를 유지하는 집계 단위
+	public static final WalkRollupGranularity[] PERIODS = { WalkRollupGranularity.WEEK, WalkRollupGranularity.MONTH };
+
+	private final WalkRollupRepository walkRollupRepository;
+	// 집계 단위 -> 구간 시작일 -> 순위표
+	private final Map<WalkRollupGranularity, ConcurrentNavigableMap<LocalDate, Board>> boards = new EnumMap<>(
+			WalkRollupGranularity.class);
+
+	public WalkLeaderboard(WalkRollupRepository walkRollupRepository) {
+		this.walkRollupRepository = walkRollupRepository;
+		for (WalkRollupGranularity period : PERIODS) {
+			boards.put(period, new ConcurrentSkipListMap<>());
+		}
+	}
+
+	// 서버 시작 시 이번/직전 구간 순위표를 집계 행으로 채워둠
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		LocalDate today = LocalDate.now();
+		for (WalkRollupGranularity period : PERIODS) {
+			LocalDate current = period.bucketStart(today);
+			for (LocalDate bucketStart : new LocalDate[] { previous(period, current), current }) {
+				Board board = new Board();
+				List<WalkRollup> rollups = walkRollupRepository.findByGranularityAndBucketStart(period, bucketStart);
+				for (WalkRollup rollup : rollups) {
+					board.add(rollup.getPetId(), rollup.getTotalDistance());
+				}
+				boards.get(period).put(bucketStart, board);
+				logger.info("산책 순위표 로딩 완료: {} {} {}마리", period, bucketStart, board.size());
+			}
+		}
+	}
+
+	// 자정마다 새 구간 순위표를 만들고 직전 구간보다 오래된 순위표는 제거
+	@Scheduled(cron = "${walk.leaderboard.rotate-cron:0 0 0 * * *}")
+	public void rotate() {
+		LocalDate today = LocalDate.now();
+		for (WalkRollupGranularity period : PERIODS) {
+			LocalDate current = period.bucketStart(today);
+			ConcurrentNavigableMap<LocalDate, Board> periodBoards = boards.get(period);
+			periodBoards.computeIfAbsent(current, bucketStart -> new Board());
+			periodBoards.headMap(previous(period, current)).clear();
+		}
+	}
+
+	// 산책 기록이 추가/삭제되면 산책 시작일이 속한 구간 순위표에 커밋 후 반영
+	public void onWalksAdded(Map<Walk, List<Integer>> petIdsByWalk) {
+		apply(petIdsByWalk, 1);
+	}
+
+	public void onWalksRemoved(Map<Walk, List<Integer>> petIdsByWalk) {
+		apply(petIdsByWalk, -1);
+	}
+
+	// 삭제된 반려동물은 모든 순위표에서 제거
+	public void onPetDeleted(int petId) {
+		afterCommit(() -> boards.values().forEach(periodBoards -> periodBoards.values().forEach(board -> board.remove(petId))));
+	}
+
+	// 이번 구간(previous면 직전 구간) 시작일
+	public LocalDate bucketStart(WalkRollupGranularity period, boolean previous) {
+		LocalDate current = period.bucketStart(LocalDate.now());
+		return previous ? previous(period, current) : current;
+	}
+
+	public int size(WalkRollupGranularity period, LocalDate bucketStart) {
+		Board board = boards.get(period).get(bucketStart);
+		return board == null ? 0 : board.size();
+	}
+
+	// offset번째부터 최대 limit개 순위 (같은 거리는 같은 순위)
+	public List<Standing> page(WalkRollupGranularity period, LocalDate bucketStart, int offset, int limit) {
+		Board board = boards.get(period).get(bucketStart);
+		return board == null ? new ArrayList<>() : board.page(offset, limit);
+	}
+
+	// 순위표에 있는 반려동물만 반환
+	public List<Standing> standings(WalkRollupGranularity period, LocalDate bucketStart, List<Integer> petIds) {
+		Board board = boards.get(period).get(bucketStart);
+		List<Standing> standings = new ArrayList<>();
+		if (board == null) {
+			return standings;
+		}
+		for (int petId : petIds) {
+			Standing standing = board.standing(petId);
+			if (standing != null) {
+				standings.add(standing);
+			}
+		}
+		return standings;
+	}
+
+	private void apply(Map<Walk, List<Integer>> petIdsByWalk, int sign) {
+		// 엔티티 값은 트랜잭션 안에서 미리 꺼내둠 (구간별 반려동물 -> 거리 변화량)
+		Map<WalkRollupGranularity, Map<LocalDate, Map<Integer, Long>>> deltas = new EnumMap<>(WalkRollupGranularity.class);
+		petIdsByWalk.forEach((walk, petIds) -> {
+			LocalDate date = walk.getStart_time().toLocalDate();
+			for (WalkRollupGranularity period : PERIODS) {
+				Map<Integer, Long> petDeltas = deltas.computeIfAbsent(period, p -> new HashMap<>())
+						.computeIfAbsent(period.bucketStart(date), d -> new HashMap<>());
+				for (int petId : petIds) {
+					petDeltas.merge(petId, (long) sign * walk.getDistance(), Long::sum);
+				}
+			}
+		});
+		afterCommit(() -> deltas.forEach((period, byBucket) -> byBucket.forEach((bucketStart, petDeltas) -> {
+			Board board = board(period, bucketStart);
+			if (board != null) {
+				petDeltas.forEach(board::add);
+			}
+		})));
+	}
+
+	// 유지 중인 순위표 (자정 교체 전에 들어온 새 구간 기록이면 순위표를 새로 만듦, 오래된 구간이면 null)
+	private Board board(WalkRollupGranularity period, LocalDate bucketStart) {
+		ConcurrentNavigableMap<LocalDate, Board> periodBoards = boards.get(period);
+		Board board = periodBoards.get(bucketStart);
+		if (board == null && bucketStart.equals(period.bucketStart(LocalDate.now()))) {
+			board = periodBoards.computeIfAbsent(bucketStart, d -> new Board());
+		}
+		return board;
+	}
+
+	private static LocalDate previous(WalkRollupGranularity period, LocalDate current) {
+		return period.bucketStart(current.minusDays(1));
+	}
+
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	// 한 구간의 순위표 (반려동물별 거리 + (거리, id) 순서의 skip list)
+	private static class Board {
+		private final Map<Integer, Long> distances = new HashMap<>();
+		private final RankedSkipList ranking = new RankedSkipList();
+
+		synchronized void add(int petId, long delta) {
+			Long old = distances.remove(petId);
+			long distance = delta;
+			if (old != null) {
+				ranking.remove(old, petId);
+				distance += old;
+			}
+			// 거리가 0이 되면 순위표에서 빠짐
+			if (distance > 0) {
+				distances.put(petId, distance);
+				ranking.insert(distance, petId);
+			}
+		}
+
+		synchronized void remove(int petId) {
+			Long old = distances.remove(petId);
+			if (old != null) {
+				ranking.remove(old, petId);
+			}
+		}
+
+		synchronized int size() {
+			return ranking.size();
+		}
+
+		synchronized List<Standing> page(int offset, int limit) {
+			List<Standing> standings = new ArrayList<>();
+			for (RankedSkipList.Entry entry : ranking.range(offset, limit)) {
+				standings.add(new Standing(ranking.countHigher(entry.getScore()) + 1, entry.getId(), entry.getScore()));
+			}
+			return standings;
+		}
+
+		synchronized Standing standing(int petId) {
+			Long distance = distances.get(petId);
+			return distance == null ? null : new Standing(ranking.countHigher(distance) + 1, petId, distance);
+		}
+	}
+
+	public static class Standing {
+		private final int rank;
+		private final int petId;
+		private final long distance;
+
+		public Standing(int rank, int petId, long distance) {
+			this.rank = rank;
+			this.petId = petId;
+			this.distance = distance;
+		}
+
+		public int getRank() {
+			return rank;
+		}
+
+		public int getPetId() {
+			return petId;
+		}
+
+		public long getDistance() {
+			return distance;
+		}
+	}
+}
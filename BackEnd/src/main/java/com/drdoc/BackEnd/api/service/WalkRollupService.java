@@ -0,0 +1,24 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsDto;
+
+public interface WalkRollupService {
+
+	// 산책 기록 추가 반영 (산책 -> 데려간 반려동물 id 목록)
+	void add(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 산책 기록 제거 반영
+	void subtract(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 기간별 산책 통계 (기록이 없는 구간은 0으로 채움)
+	List<WalkStatsDto> stats(int petId, WalkRollupGranularity granularity, LocalDate from, LocalDate to);
+
+	// 산책 원본 기록으로 모든 반려동물의 집계 재계산
+	int rebuildAll();
+}
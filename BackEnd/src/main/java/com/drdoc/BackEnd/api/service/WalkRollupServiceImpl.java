@@ -0,0 +1,171 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkRollup;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.WalkRollupId;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsDto;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.WalkPetRepository;
+import com.drdoc.BackEnd.api.repository.WalkRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class WalkRollupServiceImpl implements WalkRollupService {
+	// 한 번에 조회할 수 있는 최대 구간 수 (일 단위 약 2년 반)
+	private static final int MAX_BUCKETS = 1000;
+
+	private final WalkRollupRepository walkRollupRepository;
+	private final WalkPetRepository walkPetRepository;
+	private final PetRepository petRepository;
+
+	@Override
+	@Transactional
+	public void add(Map<Walk, List<Integer>> petIdsByWalk) {
+		createMissing(petIdsByWalk);
+		Map<WalkRollupId, WalkRollup> rollups = lockRollups(petIdsByWalk);
+		petIdsByWalk.forEach((walk, petIds) -> {
+			for (int petId : petIds) {
+				for (WalkRollupId id : bucketIds(petId, walk)) {
+					rollups.computeIfAbsent(id, WalkRollup::new).add(walk);
+				}
+			}
+		});
+		walkRollupRepository.saveAll(rollups.values());
+	}
+
+	@Override
+	@Transactional
+	public void subtract(Map<Walk, List<Integer>> petIdsByWalk) {
+		Map<WalkRollupId, WalkRollup> rollups = lockRollups(petIdsByWalk);
+		List<WalkRollup> emptied = new ArrayList<>();
+		petIdsByWalk.forEach((walk, petIds) -> {
+			for (int petId : petIds) {
+				for (WalkRollupId id : bucketIds(petId, walk)) {
+					WalkRollup rollup = rollups.get(id);
+					if (rollup == null) {
+						continue;
+					}
+					rollup.subtract(walk);
+					if (rollup.getWalkCount() == 0) {
+						emptied.add(rollup);
+					}
+				}
+			}
+		});
+		// 산책이 하나도 남지 않은 구간은 행 삭제
+		walkRollupRepository.deleteAll(emptied);
+	}
+
+	@Override
+	public List<WalkStatsDto> stats(int petId, WalkRollupGranularity granularity, LocalDate from, LocalDate to) {
+		if (from == null || to == null || to.isBefore(from)) {
+			throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+		}
+		if (granularity.bucketCount(from, to) > MAX_BUCKETS) {
+			throw new IllegalArgumentException("한 번에 조회할 수 있는 구간은 최대 " + MAX_BUCKETS + "개입니다.");
+		}
+		LocalDate start = granularity.bucketStart(from);
+		LocalDate end = granularity.bucketStart(to);
+		List<WalkRollup> rollups = walkRollupRepository
+				.findByPetIdAndGranularityAndBucketStartBetweenOrderByBucketStart(petId, granularity, start, end);
+		if (rollups.isEmpty()) {
+			petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
+		}
+
+		// 차트에서 바로 쓸 수 있도록 빈 구간은 0으로 채움
+		List<WalkStatsDto> stats = new ArrayList<>();
+		int index = 0;
+		for (LocalDate bucket = start; !bucket.isAfter(end); bucket = granularity.next(bucket)) {
+			if (index < rollups.size() && rollups.get(index).getBucketStart().equals(bucket)) {
+				stats.add(new WalkStatsDto(rollups.get(index++)));
+			} else {
+				stats.add(new WalkStatsDto(bucket, 0, 0, 0));
+			}
+		}
+		return stats;
+	}
+
+	@Override
+	@Transactional
+	public int rebuildAll() {
+		walkRollupRepository.deleteAllInBatch();
+		List<Integer> petIds = petRepository.findAll().stream().map(Pet::getId).collect(Collectors.toList());
+		for (int petId : petIds) {
+			Map<WalkRollupId, WalkRollup> rollups = new HashMap<>();
+			for (Walk walk : walkPetRepository.findWalksByPetId(petId)) {
+				for (WalkRollupId id : bucketIds(petId, walk)) {
+					rollups.computeIfAbsent(id, WalkRollup::new).add(walk);
+				}
+			}
+			walkRollupRepository.saveAll(rollups.values());
+		}
+		return petIds.size();
+	}
+
+	// 산책 하나가 반영되는 일/주/월 구간 (산책 시작일 기준)
+	private List<WalkRollupId> bucketIds(int petId, Walk walk) {
+		LocalDate date = walk.getStart_time().toLocalDate();
+		List<WalkRollupId> ids = new ArrayList<>();
+		for (WalkRollupGranularity granularity : WalkRollupGranularity.values()) {
+			ids.add(new WalkRollupId(petId, granularity, granularity.bucketStart(date)));
+		}
+		return ids;
+	}
+
+	// 처음 집계되는 구간은 잠글 행이 없어 동시에 저장하면 중복 키 오류가 나므로 빈 행을 먼저 만듦
+	// (이미 있으면 그 행이 잠기므로 교착 상태를 피하려고 키 순서대로)
+	private void createMissing(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<WalkRollupId> ids = new TreeSet<>(Comparator.comparing(WalkRollupId::getPetId)
+				.thenComparing(WalkRollupId::getGranularity).thenComparing(WalkRollupId::getBucketStart));
+		petIdsByWalk.forEach((walk, petIds) -> {
+			for (int petId : petIds) {
+				ids.addAll(bucketIds(petId, walk));
+			}
+		});
+		for (WalkRollupId id : ids) {
+			walkRollupRepository.insertIfAbsent(id.getPetId(), id.getGranularity().name(), id.getBucketStart());
+		}
+	}
+
+	private Map<WalkRollupId, WalkRollup> lockRollups(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<Integer> petIds = new HashSet<>();
+		Set<LocalDate> bucketStarts = new HashSet<>();
+		petIdsByWalk.forEach((walk, walkPetIds) -> {
+			if (walkPetIds.isEmpty()) {
+				return;
+			}
+			petIds.addAll(walkPetIds);
+			LocalDate date = walk.getStart_time().toLocalDate();
+			for (WalkRollupGranularity granularity : WalkRollupGranularity.values()) {
+				bucketStarts.add(granularity.bucketStart(date));
+			}
+		});
+		if (petIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return walkRollupRepository
+				.findAllForUpdate(petIds, Arrays.asList(WalkRollupGranularity.values()), bucketStarts).stream()
+				.collect(Collectors.toMap(WalkRollup::getId, Function.identity()));
+	}
+}
@@ -1,11 +1,20 @@
 package com.drdoc.BackEnd.api.service;
 
-import org.springframework.data.domain.Page;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
 
 import com.drdoc.BackEnd.api.domain.dto.WalkBatchDeleteRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkCalendarDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkLeaderboardDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkModifyRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkPopularDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncResultDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkTimeDto;
 
 public interface WalkService {
@@ -13,6 +22,9 @@ public interface WalkService {
 	// 산책 기록 등록
 	void register(WalkRegisterRequestDto request);
 
+	// 실시간 산책 세션 종료 시 등록 (거리는 서버가 모든 좌표로 잰 값을 그대로 저장, 생성된 산책 id 반환)
+	int registerLive(String memberId, WalkRegisterRequestDto request);
+
 	// 산책 기록 수정
 	void modify(Integer walkId, WalkModifyRequestDto request);
 
@@ -22,13 +34,28 @@ public interface WalkService {
 	// 산책 기록 일괄 삭제
 	void batchDelete(WalkBatchDeleteRequestDto walks);
 
-	// 산책 기록 전체 조회
-	Page<WalkDetailDto> listAll();
+	// 오프라인 산책 기록 일괄 동기화
+	List<WalkSyncResultDto> sync(WalkSyncRequestDto request);
+
+	// 산책 기록 목록 조회 (after 커서가 있으면 커서 이후부터 조회)
+	Slice<WalkDetailDto> listAll(int page, int size, String after);
 	
 	// 산책 기록 상세 조회
-	WalkDetailDto detail(int walkId);
+	WalkDetailDto detail(int walkId, String detail);
 
 	boolean isDone(int petId);
 
 	WalkTimeDto walkTimeSum(int petId);
+
+	// 반려동물 기간별(일/주/월) 산책 통계
+	List<WalkStatsDto> stats(int petId, String granularity, LocalDate from, LocalDate to);
+
+	// 주간/월간 산책 거리 순위표 한 페이지와 내 반려동물 순위
+	WalkLeaderboardDto leaderboard(String period, boolean previous, int page, int size);
+
+	// 주변 인기 산책 구간 (통과 횟수 상위 k개 셀과 대표 경로)
+	WalkPopularDto popular(double lat, double lon, int k, int routes);
+
+	// 반려동물 월간 산책 달력
+	WalkCalendarDto calendar(int petId, int year, int month);
 }
@@ -1,131 +1,367 @@
 package com.drdoc.BackEnd.api.service;
 
-import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
 import com.drdoc.BackEnd.api.domain.Pet;
 import com.drdoc.BackEnd.api.domain.User;
 import com.drdoc.BackEnd.api.domain.Walk;
 import com.drdoc.BackEnd.api.domain.WalkPet;
+import com.drdoc.BackEnd.api.domain.WalkRollupGranularity;
+import com.drdoc.BackEnd.api.domain.WalkTrack;
+import com.drdoc.BackEnd.api.domain.dto.PetListDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkBatchDeleteRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkCalendarDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkHeatCellDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkLeaderboardDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkLeaderboardEntryDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkModifyRequestDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkPetDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkPopularDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkStatsDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncItemDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncRequestDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkSyncResultDto;
 import com.drdoc.BackEnd.api.domain.dto.WalkTimeDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkTrackDto;
 import com.drdoc.BackEnd.api.repository.PetRepository;
 import com.drdoc.BackEnd.api.repository.UserRepository;
 import com.drdoc.BackEnd.api.repository.WalkPetRepository;
 import com.drdoc.BackEnd.api.repository.WalkRepository;
+import com.drdoc.BackEnd.api.repository.WalkTrackRepository;
+import com.drdoc.BackEnd.api.service.WalkHeatIndex.HeatCell;
+import com.drdoc.BackEnd.api.service.WalkLeaderboard.Standing;
+import com.drdoc.BackEnd.api.util.CursorUtil;
+import com.drdoc.BackEnd.api.util.GeoUtil;
 import com.drdoc.BackEnd.api.util.SecurityUtil;
+import com.drdoc.BackEnd.api.util.SetDiff;
+import com.drdoc.BackEnd.api.util.TrackMeasure;
+import com.drdoc.BackEnd.api.util.TrackPoints;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class WalkServiceImpl implements WalkService {
+	// 한 번에 동기화할 수 있는 최대 산책 기록 수
+	private static final int MAX_SYNC_SIZE = 500;
+	// 주변 인기 구간 조회 최대 셀 수, 대표 경로 수
+	private static final int MAX_POPULAR_CELLS = 50;
+	private static final int MAX_POPULAR_ROUTES = 5;
+	// 다른 사용자의 경로는 집 위치가 드러나지 않도록 시작/끝 구간을 잘라서 보여줌
+	private static final double ROUTE_TRIM_METERS = 200;
+	// 순위표 한 페이지 최대 크기
+	private static final int MAX_LEADERBOARD_SIZE = 100;
+
 	private final UserRepository userRepository;
 	private final WalkRepository walkRepository;
 	private final PetRepository petRepository;
 	private final WalkPetRepository walkPetRepository;
+	private final WalkTotalService walkTotalService;
+	private final LastWalkIndex lastWalkIndex;
+	private final WalkTrackRepository walkTrackRepository;
+	private final WalkRollupService walkRollupService;
+	private final WalkCalendarService walkCalendarService;
+	private final WalkHeatIndex walkHeatIndex;
+	private final WalkLeaderboard walkLeaderboard;
 
 	// 산책 기록 등록
 	@Transactional
 	public void register(WalkRegisterRequestDto request) {
-		// 산책 테이블에 저장
-		User user = getCurrentUser();
+		register(getCurrentUser(), request, false);
+	}
+
+	// 실시간 산책 세션이 끝났을 때 등록 (웹소켓 스레드에는 Security Context가 없어 회원 아이디를 직접 받음)
+	@Transactional
+	public int registerLive(String memberId, WalkRegisterRequestDto request) {
+		User user = userRepository.findByMemberId(memberId)
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+		return register(user, request, true).getId();
+	}
+
+	// measured: 거리를 서버에서 이미 잰 경우 (실시간 산책은 버퍼가 솎아낸 경로라 다시 계산하면 거리가 짧아짐)
+	private Walk register(User user, WalkRegisterRequestDto request, boolean measured) {
+		// 산책 테이블에 저장 (앱이 올린 경로가 있으면 거리는 경로로 다시 계산)
 		Walk walk = new Walk(request, user);
+		TrackPoints points = request.getTrack() == null ? null : request.getTrack().toPoints();
+		if (points != null && measured) {
+			walk.applySpeedFlag(TrackMeasure.of(points));
+		} else if (points != null) {
+			walk.applyTrack(TrackMeasure.of(points));
+		}
 		walkRepository.save(walk);
 
-		// 산책동물 테이블에 저장
-		for (int petId : request.getPet_ids()) {
-			Pet pet = petRepository.findById(petId).get();
-			WalkPet walkPet = new WalkPet(walk, pet);
-			walkPetRepository.save(walkPet);
+		// 산책동물 테이블에 저장 (반려동물은 한 번에 조회, insert는 JDBC batch로 전송)
+		List<Pet> pets = findPets(request.getPet_ids());
+		List<WalkPet> walkPets = pets.stream().map(pet -> new WalkPet(walk, pet)).collect(Collectors.toList());
+		walkPetRepository.saveAll(walkPets);
+		if (points != null) {
+			WalkTrack track = walkTrackRepository.save(new WalkTrack(walk, points));
+			walkHeatIndex.onTracksSaved(Collections.singletonList(track));
 		}
+		onWalksAdded(Collections.singletonMap(walk, pets.stream().map(Pet::getId).collect(Collectors.toList())));
+		return walk;
 	}
 
-	// 산책 기록 수정
+	// 산책 기록 수정 (데려간 반려동물 목록을 집합 차이로 한 번에 반영)
 	@Transactional
 	public void modify(Integer walkId, WalkModifyRequestDto request) {
-		Walk walk = walkRepository.findById(walkId).get();
+		Walk walk = walkRepository.findById(walkId).orElseThrow(() -> new IllegalArgumentException("산책 기록을 찾을 수 없습니다."));
 
 		User user = getCurrentUser();
 		if (!walk.getUser().equals(user)) {
-			new IllegalArgumentException("산책 기록에 접근 권한이 없습니다.");
-		}
-		// 산책동물 테이블에 저장된 정보 수정
-		List<WalkPet> walkPetList = walkPetRepository.findByWalk(walk)
-				.orElseThrow(() -> new IllegalArgumentException("해당 산책에 데려간 반려동물이 없습니다."));
-		List<Integer> oldPetIds = walkPetList.stream().map(wp -> wp.getPet().getId()).collect(Collectors.toList());
-		List<Integer> newPetIds = request.getPet_ids();
-
-		// 기존 펫 제거
-		for (int oldPetId : oldPetIds) {
-			if (!newPetIds.contains(oldPetId)) {
-				Pet pet = petRepository.findById(oldPetId)
-						.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
-				WalkPet walkPet = walkPetRepository.findFirstByWalkAndPet(walk, pet)
-						.orElseThrow(() -> new IllegalArgumentException("해당 반려동물을 산책에 데려가지 않았습니다."));
-				walkPetRepository.delete(walkPet);
-			} else {
-				newPetIds.remove((Integer) oldPetId);
-			}
+			throw new IllegalArgumentException("산책 기록에 접근 권한이 없습니다.");
+		}
+		if (request.getPet_ids() == null) {
+			throw new IllegalArgumentException("반려동물 목록은 필수 입력 값입니다.");
+		}
+		SetDiff<Integer> diff = SetDiff.of(walkPetRepository.findPetIdsByWalkId(walkId), request.getPet_ids());
+		if (diff.isEmpty()) {
+			return;
 		}
 
-		// 새 펫 추가
-		for (int newPetId : newPetIds) {
-			Pet pet = petRepository.findById(newPetId)
-					.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
-			WalkPet walkPet = new WalkPet(walk, pet);
-			walkPetRepository.save(walkPet);
+		// 빠진 반려동물은 delete 한 번, 추가된 반려동물은 조회 한 번 + batch insert
+		List<Pet> addedPets = diff.getAdded().isEmpty() ? new ArrayList<>() : findPets(diff.getAdded());
+		if (!diff.getRemoved().isEmpty()) {
+			walkPetRepository.deleteByWalkAndPetIdIn(walk, diff.getRemoved());
+			onWalksRemoved(Collections.singletonMap(walk, new ArrayList<>(diff.getRemoved())));
+		}
+		if (!addedPets.isEmpty()) {
+			walkPetRepository.saveAll(addedPets.stream().map(pet -> new WalkPet(walk, pet)).collect(Collectors.toList()));
+			onWalksAdded(Collections.singletonMap(walk, new ArrayList<>(diff.getAdded())));
 		}
 	}
 
 	// 산책 기록 삭제
+	@Transactional
 	public void delete(int walkId) {
-		walkRepository.findById(walkId).orElseThrow(() -> new IllegalArgumentException("산책 기록을 찾을 수 없습니다."));
+		Walk walk = walkRepository.findById(walkId).orElseThrow(() -> new IllegalArgumentException("산책 기록을 찾을 수 없습니다."));
+		List<Integer> petIds = walkPetRepository.findPetIdsByWalkId(walkId);
 		walkRepository.deleteById(walkId);
+		onWalksRemoved(Collections.singletonMap(walk, petIds));
 	}
 
 	// 산책 기록 일괄 삭제
+	@Transactional
 	public void batchDelete(WalkBatchDeleteRequestDto walks) {
+		if (walks.getWalk_ids() == null || walks.getWalk_ids().isEmpty()) {
+			return;
+		}
+		Map<Walk, List<Integer>> petIdsByWalk = walkPetRepository.findAllWithPetByWalkIdIn(walks.getWalk_ids()).stream()
+				.collect(Collectors.groupingBy(WalkPet::getWalk,
+						Collectors.mapping(wp -> wp.getPet().getId(), Collectors.toList())));
 		walkRepository.deleteAllByIdInBatch(walks.getWalk_ids());
+		onWalksRemoved(petIdsByWalk);
 	}
 
-	// 산책 기록 전체 조회
-	public Page<WalkDetailDto> listAll() {
+	// 오프라인 산책 기록 일괄 동기화 (항목별 결과 반환, 이미 등록된 client_id는 DUPLICATE)
+	@Transactional
+	public List<WalkSyncResultDto> sync(WalkSyncRequestDto request) {
+		List<WalkSyncItemDto> items = request.getWalks();
+		if (items == null || items.isEmpty()) {
+			return new ArrayList<>();
+		}
+		if (items.size() > MAX_SYNC_SIZE) {
+			throw new IllegalArgumentException("한 번에 동기화할 수 있는 산책 기록은 최대 " + MAX_SYNC_SIZE + "개입니다.");
+		}
 		User user = getCurrentUser();
-		Sort sort = Sort.by(Sort.Direction.DESC, "id");
-		List<Walk> list = walkRepository.findByUser(user, sort).stream().collect(Collectors.toList());
-		List<WalkDetailDto> result = list.stream().map(walk -> new WalkDetailDto(walk, getPetList(walk.getId())))
-				.collect(Collectors.toList());
-		return new PageImpl<>(result);
+
+		// 이전 요청에서 이미 등록된 산책 기록 (쿼리 1번)
+		Set<String> clientIds = items.stream().map(WalkSyncItemDto::getClient_id).filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		Map<String, Integer> registered = clientIds.isEmpty() ? new HashMap<>()
+				: walkRepository.findByUserAndClientIdIn(user, clientIds).stream()
+						.collect(Collectors.toMap(Walk::getClientId, Walk::getId));
+
+		// 요청에 포함된 반려동물 중 내 반려동물만 (쿼리 1번)
+		Set<Integer> petIds = items.stream().map(WalkSyncItemDto::getWalk)
+				.filter(walk -> walk != null && walk.getPet_ids() != null).flatMap(walk -> walk.getPet_ids().stream())
+				.collect(Collectors.toSet());
+		Map<Integer, Pet> myPets = petRepository.findAllById(petIds).stream()
+				.filter(pet -> pet.getUser().getId() == user.getId())
+				.collect(Collectors.toMap(Pet::getId, Function.identity()));
+
+		List<WalkSyncResultDto> results = new ArrayList<>();
+		Map<String, Walk> pending = new HashMap<>();
+		Map<Walk, List<Integer>> petIdsByWalk = new LinkedHashMap<>();
+		List<WalkPet> walkPets = new ArrayList<>();
+		List<WalkTrack> tracks = new ArrayList<>();
+		// 새로 등록할 산책과 그 결과 (insert 후 id를 채움)
+		List<WalkSyncResultDto> pendingResults = new ArrayList<>();
+		List<Walk> pendingWalks = new ArrayList<>();
+
+		for (WalkSyncItemDto item : items) {
+			String clientId = item.getClient_id();
+			if (registered.containsKey(clientId)) {
+				WalkSyncResultDto result = WalkSyncResultDto.of(clientId, WalkSyncResultDto.DUPLICATE);
+				result.setWalk_id(registered.get(clientId));
+				results.add(result);
+				continue;
+			}
+			if (pending.containsKey(clientId)) {
+				WalkSyncResultDto result = WalkSyncResultDto.of(clientId, WalkSyncResultDto.DUPLICATE);
+				pendingResults.add(result);
+				pendingWalks.add(pending.get(clientId));
+				results.add(result);
+				continue;
+			}
+			String error = validateSyncItem(item, myPets);
+			if (error != null) {
+				results.add(WalkSyncResultDto.failed(clientId, error));
+				continue;
+			}
+			Walk walk = new Walk(item.getWalk(), user, clientId);
+			if (item.getWalk().getTrack() != null) {
+				try {
+					TrackPoints points = item.getWalk().getTrack().toPoints();
+					tracks.add(new WalkTrack(walk, points));
+					walk.applyTrack(TrackMeasure.of(points));
+				} catch (IllegalArgumentException e) {
+					results.add(WalkSyncResultDto.failed(clientId, e.getMessage()));
+					continue;
+				}
+			}
+			List<Integer> walkPetIds = new ArrayList<>(new LinkedHashSet<>(item.getWalk().getPet_ids()));
+			walkPetIds.forEach(petId -> walkPets.add(new WalkPet(walk, myPets.get(petId))));
+			petIdsByWalk.put(walk, walkPetIds);
+			pending.put(clientId, walk);
+
+			WalkSyncResultDto result = WalkSyncResultDto.of(clientId, WalkSyncResultDto.CREATED);
+			pendingResults.add(result);
+			pendingWalks.add(walk);
+			results.add(result);
+		}
+
+		// 산책, 산책동물 insert는 각각 JDBC batch로 전송
+		walkRepository.saveAll(petIdsByWalk.keySet());
+		walkPetRepository.saveAll(walkPets);
+		walkTrackRepository.saveAll(tracks);
+		walkHeatIndex.onTracksSaved(tracks);
+		for (int i = 0; i < pendingResults.size(); i++) {
+			pendingResults.get(i).setWalk_id(pendingWalks.get(i).getId());
+		}
+		onWalksAdded(petIdsByWalk);
+		return results;
 	}
 
-	// 산책 기록 상세 조회
-	public WalkDetailDto detail(int walkId) {
-		Walk walk = walkRepository.findById(walkId).orElseThrow(() -> new IllegalArgumentException("산책 기록이 없습니다."));
-		List<WalkPetDetailDto> petList = getPetList(walkId);
-		return new WalkDetailDto(walk, petList);
+	// 동기화 항목 검증 (문제가 없으면 null)
+	private String validateSyncItem(WalkSyncItemDto item, Map<Integer, Pet> myPets) {
+		String clientId = item.getClient_id();
+		if (clientId == null || clientId.isEmpty() || clientId.length() > 64) {
+			return "client_id는 64자 이내로 반드시 입력해야 합니다.";
+		}
+		WalkRegisterRequestDto walk = item.getWalk();
+		if (walk == null || walk.getStart_time() == null || walk.getEnd_time() == null) {
+			return "산책 시작 시간과 종료 시간은 필수 입력 값입니다.";
+		}
+		if (walk.getEnd_time().isBefore(walk.getStart_time())) {
+			return "산책 종료 시간이 시작 시간보다 빠릅니다.";
+		}
+		if (walk.getDistance() < 0) {
+			return "산책 거리가 올바르지 않습니다.";
+		}
+		if (walk.getPet_ids() == null || walk.getPet_ids().isEmpty()) {
+			return "해당 산책에 데려간 반려동물이 없습니다.";
+		}
+		if (!myPets.keySet().containsAll(walk.getPet_ids())) {
+			return "존재하지 않거나 접근 권한이 없는 반려동물입니다.";
+		}
+		return null;
+	}
+
+	// 요청한 반려동물을 한 번에 조회 (없는 반려동물이 있으면 예외)
+	private List<Pet> findPets(Collection<Integer> petIds) {
+		Set<Integer> uniqueIds = new HashSet<>(petIds);
+		List<Pet> pets = petRepository.findAllById(uniqueIds);
+		if (pets.size() != uniqueIds.size()) {
+			throw new IllegalArgumentException("존재하지 않는 반려동물입니다.");
+		}
+		return pets;
+	}
+
+	// 산책 기록이 추가되었을 때 반려동물별 집계에 반영 (산책 -> 데려간 반려동물 id 목록)
+	private void onWalksAdded(Map<Walk, List<Integer>> petIdsByWalk) {
+		walkTotalService.add(petIdsByWalk);
+		walkRollupService.add(petIdsByWalk);
+		walkCalendarService.add(petIdsByWalk);
+		walkLeaderboard.onWalksAdded(petIdsByWalk);
+		petIdsByWalk.forEach((walk, petIds) -> lastWalkIndex.onWalkAdded(petIds, walk.getEnd_time()));
 	}
 
-	public List<WalkPetDetailDto> getPetList(int walkId) {
+	// 산책 기록이 빠졌을 때 반려동물별 집계에 반영 (산책동물 행 삭제 후 호출)
+	private void onWalksRemoved(Map<Walk, List<Integer>> petIdsByWalk) {
+		walkTotalService.subtract(petIdsByWalk);
+		walkRollupService.subtract(petIdsByWalk);
+		// 달력은 일 단위 집계가 남아 있는지 보고 날짜를 지우므로 집계 갱신 뒤에 호출
+		walkCalendarService.subtract(petIdsByWalk);
+		walkLeaderboard.onWalksRemoved(petIdsByWalk);
+		petIdsByWalk.values().forEach(lastWalkIndex::onWalkRemoved);
+	}
+
+	// 산책 기록 목록 조회
+	public Slice<WalkDetailDto> listAll(int page, int size, String after) {
+		User user = getCurrentUser();
+		if (after == null || after.isEmpty()) {
+			Pageable pageable = CursorUtil.pageByIdDesc(page, size);
+			Page<Walk> walks = walkRepository.findByUser(user, pageable);
+			return new PageImpl<>(toDetailList(walks.getContent()), pageable, walks.getTotalElements());
+		}
+		// 커서 이후 조회는 offset, count 없이 (userId, id) 인덱스만 탐색
+		Pageable pageable = CursorUtil.pageByIdDesc(0, size);
+		Slice<Walk> walks = walkRepository.findByUserAndIdLessThan(user, CursorUtil.decode(after), pageable);
+		return new SliceImpl<>(toDetailList(walks.getContent()), pageable, walks.hasNext());
+	}
+
+	// 산책 기록 상세 조회 (경로는 요청한 상세도로 반환)
+	public WalkDetailDto detail(int walkId, String trackDetail) {
 		Walk walk = walkRepository.findById(walkId).orElseThrow(() -> new IllegalArgumentException("산책 기록이 없습니다."));
-		List<WalkPet> walkPetList = walkPetRepository.findByWalk(walk)
-				.orElseThrow(() -> new IllegalArgumentException("해당 산책에 데려간 반려동물이 없습니다."));
-		List<WalkPetDetailDto> petList = walkPetList.stream().map(wp -> new WalkPetDetailDto(wp.getPet())).collect(Collectors.toList());
-		return petList;
+		// 경로에는 산책 시작/끝 위치(집 주변)가 드러나므로 본인 기록만 조회
+		if (!walk.getUser().equals(getCurrentUser())) {
+			throw new IllegalArgumentException("산책 기록에 접근 권한이 없습니다.");
+		}
+		WalkDetailDto detail = toDetailList(Collections.singletonList(walk)).get(0);
+		walkTrackRepository.findById(walkId)
+				.ifPresent(track -> detail.editTrack(new WalkTrackDto(track.getPoints(trackDetail))));
+		return detail;
+	}
+
+	// 산책 기록 목록에 데려간 반려동물 정보를 붙여서 반환 (산책 수와 관계없이 쿼리 1번)
+	private List<WalkDetailDto> toDetailList(List<Walk> walks) {
+		if (walks.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Integer> walkIds = walks.stream().map(Walk::getId).collect(Collectors.toList());
+		Map<Integer, List<WalkPetDetailDto>> petsByWalk = walkPetRepository.findAllWithPetByWalkIdIn(walkIds).stream()
+				.collect(Collectors.groupingBy(wp -> wp.getWalk().getId(),
+						Collectors.mapping(wp -> new WalkPetDetailDto(wp.getPet()), Collectors.toList())));
+		return walks.stream()
+				.map(walk -> new WalkDetailDto(walk, petsByWalk.getOrDefault(walk.getId(), new ArrayList<>())))
+				.collect(Collectors.toList());
 	}
 
 	public User getCurrentUser() {
@@ -136,29 +372,114 @@ public class WalkServiceImpl implements WalkService {
 
 	@Override
 	public boolean isDone(int petId) {
-		Pet pet = petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
-		WalkPet lastHistory = walkPetRepository.findFirstByPetOrderByIdDesc(pet).orElseThrow(() -> new IllegalArgumentException("해당 반려동물의 산책기록이 없습니다."));
-		Walk walk = lastHistory.getWalk();
-		LocalDate finished = walk.getEnd_time().toLocalDate();
-		if (finished.equals(LocalDate.now())) {
-			return true;
-		}
-		return false;
+		return lastWalkIndex.isDoneToday(petId);
 	}
 
 	@Override
 	public WalkTimeDto walkTimeSum(int petId) {
-		Pet pet = petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
-		List<WalkPet> walkPetList = walkPetRepository.findByPet(pet).orElseThrow(() -> new IllegalArgumentException("해당 반려동물의 산책기록이 없습니다."));
-		int totalDistance = 0;
-		int totalTimeSpent = 0;
-		
-		for (WalkPet wp : walkPetList) {
-			Walk walk = wp.getWalk();
-			totalDistance += walk.getDistance();
-			Duration duration = Duration.between(walk.getEnd_time(), walk.getStart_time());
-			totalTimeSpent += Math.abs(duration.getSeconds());
-		}
-		return new WalkTimeDto(totalTimeSpent, totalDistance);
+		return walkTotalService.get(petId);
+	}
+
+	@Override
+	public List<WalkStatsDto> stats(int petId, String granularity, LocalDate from, LocalDate to) {
+		return walkRollupService.stats(petId, WalkRollupGranularity.from(granularity), from, to);
+	}
+
+	@Override
+	public WalkLeaderboardDto leaderboard(String period, boolean previous, int page, int size) {
+		WalkRollupGranularity granularity = WalkRollupGranularity.from(period);
+		if (!Arrays.asList(WalkLeaderboard.PERIODS).contains(granularity)) {
+			throw new IllegalArgumentException("순위표 기간은 week, month 중 하나입니다.");
+		}
+		if (page < 0 || size < 1 || size > MAX_LEADERBOARD_SIZE) {
+			throw new IllegalArgumentException("page는 0 이상, size는 1 ~ " + MAX_LEADERBOARD_SIZE + " 사이여야 합니다.");
+		}
+		User user = getCurrentUser();
+		LocalDate bucketStart = walkLeaderboard.bucketStart(granularity, previous);
+
+		// 순위는 메모리 순위표에서, 이름/사진은 페이지에 나온 반려동물만 한 번에 조회
+		List<Standing> entries = walkLeaderboard.page(granularity, bucketStart, page * size, size);
+		List<PetListDto> myPets = petRepository.findAllByUserId(user.getId());
+		List<Standing> mine = walkLeaderboard.standings(granularity, bucketStart,
+				myPets.stream().map(PetListDto::getId).collect(Collectors.toList()));
+		Map<Integer, Pet> pets = petRepository
+				.findAllById(entries.stream().map(Standing::getPetId).collect(Collectors.toList())).stream()
+				.collect(Collectors.toMap(Pet::getId, Function.identity()));
+		Map<Integer, PetListDto> myPetsById = myPets.stream()
+				.collect(Collectors.toMap(PetListDto::getId, Function.identity()));
+
+		List<WalkLeaderboardEntryDto> entryList = new ArrayList<>();
+		for (Standing standing : entries) {
+			Pet pet = pets.get(standing.getPetId());
+			// 조회 사이에 삭제된 반려동물은 제외
+			if (pet != null) {
+				entryList.add(new WalkLeaderboardEntryDto(standing, pet.getName(), pet.getAnimalPic()));
+			}
+		}
+		List<WalkLeaderboardEntryDto> mineList = mine.stream().map(standing -> {
+			PetListDto pet = myPetsById.get(standing.getPetId());
+			return new WalkLeaderboardEntryDto(standing, pet.getName(), pet.getAnimal_pic());
+		}).collect(Collectors.toList());
+		return new WalkLeaderboardDto(granularity.name().toLowerCase(), bucketStart,
+				walkLeaderboard.size(granularity, bucketStart), entryList, mineList);
+	}
+
+	@Override
+	public WalkPopularDto popular(double lat, double lon, int k, int routes) {
+		if (!GeoUtil.isValid(lat, lon)) {
+			throw new IllegalArgumentException("위도, 경도가 올바르지 않습니다.");
+		}
+		if (k < 1 || k > MAX_POPULAR_CELLS || routes < 0 || routes > MAX_POPULAR_ROUTES) {
+			throw new IllegalArgumentException(
+					"k는 1 ~ " + MAX_POPULAR_CELLS + ", routes는 0 ~ " + MAX_POPULAR_ROUTES + " 사이여야 합니다.");
+		}
+		List<HeatCell> cells = walkHeatIndex.top(lat, lon, k);
+		List<WalkTrackDto> routeList = new ArrayList<>();
+		if (routes > 0 && !cells.isEmpty()) {
+			// 대표 경로는 썸네일 경로로 한 번에 조회 (삭제된 산책은 빠짐)
+			List<Integer> walkIds = walkHeatIndex.representativeWalkIds(cells, routes);
+			Map<Integer, WalkTrack> tracks = walkTrackRepository.findAllById(walkIds).stream()
+					.collect(Collectors.toMap(WalkTrack::getWalkId, Function.identity()));
+			for (int walkId : walkIds) {
+				WalkTrack track = tracks.get(walkId);
+				WalkTrackDto route = track == null ? null : trimEnds(track.getPoints(WalkTrack.DETAIL_THUMBNAIL));
+				if (route != null) {
+					routeList.add(route);
+				}
+			}
+		}
+		return new WalkPopularDto(cells.stream().map(WalkHeatCellDto::new).collect(Collectors.toList()), routeList);
+	}
+
+	// 시작/끝 ROUTE_TRIM_METERS 구간과 시간을 뺀 경로 (남는 구간이 없으면 null)
+	private WalkTrackDto trimEnds(TrackPoints points) {
+		int n = points.size();
+		if (n < 2) {
+			return null;
+		}
+		double[] cumulative = new double[n];
+		for (int i = 1; i < n; i++) {
+			cumulative[i] = cumulative[i - 1]
+					+ GeoUtil.haversineMeters(points.lat(i - 1), points.lon(i - 1), points.lat(i), points.lon(i));
+		}
+		double total = cumulative[n - 1];
+		int from = 0;
+		while (from < n && cumulative[from] < ROUTE_TRIM_METERS) {
+			from++;
+		}
+		int to = n - 1;
+		while (to >= 0 && total - cumulative[to] < ROUTE_TRIM_METERS) {
+			to--;
+		}
+		if (from >= to) {
+			return null;
+		}
+		return new WalkTrackDto(Arrays.copyOfRange(points.lats(), from, to + 1),
+				Arrays.copyOfRange(points.lons(), from, to + 1), null);
+	}
+
+	@Override
+	public WalkCalendarDto calendar(int petId, int year, int month) {
+		return walkCalendarService.get(petId, year, month);
 	}
 }
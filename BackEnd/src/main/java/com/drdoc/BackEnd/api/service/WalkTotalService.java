@@ -0,0 +1,22 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.dto.WalkTimeDto;
+
+public interface WalkTotalService {
+
+	// 산책 기록 추가 반영 (산책 -> 데려간 반려동물 id 목록)
+	void add(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 산책 기록 제거 반영 (산책동물 행이 삭제된 뒤에 호출)
+	void subtract(Map<Walk, List<Integer>> petIdsByWalk);
+
+	// 반려동물 전체 산책 시간/거리 조회
+	WalkTimeDto get(int petId);
+
+	// 산책 원본 기록으로 모든 반려동물의 집계 재계산
+	int rebuildAll();
+}
@@ -0,0 +1,114 @@
+package com.drdoc.BackEnd.api.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkTotal;
+import com.drdoc.BackEnd.api.domain.dto.WalkTimeDto;
+import com.drdoc.BackEnd.api.repository.PetRepository;
+import com.drdoc.BackEnd.api.repository.WalkPetRepository;
+import com.drdoc.BackEnd.api.repository.WalkTotalRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class WalkTotalServiceImpl implements WalkTotalService {
+	private final WalkTotalRepository walkTotalRepository;
+	private final WalkPetRepository walkPetRepository;
+	private final PetRepository petRepository;
+
+	@Override
+	@Transactional
+	public void add(Map<Walk, List<Integer>> petIdsByWalk) {
+		createMissing(petIdsByWalk);
+		Map<Integer, WalkTotal> totals = lockTotals(petIdsByWalk);
+		petIdsByWalk.forEach((walk, petIds) -> {
+			for (int petId : petIds) {
+				totals.computeIfAbsent(petId, WalkTotal::new).add(walk);
+			}
+		});
+		walkTotalRepository.saveAll(totals.values());
+	}
+
+	@Override
+	@Transactional
+	public void subtract(Map<Walk, List<Integer>> petIdsByWalk) {
+		Map<Integer, WalkTotal> totals = lockTotals(petIdsByWalk);
+		Set<Integer> staleLastEnd = new HashSet<>();
+		petIdsByWalk.forEach((walk, petIds) -> {
+			for (int petId : petIds) {
+				WalkTotal total = totals.get(petId);
+				if (total == null) {
+					continue;
+				}
+				total.subtract(walk);
+				if (total.getLastEndTime() != null && !walk.getEnd_time().isBefore(total.getLastEndTime())) {
+					staleLastEnd.add(petId);
+				}
+			}
+		});
+		// 가장 최근 산책이 빠진 경우에만 남은 기록에서 다시 찾음
+		for (int petId : staleLastEnd) {
+			totals.get(petId).updateLastEndTime(walkPetRepository.findLastEndTimeByPetId(petId).orElse(null));
+		}
+	}
+
+	@Override
+	public WalkTimeDto get(int petId) {
+		WalkTotal total = walkTotalRepository.findById(petId).orElse(null);
+		if (total == null) {
+			petRepository.findById(petId).orElseThrow(() -> new IllegalArgumentException("해당 반려동물이 없습니다."));
+			return new WalkTimeDto(0, 0);
+		}
+		return new WalkTimeDto((int) total.getTotalSeconds(), (int) total.getTotalDistance());
+	}
+
+	@Override
+	public int rebuildAll() {
+		List<Integer> petIds = petRepository.findAll().stream().map(Pet::getId).collect(Collectors.toList());
+		for (int petId : petIds) {
+			rebuild(petId);
+		}
+		return petIds.size();
+	}
+
+	private void rebuild(int petId) {
+		List<Walk> walks = walkPetRepository.findWalksByPetId(petId);
+		WalkTotal total = walkTotalRepository.findById(petId).orElseGet(() -> new WalkTotal(petId));
+		total.reset(0, 0, 0, null);
+		walks.forEach(total::add);
+		walkTotalRepository.save(total);
+	}
+
+	// 처음 집계되는 반려동물은 잠글 행이 없어 동시에 저장하면 중복 키 오류가 나므로 빈 행을 먼저 만듦
+	// (이미 있으면 그 행이 잠기므로 교착 상태를 피하려고 반려동물 id 순서대로)
+	private void createMissing(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<Integer> petIds = new TreeSet<>();
+		petIdsByWalk.values().forEach(petIds::addAll);
+		for (int petId : petIds) {
+			walkTotalRepository.insertIfAbsent(petId);
+		}
+	}
+
+	private Map<Integer, WalkTotal> lockTotals(Map<Walk, List<Integer>> petIdsByWalk) {
+		Set<Integer> petIds = petIdsByWalk.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+		if (petIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return walkTotalRepository.findAllForUpdate(petIds).stream()
+				.collect(Collectors.toMap(WalkTotal::getPetId, Function.identity()));
+	}
+}
@@ -0,0 +1,91 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Predicate;
+
+/**
+ * 64비트 해시를 Hamming 거리로 찾는 BK-tree.
+ * 자식은 부모와의 거리(0 ~ 64)별로 매달려 있어서, 찾는 해시와 노드의 거리가 d일 때
+ * [d - 한계, d + 한계] 거리의 자식만 내려가면 된다(삼각 부등식).
+ * 삭제는 지원하지 않으므로 오래된 항목은 트리를 새로 만들어서 정리하고, 동기화는 호출하는 쪽에서 한다.
+ */
+public class BkTree<V> {
+
+	private Node<V> root;
+	private int size;
+
+	public static int distance(long a, long b) {
+		return Long.bitCount(a ^ b);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void add(long key, V value) {
+		size++;
+		if (root == null) {
+			root = new Node<>(key, value);
+			return;
+		}
+		Node<V> node = root;
+		while (true) {
+			int d = distance(node.key, key);
+			if (node.children == null) {
+				@SuppressWarnings("unchecked")
+				Node<V>[] children = (Node<V>[]) new Node<?>[Long.SIZE + 1];
+				node.children = children;
+			}
+			if (node.children[d] == null) {
+				node.children[d] = new Node<>(key, value);
+				return;
+			}
+			node = node.children[d];
+		}
+	}
+
+	// maxDistance 이내에서 filter를 통과하는 가장 가까운 값 (없으면 null)
+	public V nearest(long key, int maxDistance, Predicate<V> filter) {
+		if (root == null) {
+			return null;
+		}
+		V best = null;
+		int bestDistance = maxDistance;
+		Deque<Node<V>> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			Node<V> node = stack.pop();
+			int d = distance(node.key, key);
+			if (d <= bestDistance && filter.test(node.value)) {
+				best = node.value;
+				bestDistance = d;
+				if (d == 0) {
+					break;
+				}
+			}
+			if (node.children == null) {
+				continue;
+			}
+			int from = Math.max(0, d - bestDistance);
+			int to = Math.min(Long.SIZE, d + bestDistance);
+			for (int i = from; i <= to; i++) {
+				if (node.children[i] != null) {
+					stack.push(node.children[i]);
+				}
+			}
+		}
+		return best;
+	}
+
+	private static final class Node<V> {
+		private final long key;
+		private final V value;
+		private Node<V>[] children;
+
+		private Node(long key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
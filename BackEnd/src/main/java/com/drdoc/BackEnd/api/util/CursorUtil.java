@@ -0,0 +1,90 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public class CursorUtil {
+
+	// 한 번에 조회할 수 있는 최대 개수
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private static final String PREFIX = "id:";
+	private static final String TIME_PREFIX = "at:";
+
+	// CursorUtil은 인스턴스 생성 불가
+	private CursorUtil() {
+	}
+
+	// 마지막으로 받은 id를 클라이언트에 넘겨줄 불투명한 커서 문자열로 변환
+	public static String encode(int id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 클라이언트가 보낸 커서 문자열을 id로 복원
+	public static int decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(PREFIX)) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return Integer.parseInt(decoded.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			// NumberFormatException, Base64 디코딩 오류 모두 포함
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	// (작성 시각, id) 순으로 정렬된 목록의 마지막 항목을 커서로 변환
+	public static String encode(LocalDateTime time, int id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((TIME_PREFIX + time + "," + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// (작성 시각, id) 커서 복원
+	public static TimeCursor decodeTime(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int comma = decoded.lastIndexOf(',');
+			if (!decoded.startsWith(TIME_PREFIX) || comma < 0) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return new TimeCursor(LocalDateTime.parse(decoded.substring(TIME_PREFIX.length(), comma)),
+					Integer.parseInt(decoded.substring(comma + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	// id 내림차순 페이지 요청 생성 (size는 1 ~ MAX_PAGE_SIZE 사이로 제한)
+	public static Pageable pageByIdDesc(int page, int size) {
+		if (page < 0 || size < 1) {
+			throw new IllegalArgumentException("페이지 번호 또는 크기가 올바르지 않습니다.");
+		}
+		return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "id"));
+	}
+
+	public static class TimeCursor {
+		private final LocalDateTime time;
+		private final int id;
+
+		public TimeCursor(LocalDateTime time, int id) {
+			this.time = time;
+			this.id = id;
+		}
+
+		public LocalDateTime getTime() {
+			return time;
+		}
+
+		public int getId() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.drdoc.BackEnd.api.util;
+
+// 한 달치 날짜 비트맵 연산 ((일 - 1)번째 비트 = 그날)
+public final class DayBitmap {
+
+	private DayBitmap() {
+	}
+
+	// 가장 긴 연속 구간 길이 (x &= x << 1을 0이 될 때까지 반복한 횟수)
+	public static int longestRun(int bits) {
+		int count = 0;
+		while (bits != 0) {
+			bits &= bits << 1;
+			count++;
+		}
+		return count;
+	}
+
+	// 1일부터 이어지는 연속 구간 길이
+	public static int leadingRun(int bits) {
+		return Integer.numberOfTrailingZeros(~bits);
+	}
+
+	// day일에서 끝나는(거꾸로 세는) 연속 구간 길이
+	public static int runEndingAt(int bits, int day) {
+		return Integer.numberOfLeadingZeros(~(bits << (32 - day)));
+	}
+
+	// 비트가 켜진 날짜 목록
+	public static int[] days(int bits) {
+		int[] days = new int[Integer.bitCount(bits)];
+		int i = 0;
+		while (bits != 0) {
+			days[i++] = Integer.numberOfTrailingZeros(bits) + 1;
+			bits &= bits - 1;
+		}
+		return days;
+	}
+}
@@ -0,0 +1,100 @@
+package com.drdoc.BackEnd.api.util;
+
+/**
+ * geohash 셀을 문자열 대신 long 비트로 다룬다 (정밀도 p = 5p비트, 경도 비트부터 번갈아 배치).
+ * 상위 정밀도 셀은 하위 비트를 잘라낸 값이라 (cell >>> 5 * 차이)로 바로 구할 수 있다.
+ */
+public final class GeoHash {
+
+	private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+	private GeoHash() {
+	}
+
+	public static long encode(double lat, double lon, int precision) {
+		double latMin = -90, latMax = 90, lonMin = -180, lonMax = 180;
+		long bits = 0;
+		boolean isLon = true;
+		for (int i = 0; i < precision * 5; i++) {
+			if (isLon) {
+				double mid = (lonMin + lonMax) / 2;
+				if (lon >= mid) {
+					bits = (bits << 1) | 1;
+					lonMin = mid;
+				} else {
+					bits <<= 1;
+					lonMax = mid;
+				}
+			} else {
+				double mid = (latMin + latMax) / 2;
+				if (lat >= mid) {
+					bits = (bits << 1) | 1;
+					latMin = mid;
+				} else {
+					bits <<= 1;
+					latMax = mid;
+				}
+			}
+			isLon = !isLon;
+		}
+		return bits;
+	}
+
+	// 셀 영역 [위도 최소, 위도 최대, 경도 최소, 경도 최대]
+	public static double[] bounds(long cell, int precision) {
+		double latMin = -90, latMax = 90, lonMin = -180, lonMax = 180;
+		boolean isLon = true;
+		for (int i = precision * 5 - 1; i >= 0; i--) {
+			boolean bit = ((cell >>> i) & 1) == 1;
+			if (isLon) {
+				double mid = (lonMin + lonMax) / 2;
+				if (bit) {
+					lonMin = mid;
+				} else {
+					lonMax = mid;
+				}
+			} else {
+				double mid = (latMin + latMax) / 2;
+				if (bit) {
+					latMin = mid;
+				} else {
+					latMax = mid;
+				}
+			}
+			isLon = !isLon;
+		}
+		return new double[] { latMin, latMax, lonMin, lonMax };
+	}
+
+	// 자신을 포함한 주변 3x3 셀
+	public static long[] neighbors(long cell, int precision) {
+		double[] b = bounds(cell, precision);
+		double height = b[1] - b[0];
+		double width = b[3] - b[2];
+		double centerLat = (b[0] + b[1]) / 2;
+		double centerLon = (b[2] + b[3]) / 2;
+		long[] cells = new long[9];
+		int i = 0;
+		for (int dy = -1; dy <= 1; dy++) {
+			for (int dx = -1; dx <= 1; dx++) {
+				double lat = Math.max(-90, Math.min(90 - 1e-9, centerLat + dy * height));
+				double lon = centerLon + dx * width;
+				if (lon >= 180) {
+					lon -= 360;
+				} else if (lon < -180) {
+					lon += 360;
+				}
+				cells[i++] = encode(lat, lon, precision);
+			}
+		}
+		return cells;
+	}
+
+	public static String toBase32(long cell, int precision) {
+		char[] chars = new char[precision];
+		for (int i = 0; i < precision; i++) {
+			chars[i] = BASE32[(int) ((cell >>> (5 * (precision - 1 - i))) & 31)];
+		}
+		return new String(chars);
+	}
+}
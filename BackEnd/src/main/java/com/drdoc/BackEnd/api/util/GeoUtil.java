@@ -0,0 +1,24 @@
+package com.drdoc.BackEnd.api.util;
+
+// 위경도 거리 계산
+public final class GeoUtil {
+
+	public static final double EARTH_RADIUS_METERS = 6371008.8;
+
+	private GeoUtil() {
+	}
+
+	// 두 좌표 사이의 대원 거리(m, haversine)
+	public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+		double sinLat = Math.sin(dLat / 2);
+		double sinLon = Math.sin(dLon / 2);
+		double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+		return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	public static boolean isValid(double lat, double lon) {
+		return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+	}
+}
@@ -0,0 +1,140 @@
+package com.drdoc.BackEnd.api.util;
+
+/**
+ * 실시간 산책 세션 하나의 경로 버퍼. 세션을 열 때 배열을 한 번만 잡고 이후 메모리는 늘어나지 않는다.
+ * - 경로: 위경도 1e-6도 고정소수점(int), 시간은 시작 시점 기준 ms(int). 가득 차면 한 점 건너 하나씩 버리고
+ *   이후로는 그 간격마다 저장한다. 산책이 아무리 길어도 전체 구간을 고르게 덮는다.
+ * - 거리: 버려지는 점과 관계없이 들어온 모든 좌표로 누적 계산.
+ * - 페이스: 최근 좌표 몇 개를 링 버퍼에 두고 그 구간으로 계산.
+ */
+public class LiveTrackBuffer {
+
+	private static final double SCALE = 1e6;
+	private static final int RECENT_SIZE = 32;
+
+	private final int[] lats;
+	private final int[] lons;
+	private final int[] offsets;
+	private int size;
+	// 이 간격마다 한 점씩 경로에 저장 (버퍼를 압축할 때마다 2배)
+	private int stride = 1;
+	private long fixCount;
+
+	private long startTime = -1;
+	private double lastLat;
+	private double lastLon;
+	private long lastTime = -1;
+	private boolean lastStored;
+	private double distance;
+
+	// 최근 좌표의 시간, 누적 거리 (링 버퍼)
+	private final long[] recentTimes = new long[RECENT_SIZE];
+	private final double[] recentDistances = new double[RECENT_SIZE];
+	private int recentHead;
+	private int recentSize;
+
+	public LiveTrackBuffer(int capacity) {
+		if (capacity < 4) {
+			throw new IllegalArgumentException("경로 버퍼 크기는 4 이상이어야 합니다.");
+		}
+		this.lats = new int[capacity];
+		this.lons = new int[capacity];
+		this.offsets = new int[capacity];
+	}
+
+	// 좌표 추가 (잘못된 좌표나 이전보다 늦지 않은 시간의 좌표는 무시하고 false)
+	public boolean add(double lat, double lon, long time) {
+		if (!GeoUtil.isValid(lat, lon) || time <= lastTime) {
+			return false;
+		}
+		if (startTime < 0) {
+			startTime = time;
+		} else {
+			if (time - startTime > Integer.MAX_VALUE) {
+				return false;
+			}
+			distance += GeoUtil.haversineMeters(lastLat, lastLon, lat, lon);
+		}
+		lastLat = lat;
+		lastLon = lon;
+		lastTime = time;
+		lastStored = false;
+		if (fixCount++ % stride == 0) {
+			store(lat, lon, time);
+		}
+
+		recentTimes[recentHead] = time;
+		recentDistances[recentHead] = distance;
+		recentHead = (recentHead + 1) % RECENT_SIZE;
+		if (recentSize < RECENT_SIZE) {
+			recentSize++;
+		}
+		return true;
+	}
+
+	private void store(double lat, double lon, long time) {
+		if (size == lats.length) {
+			compact();
+		}
+		lats[size] = (int) Math.round(lat * SCALE);
+		lons[size] = (int) Math.round(lon * SCALE);
+		offsets[size] = (int) (time - startTime);
+		size++;
+		lastStored = true;
+	}
+
+	// 짝수 번째 점만 남겨 절반으로 줄임
+	private void compact() {
+		int kept = 0;
+		for (int i = 0; i < size; i += 2) {
+			lats[kept] = lats[i];
+			lons[kept] = lons[i];
+			offsets[kept] = offsets[i];
+			kept++;
+		}
+		size = kept;
+		stride *= 2;
+	}
+
+	public int fixCount() {
+		return (int) Math.min(Integer.MAX_VALUE, fixCount);
+	}
+
+	public double distance() {
+		return distance;
+	}
+
+	public long startTime() {
+		return startTime;
+	}
+
+	public long lastTime() {
+		return lastTime;
+	}
+
+	// 최근 구간의 페이스 (초/km, 계산할 수 없으면 0)
+	public double recentPaceSecondsPerKm() {
+		if (recentSize < 2) {
+			return 0;
+		}
+		int newest = (recentHead - 1 + RECENT_SIZE) % RECENT_SIZE;
+		int oldest = (recentHead - recentSize + RECENT_SIZE) % RECENT_SIZE;
+		double meters = recentDistances[newest] - recentDistances[oldest];
+		if (meters <= 0) {
+			return 0;
+		}
+		return (recentTimes[newest] - recentTimes[oldest]) / 1000.0 / meters * 1000;
+	}
+
+	// 저장된 경로 (마지막 좌표는 항상 포함)
+	public TrackPoints toPoints() {
+		if (!lastStored && lastTime >= 0) {
+			store(lastLat, lastLon, lastTime);
+		}
+		TrackPoints points = new TrackPoints(size);
+		for (int i = 0; i < size; i++) {
+			points.add(lats[i] / SCALE, lons[i] / SCALE, startTime + offsets[i]);
+		}
+		return points;
+	}
+}
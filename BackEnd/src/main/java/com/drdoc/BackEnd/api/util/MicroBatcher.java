@@ -0,0 +1,163 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 동시에 들어온 단건 요청을 모아서 한 번에 처리하는 배치 호출기.
+ * 첫 요청이 들어온 뒤 maxBatchSize개가 모이거나 window가 지나면 묶어서 batchCall을 한 번 호출하고,
+ * 결과를 요청 순서대로 각 호출자의 future에 나눠준다.
+ * 배치 호출은 별도 스레드(최대 concurrency개)에서 하므로 호출 중에도 다음 배치를 모은다.
+ * 호출 스레드가 모두 사용 중이면 모으는 스레드가 직접 호출해서 자연스럽게 속도를 늦춘다.
+ */
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+	private final String name;
+	private final int maxBatchSize;
+	private final long windowNanos;
+	private final Function<List<I>, List<O>> batchCall;
+	private final BlockingQueue<Pending<I, O>> queue;
+	private final Thread collector;
+	private final ThreadPoolExecutor callers;
+	private volatile boolean closed;
+
+	private final DistributionSummary batchSizes;
+	private final Timer callLatency;
+	private final Timer requestLatency;
+
+	public MicroBatcher(String name, int maxBatchSize, long windowMillis, int queueSize, int concurrency,
+			Function<List<I>, List<O>> batchCall, MeterRegistry registry) {
+		if (maxBatchSize < 1 || windowMillis < 0 || queueSize < 1 || concurrency < 1) {
+			throw new IllegalArgumentException("배치 설정 값이 올바르지 않습니다.");
+		}
+		this.name = name;
+		this.maxBatchSize = maxBatchSize;
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+		this.batchCall = batchCall;
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+
+		Gauge.builder("batcher.queue.depth", queue, BlockingQueue::size).tag("name", name).register(registry);
+		this.batchSizes = DistributionSummary.builder("batcher.batch.size").tag("name", name).register(registry);
+		this.callLatency = Timer.builder("batcher.call.latency").tag("name", name).register(registry);
+		this.requestLatency = Timer.builder("batcher.request.latency").tag("name", name).register(registry);
+
+		AtomicInteger count = new AtomicInteger();
+		this.callers = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+				runnable -> daemon(runnable, name + "-call-" + count.incrementAndGet()),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		this.collector = daemon(this::collect, name + "-collector");
+		this.collector.start();
+	}
+
+	// 요청 추가 (대기열이 가득 찼거나 닫혔으면 바로 실패한 future 반환)
+	public CompletableFuture<O> submit(I input) {
+		CompletableFuture<O> future = new CompletableFuture<>();
+		if (closed || !queue.offer(new Pending<>(input, future, System.nanoTime()))) {
+			future.completeExceptionally(new IllegalStateException(name + " 대기열이 가득 찼습니다."));
+		}
+		return future;
+	}
+
+	public int queueDepth() {
+		return queue.size();
+	}
+
+	private void collect() {
+		while (!closed) {
+			List<Pending<I, O>> batch = new ArrayList<>(maxBatchSize);
+			try {
+				Pending<I, O> first = queue.take();
+				batch.add(first);
+				long deadline = first.enqueued + windowNanos;
+				while (batch.size() < maxBatchSize) {
+					long wait = deadline - System.nanoTime();
+					Pending<I, O> next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				fail(batch, new IllegalStateException(name + " 배치 호출기가 종료되었습니다."));
+				break;
+			}
+			callers.execute(() -> call(batch));
+		}
+	}
+
+	private void call(List<Pending<I, O>> batch) {
+		List<I> inputs = new ArrayList<>(batch.size());
+		for (Pending<I, O> pending : batch) {
+			inputs.add(pending.input);
+		}
+		batchSizes.record(batch.size());
+		List<O> outputs;
+		long started = System.nanoTime();
+		try {
+			outputs = batchCall.apply(inputs);
+		} catch (RuntimeException e) {
+			fail(batch, e);
+			return;
+		} finally {
+			callLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		}
+		if (outputs == null || outputs.size() != batch.size()) {
+			fail(batch, new IllegalStateException(name + " 배치 응답 개수가 요청과 다릅니다."));
+			return;
+		}
+		long now = System.nanoTime();
+		for (int i = 0; i < batch.size(); i++) {
+			Pending<I, O> pending = batch.get(i);
+			requestLatency.record(now - pending.enqueued, TimeUnit.NANOSECONDS);
+			pending.future.complete(outputs.get(i));
+		}
+	}
+
+	private void fail(List<Pending<I, O>> batch, Throwable cause) {
+		for (Pending<I, O> pending : batch) {
+			pending.future.completeExceptionally(cause);
+		}
+	}
+
+	// 남은 요청은 실패 처리
+	@Override
+	public void close() {
+		closed = true;
+		collector.interrupt();
+		callers.shutdown();
+		List<Pending<I, O>> rest = new ArrayList<>();
+		queue.drainTo(rest);
+		fail(rest, new IllegalStateException(name + " 배치 호출기가 종료되었습니다."));
+	}
+
+	private static Thread daemon(Runnable runnable, String threadName) {
+		Thread thread = new Thread(runnable, threadName);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	private static final class Pending<I, O> {
+		private final I input;
+		private final CompletableFuture<O> future;
+		private final long enqueued;
+
+		private Pending(I input, CompletableFuture<O> future, long enqueued) {
+			this.input = input;
+			this.future = future;
+			this.enqueued = enqueued;
+		}
+	}
+}
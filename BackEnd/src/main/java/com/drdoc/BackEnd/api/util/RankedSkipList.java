@@ -0,0 +1,175 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * (점수 내림차순, id 오름차순)으로 정렬되는 순위표용 skip list.
+ * 링크마다 건너뛰는 원소 수(span)를 같이 들고 있어서 삽입, 삭제, 순위 조회, n번째 조회가 모두 O(log n)이다.
+ * 같은 (점수, id)는 한 번만 들어 있다고 가정하며, 동기화는 호출하는 쪽에서 한다.
+ */
+public class RankedSkipList {
+
+	private static final int MAX_LEVEL = 32;
+	// 다음 레벨로 올라갈 확률
+	private static final double LEVEL_UP = 0.25;
+
+	private final Node head = new Node(0, 0, MAX_LEVEL);
+	private int level = 1;
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public void insert(long score, int id) {
+		Node[] update = new Node[MAX_LEVEL];
+		int[] rank = new int[MAX_LEVEL];
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			rank[i] = i == level - 1 ? 0 : rank[i + 1];
+			while (x.next[i] != null && compare(x.next[i], score, id) < 0) {
+				rank[i] += x.span[i];
+				x = x.next[i];
+			}
+			update[i] = x;
+		}
+		int nodeLevel = randomLevel();
+		if (nodeLevel > level) {
+			for (int i = level; i < nodeLevel; i++) {
+				rank[i] = 0;
+				update[i] = head;
+				head.span[i] = size;
+			}
+			level = nodeLevel;
+		}
+		Node node = new Node(score, id, nodeLevel);
+		for (int i = 0; i < nodeLevel; i++) {
+			node.next[i] = update[i].next[i];
+			update[i].next[i] = node;
+			node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+			update[i].span[i] = rank[0] - rank[i] + 1;
+		}
+		// 새 노드보다 높은 레벨의 링크는 건너뛰는 원소가 하나 늘어남
+		for (int i = nodeLevel; i < level; i++) {
+			update[i].span[i]++;
+		}
+		size++;
+	}
+
+	public boolean remove(long score, int id) {
+		Node[] update = new Node[MAX_LEVEL];
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && compare(x.next[i], score, id) < 0) {
+				x = x.next[i];
+			}
+			update[i] = x;
+		}
+		x = x.next[0];
+		if (x == null || x.score != score || x.id != id) {
+			return false;
+		}
+		for (int i = 0; i < level; i++) {
+			if (update[i].next[i] == x) {
+				update[i].span[i] += x.span[i] - 1;
+				update[i].next[i] = x.next[i];
+			} else {
+				update[i].span[i]--;
+			}
+		}
+		while (level > 1 && head.next[level - 1] == null) {
+			level--;
+		}
+		size--;
+		return true;
+	}
+
+	// (score, id)보다 앞에 있는 원소 수 (목록에 없는 키도 들어갈 자리 기준으로 계산)
+	public int countBefore(long score, int id) {
+		int rank = 0;
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && compare(x.next[i], score, id) < 0) {
+				rank += x.span[i];
+				x = x.next[i];
+			}
+		}
+		return rank;
+	}
+
+	// 점수가 score보다 큰 원소 수 (공동 순위 계산용)
+	public int countHigher(long score) {
+		return countBefore(score, Integer.MIN_VALUE);
+	}
+
+	// offset번째(0부터)부터 최대 limit개
+	public List<Entry> range(int offset, int limit) {
+		List<Entry> entries = new ArrayList<>();
+		if (offset < 0 || offset >= size || limit <= 0) {
+			return entries;
+		}
+		int target = offset + 1;
+		int traversed = 0;
+		Node x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && traversed + x.span[i] <= target) {
+				traversed += x.span[i];
+				x = x.next[i];
+			}
+		}
+		for (; x != null && entries.size() < limit; x = x.next[0]) {
+			entries.add(new Entry(x.score, x.id));
+		}
+		return entries;
+	}
+
+	private static int compare(Node node, long score, int id) {
+		if (node.score != score) {
+			return node.score > score ? -1 : 1;
+		}
+		return Integer.compare(node.id, id);
+	}
+
+	private static int randomLevel() {
+		int level = 1;
+		while (level < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < LEVEL_UP) {
+			level++;
+		}
+		return level;
+	}
+
+	public static class Entry {
+		private final long score;
+		private final int id;
+
+		public Entry(long score, int id) {
+			this.score = score;
+			this.id = id;
+		}
+
+		public long getScore() {
+			return score;
+		}
+
+		public int getId() {
+			return id;
+		}
+	}
+
+	private static final class Node {
+		private final long score;
+		private final int id;
+		private final Node[] next;
+		// next[i]까지 건너뛰는 원소 수 (next[i]가 없으면 끝까지 남은 원소 수)
+		private final int[] span;
+
+		private Node(long score, int id, int level) {
+			this.score = score;
+			this.id = id;
+			this.next = new Node[level];
+			this.span = new int[level];
+		}
+	}
+}
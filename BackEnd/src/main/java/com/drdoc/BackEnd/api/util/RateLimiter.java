@@ -0,0 +1,37 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 permitsPerSecond번을 넘지 않도록 호출 간격을 맞추는 속도 제한기.
+ * 다음 호출 가능 시각을 하나만 들고 있고, 기다린 적 없이 쉬었던 시간을 모아 한꺼번에 쓰지는 않는다(버스트 없음).
+ */
+public class RateLimiter {
+
+	private final long intervalNanos;
+	private long next;
+
+	public RateLimiter(double permitsPerSecond) {
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("초당 허용 횟수는 0보다 커야 합니다.");
+		}
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.next = System.nanoTime();
+	}
+
+	// 차례가 올 때까지 기다림
+	public void acquire() throws InterruptedException {
+		long wait;
+		synchronized (this) {
+			long now = System.nanoTime();
+			if (next - now < 0) {
+				next = now;
+			}
+			wait = next - now;
+			next += intervalNanos;
+		}
+		if (wait > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+}
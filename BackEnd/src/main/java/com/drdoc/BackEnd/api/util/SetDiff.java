@@ -0,0 +1,58 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 다대다 연결 수정용 집합 차이 (현재 연결 -> 요청한 연결).
+ * 해시 집합으로 한 번씩만 훑어서 O(n + m). 요청 순서를 유지하고 중복은 한 번만 센다.
+ */
+public final class SetDiff<T> {
+
+	private final Set<T> added;
+	private final Set<T> removed;
+	private final Set<T> kept;
+
+	private SetDiff(Set<T> added, Set<T> removed, Set<T> kept) {
+		this.added = added;
+		this.removed = removed;
+		this.kept = kept;
+	}
+
+	public static <T> SetDiff<T> of(Collection<T> current, Collection<T> desired) {
+		Set<T> currentSet = new LinkedHashSet<>(current);
+		Set<T> added = new LinkedHashSet<>();
+		Set<T> kept = new LinkedHashSet<>();
+		for (T value : desired) {
+			if (currentSet.remove(value)) {
+				kept.add(value);
+			} else if (!kept.contains(value)) {
+				added.add(value);
+			}
+		}
+		// 요청에 없어서 남은 현재 값이 제거 대상
+		return new SetDiff<>(Collections.unmodifiableSet(added), Collections.unmodifiableSet(currentSet),
+				Collections.unmodifiableSet(kept));
+	}
+
+	// 새로 연결할 값
+	public Set<T> getAdded() {
+		return added;
+	}
+
+	// 연결을 끊을 값
+	public Set<T> getRemoved() {
+		return removed;
+	}
+
+	// 그대로 둘 값
+	public Set<T> getKept() {
+		return kept;
+	}
+
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty();
+	}
+}
@@ -0,0 +1,120 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.Arrays;
+
+/**
+ * GPS 경로를 작은 바이너리로 인코딩/디코딩.
+ *
+ * 형식: [버전 1byte][점 개수 varint] 다음에 점마다 [위도][경도][시간]
+ * - 위도/경도는 1e-6도 단위 고정소수점, 시간은 epoch milliseconds
+ * - 첫 점은 값 그대로, 이후 점은 직전 점과의 차이를 zigzag varint로 기록
+ * 걷는 속도에서는 좌표 차이가 작아 점 하나가 보통 4~5byte에 들어간다(JSON 좌표 배열의 약 1/10).
+ * 인코딩/디코딩 모두 결과 배열 외에는 점마다 객체를 만들지 않는다.
+ */
+public final class TrackCodec {
+
+	public static final int MAX_POINTS = 100000;
+
+	private static final byte VERSION = 1;
+	private static final double SCALE = 1e6;
+	// 점 하나의 최대 크기 (int varint 5byte * 2 + long varint 10byte)
+	private static final int MAX_POINT_BYTES = 20;
+
+	private TrackCodec() {
+	}
+
+	public static byte[] encode(TrackPoints points) {
+		int count = points.size();
+		if (count > MAX_POINTS) {
+			throw new IllegalArgumentException("경로는 최대 " + MAX_POINTS + "개의 좌표까지 저장할 수 있습니다.");
+		}
+		byte[] buf = new byte[1 + 5 + count * MAX_POINT_BYTES];
+		int pos = 0;
+		buf[pos++] = VERSION;
+		pos = writeVarLong(buf, pos, count);
+
+		int prevLat = 0;
+		int prevLon = 0;
+		long prevTime = 0;
+		for (int i = 0; i < count; i++) {
+			double lat = points.lat(i);
+			double lon = points.lon(i);
+			if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || Double.isNaN(lat) || Double.isNaN(lon)) {
+				throw new IllegalArgumentException("경로 좌표가 올바르지 않습니다.");
+			}
+			int fixedLat = (int) Math.round(lat * SCALE);
+			int fixedLon = (int) Math.round(lon * SCALE);
+			long time = points.time(i);
+			pos = writeVarLong(buf, pos, zigzag(fixedLat - prevLat));
+			pos = writeVarLong(buf, pos, zigzag(fixedLon - prevLon));
+			pos = writeVarLong(buf, pos, zigzag(time - prevTime));
+			prevLat = fixedLat;
+			prevLon = fixedLon;
+			prevTime = time;
+		}
+		return Arrays.copyOf(buf, pos);
+	}
+
+	public static TrackPoints decode(byte[] data) {
+		try {
+			if (data[0] != VERSION) {
+				throw new IllegalArgumentException("지원하지 않는 경로 데이터 버전입니다.");
+			}
+			int[] pos = { 1 };
+			long count = readVarLong(data, pos);
+			if (count < 0 || count > MAX_POINTS) {
+				throw new IllegalArgumentException("잘못된 경로 데이터입니다.");
+			}
+			TrackPoints points = new TrackPoints((int) count);
+			long lat = 0;
+			long lon = 0;
+			long time = 0;
+			for (int i = 0; i < count; i++) {
+				lat += unzigzag(readVarLong(data, pos));
+				lon += unzigzag(readVarLong(data, pos));
+				time += unzigzag(readVarLong(data, pos));
+				points.add(lat / SCALE, lon / SCALE, time);
+			}
+			return points;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("잘못된 경로 데이터입니다.");
+		}
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static int writeVarLong(byte[] buf, int pos, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buf[pos++] = (byte) value;
+		return pos;
+	}
+
+	// pos[0] 위치부터 읽고 다음 위치로 옮김
+	private static long readVarLong(byte[] buf, int[] pos) {
+		long result = 0;
+		int shift = 0;
+		int p = pos[0];
+		while (true) {
+			byte b = buf[p++];
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				break;
+			}
+			shift += 7;
+			if (shift > 63) {
+				throw new IllegalArgumentException("잘못된 경로 데이터입니다.");
+			}
+		}
+		pos[0] = p;
+		return result;
+	}
+}
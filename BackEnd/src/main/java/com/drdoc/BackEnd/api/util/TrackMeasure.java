@@ -0,0 +1,99 @@
+package com.drdoc.BackEnd.api.util;
+
+/**
+ * GPS 경로로 서버에서 다시 계산한 산책 거리와 속도 이상 구간.
+ * 요청 처리 중에 바로 돌리므로 좌표 배열을 한 번만 훑고, 루프 안에서는 객체를 만들지 않는다.
+ */
+public final class TrackMeasure {
+
+	// 반려동물과 걸어서는 낼 수 없는 구간 속도(m/s, 약 36km/h)
+	public static final double MAX_SPEED_MPS = 10;
+	// 시간 간격이 0인 구간에서 GPS 흔들림으로 보고 넘어가는 거리(m)
+	private static final double GPS_JITTER_METERS = 5;
+	private static final double DEG_TO_RAD = Math.PI / 180;
+
+	// 속도 이상 구간을 뺀 거리(m)
+	private final double distance;
+	// 속도 이상으로 거리에서 뺀 구간 수와 거리(m)
+	private final int fastSegments;
+	private final double fastDistance;
+	// 정상 구간 중 최고 속도(m/s)
+	private final double maxSpeed;
+
+	private TrackMeasure(double distance, int fastSegments, double fastDistance, double maxSpeed) {
+		this.distance = distance;
+		this.fastSegments = fastSegments;
+		this.fastDistance = fastDistance;
+		this.maxSpeed = maxSpeed;
+	}
+
+	public static TrackMeasure of(TrackPoints points) {
+		return measure(points.lats(), points.lons(), points.times(), points.size());
+	}
+
+	// 구간 거리는 등거리 원통 근사 (두 끝점 위도의 cos 평균 사용)
+	// 수십 m 단위 산책 구간에서는 haversine과 차이가 mm 수준이고, 점마다 cos 1번 + sqrt 1번으로 끝난다.
+	public static TrackMeasure measure(double[] lats, double[] lons, long[] times, int size) {
+		if (size < 2) {
+			return new TrackMeasure(0, 0, 0, 0);
+		}
+		double distance = 0;
+		double fastDistance = 0;
+		double maxSpeed = 0;
+		int fastSegments = 0;
+		double prevLat = lats[0] * DEG_TO_RAD;
+		double prevLon = lons[0] * DEG_TO_RAD;
+		double prevCos = Math.cos(prevLat);
+		long prevTime = times[0];
+		for (int i = 1; i < size; i++) {
+			double lat = lats[i] * DEG_TO_RAD;
+			double lon = lons[i] * DEG_TO_RAD;
+			double cos = Math.cos(lat);
+			double dLon = lon - prevLon;
+			// 날짜 변경선을 넘는 구간
+			if (dLon > Math.PI) {
+				dLon -= 2 * Math.PI;
+			} else if (dLon < -Math.PI) {
+				dLon += 2 * Math.PI;
+			}
+			double x = dLon * (cos + prevCos) * 0.5;
+			double y = lat - prevLat;
+			double segment = GeoUtil.EARTH_RADIUS_METERS * Math.sqrt(x * x + y * y);
+			long elapsed = times[i] - prevTime;
+			double speed = elapsed > 0 ? segment * 1000 / elapsed
+					: segment > GPS_JITTER_METERS ? Double.POSITIVE_INFINITY : 0;
+			if (speed > MAX_SPEED_MPS) {
+				fastSegments++;
+				fastDistance += segment;
+			} else {
+				distance += segment;
+				maxSpeed = Math.max(maxSpeed, speed);
+			}
+			prevLat = lat;
+			prevLon = lon;
+			prevCos = cos;
+			prevTime = times[i];
+		}
+		return new TrackMeasure(distance, fastSegments, fastDistance, maxSpeed);
+	}
+
+	public double getDistance() {
+		return distance;
+	}
+
+	public int getFastSegments() {
+		return fastSegments;
+	}
+
+	public double getFastDistance() {
+		return fastDistance;
+	}
+
+	public double getMaxSpeed() {
+		return maxSpeed;
+	}
+
+	public boolean isSpeedFlagged() {
+		return fastSegments > 0;
+	}
+}
@@ -0,0 +1,70 @@
+package com.drdoc.BackEnd.api.util;
+
+/**
+ * GPS 경로 좌표 목록. 점마다 객체를 만들지 않도록 위도/경도/시간을 각각 primitive 배열로 들고 있다.
+ * 시간은 epoch milliseconds.
+ */
+public class TrackPoints {
+
+	private final double[] lats;
+	private final double[] lons;
+	private final long[] times;
+	private int size;
+
+	public TrackPoints(int capacity) {
+		this.lats = new double[capacity];
+		this.lons = new double[capacity];
+		this.times = new long[capacity];
+	}
+
+	public TrackPoints(double[] lats, double[] lons, long[] times) {
+		if (lats == null || lons == null || times == null || lats.length != lons.length
+				|| lats.length != times.length) {
+			throw new IllegalArgumentException("경로의 위도, 경도, 시간 개수가 일치하지 않습니다.");
+		}
+		this.lats = lats;
+		this.lons = lons;
+		this.times = times;
+		this.size = lats.length;
+	}
+
+	public void add(double lat, double lon, long time) {
+		lats[size] = lat;
+		lons[size] = lon;
+		times[size] = time;
+		size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return lats.length;
+	}
+
+	public double lat(int i) {
+		return lats[i];
+	}
+
+	public double lon(int i) {
+		return lons[i];
+	}
+
+	public long time(int i) {
+		return times[i];
+	}
+
+	// 내부 배열 그대로 반환 (size 이후 값은 의미 없음)
+	public double[] lats() {
+		return lats;
+	}
+
+	public double[] lons() {
+		return lons;
+	}
+
+	public long[] times() {
+		return times;
+	}
+}
@@ -0,0 +1,110 @@
+package com.drdoc.BackEnd.api.util;
+
+import java.util.Arrays;
+
+/**
+ * Douglas-Peucker 경로 단순화.
+ * 긴 산책에서도 스택이 넘치지 않도록 재귀 대신 구간(시작, 끝) 스택을 직접 관리한다.
+ * 거리 계산은 첫 점 기준 등장방형(equirectangular) 투영 후 미터 단위로 한다.
+ */
+public final class TrackSimplifier {
+
+	private static final double EARTH_RADIUS_METERS = 6371008.8;
+
+	private TrackSimplifier() {
+	}
+
+	// 오차 toleranceMeters 이내로 단순화한 경로
+	public static TrackPoints simplify(TrackPoints points, double toleranceMeters) {
+		int n = points.size();
+		if (n <= 2) {
+			return copy(points, null, n);
+		}
+		double[] x = new double[n];
+		double[] y = new double[n];
+		project(points, x, y);
+
+		boolean[] keep = new boolean[n];
+		keep[0] = true;
+		keep[n - 1] = true;
+		int kept = 2;
+
+		int[] stack = new int[64];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = n - 1;
+		double toleranceSquared = toleranceMeters * toleranceMeters;
+		while (top > 0) {
+			int end = stack[--top];
+			int start = stack[--top];
+			double maxDistance = -1;
+			int farthest = -1;
+			for (int i = start + 1; i < end; i++) {
+				double distance = segmentDistanceSquared(x[i], y[i], x[start], y[start], x[end], y[end]);
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					farthest = i;
+				}
+			}
+			if (farthest < 0 || maxDistance <= toleranceSquared) {
+				continue;
+			}
+			keep[farthest] = true;
+			kept++;
+			if (top + 4 > stack.length) {
+				stack = Arrays.copyOf(stack, stack.length * 2);
+			}
+			stack[top++] = start;
+			stack[top++] = farthest;
+			stack[top++] = farthest;
+			stack[top++] = end;
+		}
+		return copy(points, keep, kept);
+	}
+
+	// maxPoints개 이하가 될 때까지 허용 오차를 두 배씩 늘려가며 단순화
+	public static TrackPoints simplifyToMax(TrackPoints points, double toleranceMeters, int maxPoints) {
+		TrackPoints simplified = simplify(points, toleranceMeters);
+		while (simplified.size() > Math.max(2, maxPoints)) {
+			toleranceMeters *= 2;
+			simplified = simplify(simplified, toleranceMeters);
+		}
+		return simplified;
+	}
+
+	private static void project(TrackPoints points, double[] x, double[] y) {
+		double lat0 = Math.toRadians(points.lat(0));
+		double lon0 = Math.toRadians(points.lon(0));
+		double cosLat0 = Math.cos(lat0);
+		for (int i = 0; i < x.length; i++) {
+			x[i] = (Math.toRadians(points.lon(i)) - lon0) * cosLat0 * EARTH_RADIUS_METERS;
+			y[i] = (Math.toRadians(points.lat(i)) - lat0) * EARTH_RADIUS_METERS;
+		}
+	}
+
+	// 점 (px, py)와 선분 (ax, ay)-(bx, by) 사이 거리의 제곱
+	private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSquared = dx * dx + dy * dy;
+		double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+		if (t < 0) {
+			t = 0;
+		} else if (t > 1) {
+			t = 1;
+		}
+		double cx = ax + t * dx - px;
+		double cy = ay + t * dy - py;
+		return cx * cx + cy * cy;
+	}
+
+	private static TrackPoints copy(TrackPoints points, boolean[] keep, int count) {
+		TrackPoints result = new TrackPoints(count);
+		for (int i = 0; i < points.size(); i++) {
+			if (keep == null || keep[i]) {
+				result.add(points.lat(i), points.lon(i), points.time(i));
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,60 @@
+package com.drdoc.BackEnd.api.websocket;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.drdoc.BackEnd.api.jwt.JwtFilter;
+import com.drdoc.BackEnd.api.jwt.TokenProvider;
+
+import lombok.RequiredArgsConstructor;
+
+// 웹소켓 연결 시 JWT 검증 (브라우저는 웹소켓 헤더를 붙일 수 없어 token 쿼리 파라미터도 허용)
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+	public static final String MEMBER_ID = "memberId";
+
+	private final TokenProvider tokenProvider;
+
+	@Override
+	public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+			Map<String, Object> attributes) {
+		String token = resolveToken(request);
+		if (!StringUtils.hasText(token)) {
+			response.setStatusCode(HttpStatus.UNAUTHORIZED);
+			return false;
+		}
+		try {
+			Authentication authentication = tokenProvider.getAuthentication(token);
+			attributes.put(MEMBER_ID, authentication.getName());
+			return true;
+		} catch (RuntimeException e) {
+			// 잘못된 토큰(JwtException), 빈 토큰(IllegalArgumentException), 권한 정보가 없는 토큰(RuntimeException) 모두 인증 실패
+			response.setStatusCode(HttpStatus.UNAUTHORIZED);
+			return false;
+		}
+	}
+
+	@Override
+	public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+			Exception exception) {
+	}
+
+	private String resolveToken(ServerHttpRequest request) {
+		String bearerToken = request.getHeaders().getFirst(JwtFilter.AUTHORIZATION_HEADER);
+		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+			return bearerToken.substring(7);
+		}
+		return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+	}
+}
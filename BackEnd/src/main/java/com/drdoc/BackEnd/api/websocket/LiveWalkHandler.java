@@ -0,0 +1,75 @@
+package com.drdoc.BackEnd.api.websocket;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.drdoc.BackEnd.api.domain.dto.LiveWalkMessageDto;
+import com.drdoc.BackEnd.api.domain.dto.LiveWalkStatusDto;
+import com.drdoc.BackEnd.api.service.LiveWalkRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 산책 웹소켓 (/ws/walk/live).
+ * start로 세션을 열고 fix로 좌표를 보내면 누적 거리, 페이스를 응답한다.
+ * end를 보내거나 연결이 끊기면 그때까지의 경로를 산책 기록으로 한 번에 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveWalkHandler extends TextWebSocketHandler {
+
+	private static final Logger logger = LoggerFactory.getLogger(LiveWalkHandler.class);
+
+	private final LiveWalkRegistry liveWalkRegistry;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+		LiveWalkMessageDto request;
+		try {
+			request = objectMapper.readValue(message.getPayload(), LiveWalkMessageDto.class);
+		} catch (JsonProcessingException e) {
+			send(session, LiveWalkStatusDto.error("잘못된 메시지 형식입니다."));
+			return;
+		}
+		String memberId = (String) session.getAttributes().get(JwtHandshakeInterceptor.MEMBER_ID);
+		try {
+			if (LiveWalkMessageDto.START.equals(request.getType())) {
+				send(session, liveWalkRegistry.start(session.getId(), memberId, request.getPet_ids()).status());
+			} else if (LiveWalkMessageDto.FIX.equals(request.getType())) {
+				send(session, liveWalkRegistry.get(session.getId()).addFixes(request.getLats(), request.getLons(),
+						request.getTimes()));
+			} else if (LiveWalkMessageDto.END.equals(request.getType())) {
+				send(session, LiveWalkStatusDto.saved(liveWalkRegistry.finish(session.getId())));
+				session.close(CloseStatus.NORMAL);
+			} else {
+				send(session, LiveWalkStatusDto.error("지원하지 않는 메시지입니다."));
+			}
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			send(session, LiveWalkStatusDto.error(e.getMessage()));
+		}
+	}
+
+	// end 없이 끊긴 경우에도 그때까지의 경로 저장
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+		try {
+			liveWalkRegistry.finish(session.getId());
+		} catch (RuntimeException e) {
+			logger.warn("실시간 산책 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	private void send(WebSocketSession session, LiveWalkStatusDto status) throws IOException {
+		session.sendMessage(new TextMessage(objectMapper.writeValueAsString(status)));
+	}
+}
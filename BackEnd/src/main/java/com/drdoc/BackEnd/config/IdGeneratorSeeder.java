@@ -0,0 +1,105 @@
+package com.drdoc.BackEnd.config;
+
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.drdoc.BackEnd.api.domain.IdGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY에서 테이블 id 생성기로 옮긴 엔티티의 생성기 값을 기존 최대 id보다 크게 맞춰둔다.
+ * pooled 방식은 저장된 값 기준으로 (값 - ALLOCATION_SIZE, 값] 범위를 쓰기 때문에
+ * max(id) + 1 + ALLOCATION_SIZE 이상이어야 기존 id와 겹치지 않는다.
+ * EntityManagerFactory가 이 빈에 의존하므로 id를 할당받는 insert보다 항상 먼저 실행되고,
+ * 실패하면 기존 id와 겹칠 수 있으므로 서버를 띄우지 않는다.
+ */
+@Component(IdGeneratorSeeder.BEAN_NAME)
+@RequiredArgsConstructor
+public class IdGeneratorSeeder implements InitializingBean {
+
+	static final String BEAN_NAME = "idGeneratorSeeder";
+
+	private static final Logger logger = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+	// 생성기 이름 -> 실제 테이블 이름
+	private static final Map<String, String> TABLES = new LinkedHashMap<>();
+	static {
+		TABLES.put("walk", "walk");
+		TABLES.put("walkPet", "walk_pet");
+		TABLES.put("journal", "journal");
+		TABLES.put("comment", "comment");
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterPropertiesSet() {
+		// Hibernate가 스키마를 갱신하기 전이라 생성기 테이블이 없을 수 있음 (Hibernate가 만드는 것과 같은 구조)
+		jdbcTemplate.execute("create table if not exists " + IdGenerator.TABLE + " (" + IdGenerator.PK_COLUMN
+				+ " varchar(255) not null, " + IdGenerator.VALUE_COLUMN + " bigint, primary key ("
+				+ IdGenerator.PK_COLUMN + "))");
+		TABLES.forEach((name, table) -> {
+			// 처음 띄우는 DB라 테이블이 아직 없으면 겹칠 id도 없음
+			if (!exists(table)) {
+				return;
+			}
+			try {
+				seed(name, table);
+			} catch (RuntimeException e) {
+				throw new IllegalStateException("id 생성기 초기화 실패: " + name, e);
+			}
+		});
+	}
+
+	private void seed(String name, String table) {
+		Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+		long seed = maxId + 1 + IdGenerator.ALLOCATION_SIZE;
+		List<Long> current = jdbcTemplate.queryForList("select " + IdGenerator.VALUE_COLUMN + " from "
+				+ IdGenerator.TABLE + " where " + IdGenerator.PK_COLUMN + " = ?", Long.class, name);
+		if (current.isEmpty()) {
+			try {
+				jdbcTemplate.update("insert into " + IdGenerator.TABLE + " (" + IdGenerator.PK_COLUMN + ", "
+						+ IdGenerator.VALUE_COLUMN + ") values (?, ?)", name, seed);
+				logger.info("id 생성기 초기화: {} = {}", name, seed);
+				return;
+			} catch (DuplicateKeyException e) {
+				// 다른 서버가 동시에 넣었으면 아래 조건부 갱신으로 맞춤
+			}
+		}
+		// 이미 더 큰 값이면 그대로 둠 (여러 서버가 동시에 떠도 값이 줄어들지 않음)
+		if (jdbcTemplate.update("update " + IdGenerator.TABLE + " set " + IdGenerator.VALUE_COLUMN + " = ? where "
+				+ IdGenerator.PK_COLUMN + " = ? and " + IdGenerator.VALUE_COLUMN + " < ?", seed, name, seed) > 0) {
+			logger.info("id 생성기 초기화: {} = {}", name, seed);
+		}
+	}
+
+	private boolean exists(String table) {
+		return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, table,
+					new String[] { "TABLE" })) {
+				return tables.next();
+			}
+		});
+	}
+
+	// EntityManagerFactory(웹 서버, 스케줄러, 러너보다 먼저 만들어짐)가 생성기 초기화 이후에 만들어지도록 의존 관계 추가
+	@Configuration(proxyBeanMethods = false)
+	static class EntityManagerFactoryDependsOnSeeder extends EntityManagerFactoryDependsOnPostProcessor {
+		EntityManagerFactoryDependsOnSeeder() {
+			super(BEAN_NAME);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.drdoc.BackEnd.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.drdoc.BackEnd.api.service.JournalTimelineService;
+
+import lombok.RequiredArgsConstructor;
+
+// --rebuild-journal-timeline 옵션으로 실행하면 일지 원본으로 반려동물별 증상 추이 요약을 다시 계산
+@Component
+@RequiredArgsConstructor
+public class JournalTimelineRebuildRunner implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(JournalTimelineRebuildRunner.class);
+
+	public static final String OPTION = "rebuild-journal-timeline";
+
+	private final JournalTimelineService journalTimelineService;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!args.containsOption(OPTION)) {
+			return;
+		}
+		long started = System.currentTimeMillis();
+		int count = journalTimelineService.rebuildAll();
+		logger.info("증상 추이 요약 재계산 완료: 반려동물 {}마리, {}ms", count, System.currentTimeMillis() - started);
+	}
+}
@@ -0,0 +1,20 @@
+package com.drdoc.BackEnd.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate JDBC batch 설정 (MySQL은 JDBC URL에 rewriteBatchedStatements=true도 함께 지정)
+@Configuration
+public class JpaBatchConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+		return (properties) -> {
+			properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+			properties.putIfAbsent("hibernate.order_inserts", true);
+			properties.putIfAbsent("hibernate.order_updates", true);
+		};
+	}
+}
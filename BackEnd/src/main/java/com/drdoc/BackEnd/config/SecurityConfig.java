@@ -76,7 +76,8 @@ public class SecurityConfig { // 추가적인 보안 설정
 				.and().authorizeRequests() // HttpServletRequest를 사용하는 요청들에 대한 접근제한 설정하겠다
 				.requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
 				.antMatchers("/web-resources/**",
-						"/actuator/**", "/api/user/public/**", "/api/user/auth/reissue", "/api/user/auth/logout")
+						"/actuator/**", "/api/user/public/**", "/api/user/auth/reissue", "/api/user/auth/logout",
+						"/ws/walk/live") // 웹소켓은 JwtHandshakeInterceptor에서 인증
 				.permitAll()// 해당 api 요청은 인증없이 접근 허용하겠다는 의미
 //        		.antMatchers("/be/items/**").hasRole("STUDENT")
 //        		.antMatchers("/be/admin/**","/be/excel/**").hasRole("ADMIN")
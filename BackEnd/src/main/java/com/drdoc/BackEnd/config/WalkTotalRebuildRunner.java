@@ -0,0 +1,39 @@
+package com.drdoc.BackEnd.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.drdoc.BackEnd.api.service.WalkCalendarService;
+import com.drdoc.BackEnd.api.service.WalkRollupService;
+import com.drdoc.BackEnd.api.service.WalkTotalService;
+
+import lombok.RequiredArgsConstructor;
+
+// --rebuild-walk-totals 옵션으로 실행하면 산책 원본 기록으로 반려동물별 산책 집계(전체, 일/주/월, 달력)를 다시 계산
+@Component
+@RequiredArgsConstructor
+public class WalkTotalRebuildRunner implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(WalkTotalRebuildRunner.class);
+
+	public static final String OPTION = "rebuild-walk-totals";
+
+	private final WalkTotalService walkTotalService;
+	private final WalkRollupService walkRollupService;
+	private final WalkCalendarService walkCalendarService;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!args.containsOption(OPTION)) {
+			return;
+		}
+		long started = System.currentTimeMillis();
+		int count = walkTotalService.rebuildAll();
+		walkRollupService.rebuildAll();
+		walkCalendarService.rebuildAll();
+		logger.info("산책 집계 재계산 완료: 반려동물 {}마리, {}ms", count, System.currentTimeMillis() - started);
+	}
+}
@@ -0,0 +1,26 @@
+package com.drdoc.BackEnd.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.drdoc.BackEnd.api.websocket.JwtHandshakeInterceptor;
+import com.drdoc.BackEnd.api.websocket.LiveWalkHandler;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+	private final LiveWalkHandler liveWalkHandler;
+	private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(liveWalkHandler, "/ws/walk/live").addInterceptors(jwtHandshakeInterceptor)
+				.setAllowedOriginPatterns("*");
+	}
+}
@@ -0,0 +1,225 @@
+package com.drdoc.BackEnd.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 로컬 HTTP 서버를 AI 서버로 두고 배치 호출과 단건 호출을 확인
+class HttpDiagnosisClientTest {
+
+	private static final int MAX_BATCH_SIZE = 4;
+	private static final long WINDOW_MS = 1000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	// 서버가 받은 배치 요청마다 사진 수
+	private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+	private final List<String> paths = new CopyOnWriteArrayList<>();
+	// 배치 응답에서 뺄 결과 수 (응답 개수가 다른 경우), 음수면 500 응답
+	private volatile int dropResults;
+
+	private HttpServer server;
+	private HttpDiagnosisClient client;
+	private ExecutorService callers;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+		client = new HttpDiagnosisClient(new RestTemplateBuilder(), registry,
+				"http://localhost:" + server.getAddress().getPort(), 2000, "v1", "eye", MAX_BATCH_SIZE, WINDOW_MS, 100,
+				2);
+		callers = Executors.newFixedThreadPool(MAX_BATCH_SIZE * 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		client.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void sendsConcurrentRequestsAsOneBatch() throws Exception {
+		List<String> results = diagnoseConcurrently("eye", MAX_BATCH_SIZE);
+
+		// 창(1초)이 지나기 전에 최대 크기로 모여서 한 번에 호출되고, 각 호출자는 자기 사진의 결과를 받음
+		assertEquals(expected(MAX_BATCH_SIZE), results);
+		assertEquals(Collections.singletonList(MAX_BATCH_SIZE), batchSizes);
+		assertEquals(Collections.singletonList("/eye/batch"), paths);
+	}
+
+	@Test
+	void closesPartialBatchAfterWindow() throws Exception {
+		long started = System.nanoTime();
+
+		assertEquals("photo-0", client.diagnose("eye", photo(0)));
+
+		assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(WINDOW_MS));
+		assertEquals(Collections.singletonList(1), batchSizes);
+	}
+
+	@Test
+	void splitsRequestsOverMaxBatchSize() throws Exception {
+		List<String> results = diagnoseConcurrently("eye", MAX_BATCH_SIZE * 2);
+
+		assertEquals(expected(MAX_BATCH_SIZE * 2), results);
+		assertEquals(MAX_BATCH_SIZE * 2, batchSizes.stream().mapToInt(Integer::intValue).sum());
+		assertTrue(batchSizes.stream().allMatch(size -> size <= MAX_BATCH_SIZE));
+	}
+
+	@Test
+	void sendsOtherPartsOneByOne() {
+		assertEquals("photo-7", client.diagnose("skin", photo(7)));
+
+		assertEquals(Collections.singletonList("/skin"), paths);
+		assertTrue(batchSizes.isEmpty());
+	}
+
+	@Test
+	void failsEveryCallerWhenResultCountDiffers() throws Exception {
+		dropResults = 1;
+
+		for (Future<String> future : submitConcurrently("eye", MAX_BATCH_SIZE)) {
+			assertFailedWith(IllegalStateException.class, future);
+		}
+		assertEquals(Collections.singletonList(MAX_BATCH_SIZE), batchSizes);
+	}
+
+	@Test
+	void failsEveryCallerWhenServerFails() throws Exception {
+		dropResults = -1;
+
+		for (Future<String> future : submitConcurrently("eye", MAX_BATCH_SIZE)) {
+			assertFailedWith(HttpServerErrorException.class, future);
+		}
+	}
+
+	@Test
+	void recordsBatchMetrics() throws Exception {
+		diagnoseConcurrently("eye", MAX_BATCH_SIZE);
+
+		String name = "diagnosis-eye";
+		assertEquals(1, registry.get("batcher.batch.size").tag("name", name).summary().count());
+		assertEquals(MAX_BATCH_SIZE, registry.get("batcher.batch.size").tag("name", name).summary().totalAmount(), 0);
+		assertEquals(1, registry.get("batcher.call.latency").tag("name", name).timer().count());
+		assertEquals(MAX_BATCH_SIZE, registry.get("batcher.request.latency").tag("name", name).timer().count());
+		assertEquals(0, registry.get("batcher.queue.depth").tag("name", name).gauge().value(), 0);
+	}
+
+	// 사진 내용을 그대로 진단 결과로 돌려주는 AI 서버
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		paths.add(path);
+		Map<String, Object> body;
+		try (InputStream in = exchange.getRequestBody()) {
+			body = objectMapper.readValue(in, new TypeReference<Map<String, Object>>() {
+			});
+		}
+		Object response;
+		if (path.endsWith("/batch")) {
+			@SuppressWarnings("unchecked")
+			List<String> images = (List<String>) body.get("images");
+			batchSizes.add(images.size());
+			if (dropResults < 0) {
+				respond(exchange, 500, "{}");
+				return;
+			}
+			List<String> results = images.stream().map(this::decode).collect(Collectors.toList());
+			response = Collections.singletonMap("results", results.subList(0, results.size() - dropResults));
+		} else {
+			response = Collections.singletonMap("result", decode((String) body.get("image")));
+		}
+		respond(exchange, 200, objectMapper.writeValueAsString(response));
+	}
+
+	private void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	// 호출자들이 동시에 출발하도록 맞춘 뒤 진단 요청
+	private List<Future<String>> submitConcurrently(String part, int count) throws InterruptedException {
+		CountDownLatch ready = new CountDownLatch(count);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> futures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			byte[] image = photo(i);
+			futures.add(callers.submit(() -> {
+				ready.countDown();
+				start.await();
+				return client.diagnose(part, image);
+			}));
+		}
+		ready.await();
+		start.countDown();
+		return futures;
+	}
+
+	private List<String> diagnoseConcurrently(String part, int count) throws Exception {
+		List<String> results = new ArrayList<>(count);
+		for (Future<String> future : submitConcurrently(part, count)) {
+			results.add(future.get(10, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	private static void assertFailedWith(Class<? extends Throwable> type, Future<String> future) {
+		Throwable cause = assertThrows(ExecutionException.class,
+				() -> future.get(10, TimeUnit.SECONDS)).getCause();
+		assertTrue(type.isInstance(cause), cause.toString());
+	}
+
+	private static List<String> expected(int count) {
+		List<String> results = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			results.add("photo-" + i);
+		}
+		return results;
+	}
+
+	private static byte[] photo(int index) {
+		return ("photo-" + index).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String decode(String image) {
+		return new String(Base64.getDecoder().decode(image), StandardCharsets.UTF_8);
+	}
+}
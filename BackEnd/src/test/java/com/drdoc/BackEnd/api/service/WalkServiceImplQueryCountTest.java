@@ -0,0 +1,139 @@
+package com.drdoc.BackEnd.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.drdoc.BackEnd.api.domain.Pet;
+import com.drdoc.BackEnd.api.domain.User;
+import com.drdoc.BackEnd.api.domain.Walk;
+import com.drdoc.BackEnd.api.domain.WalkPet;
+import com.drdoc.BackEnd.api.domain.dto.WalkDetailDto;
+import com.drdoc.BackEnd.api.domain.dto.WalkRegisterRequestDto;
+
+// 산책 목록 조회 시 반려동물 정보를 붙이는 쿼리 수가 산책 수와 관계없이 일정한지 확인
+@DataJpaTest(properties = { "spring.datasource.url=jdbc:h2:mem:walk;MODE=MySQL;NON_KEYWORDS=USER",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(WalkServiceImpl.class)
+class WalkServiceImplQueryCountTest {
+
+	private static final String MEMBER_ID = "walker";
+
+	@Autowired
+	private WalkServiceImpl walkService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private WalkTotalService walkTotalService;
+	@MockBean
+	private LastWalkIndex lastWalkIndex;
+	@MockBean
+	private WalkRollupService walkRollupService;
+	@MockBean
+	private WalkCalendarService walkCalendarService;
+	@MockBean
+	private WalkHeatIndex walkHeatIndex;
+	@MockBean
+	private WalkLeaderboard walkLeaderboard;
+
+	private User user;
+	private List<Pet> pets;
+
+	@BeforeEach
+	void setUp() {
+		user = User.builder().memberId(MEMBER_ID).password("password").nickname("walker").gender("M")
+				.phone("01012345678").email("walker@drdoc.com").build();
+		entityManager.persist(user);
+		pets = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Pet pet = Pet.builder().user(user).name("pet" + i).gender("F").birth(LocalDateTime.of(2020, 1, 1, 0, 0))
+					.build();
+			entityManager.persist(pet);
+			pets.add(pet);
+		}
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(MEMBER_ID, null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void listAllQueryCountDoesNotGrowWithWalks() {
+		saveWalks(1);
+		long one = countQueries(1);
+
+		saveWalks(19);
+		long twenty = countQueries(20);
+
+		saveWalks(30);
+		long fifty = countQueries(50);
+
+		assertEquals(one, twenty);
+		assertEquals(one, fifty);
+	}
+
+	@Test
+	void listAllAttachesPetsToEachWalk() {
+		saveWalks(5);
+		entityManager.flush();
+		entityManager.clear();
+
+		Slice<WalkDetailDto> walks = walkService.listAll(0, 5, null);
+
+		assertEquals(5, walks.getContent().size());
+		for (WalkDetailDto walk : walks.getContent()) {
+			assertEquals(pets.size(), walk.getPetsList().size());
+		}
+	}
+
+	// 1차 캐시를 비운 뒤 목록 한 페이지를 조회하는 동안 실행된 SQL 수
+	private long countQueries(int size) {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		Slice<WalkDetailDto> walks = walkService.listAll(0, size, null);
+		assertEquals(size, walks.getContent().size());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void saveWalks(int count) {
+		LocalDateTime start = LocalDateTime.of(2022, 9, 14, 9, 0);
+		for (int i = 0; i < count; i++) {
+			Walk walk = new Walk(WalkRegisterRequestDto.builder().start_time(start).end_time(start.plusMinutes(30))
+					.distance(1000).build(), user);
+			entityManager.persist(walk);
+			for (Pet pet : pets) {
+				entityManager.persist(new WalkPet(walk, pet));
+			}
+		}
+	}
+}
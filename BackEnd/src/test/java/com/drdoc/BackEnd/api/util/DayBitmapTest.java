@@ -0,0 +1,96 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DayBitmapTest {
+
+	// 31일 모두 산책한 달
+	private static final int FULL_MONTH = 0x7FFFFFFF;
+
+	@Test
+	void emptyMonthHasNoRuns() {
+		assertEquals(0, DayBitmap.longestRun(0));
+		assertEquals(0, DayBitmap.leadingRun(0));
+		assertEquals(0, DayBitmap.runEndingAt(0, 1));
+		assertEquals(0, DayBitmap.runEndingAt(0, 31));
+		assertArrayEquals(new int[0], DayBitmap.days(0));
+	}
+
+	@Test
+	void fullMonthIsOneRun() {
+		assertEquals(31, DayBitmap.longestRun(FULL_MONTH));
+		assertEquals(31, DayBitmap.leadingRun(FULL_MONTH));
+		assertEquals(31, DayBitmap.runEndingAt(FULL_MONTH, 31));
+		assertEquals(1, DayBitmap.runEndingAt(FULL_MONTH, 1));
+		assertEquals(15, DayBitmap.runEndingAt(FULL_MONTH, 15));
+		assertEquals(31, DayBitmap.days(FULL_MONTH).length);
+	}
+
+	@Test
+	void firstAndLastDayOfMonth() {
+		int first = 1;
+		int last = 1 << 30;
+
+		assertEquals(1, DayBitmap.leadingRun(first));
+		assertEquals(0, DayBitmap.leadingRun(last));
+		assertEquals(1, DayBitmap.runEndingAt(first, 1));
+		assertEquals(1, DayBitmap.runEndingAt(last, 31));
+		assertEquals(0, DayBitmap.runEndingAt(last, 30));
+		assertArrayEquals(new int[] { 1, 31 }, DayBitmap.days(first | last));
+	}
+
+	@Test
+	void runsAreSplitByMissedDays() {
+		// 1~3일, 5~9일, 20일
+		int bits = days(1, 2, 3, 5, 6, 7, 8, 9, 20);
+
+		assertEquals(5, DayBitmap.longestRun(bits));
+		assertEquals(3, DayBitmap.leadingRun(bits));
+		assertEquals(5, DayBitmap.runEndingAt(bits, 9));
+		assertEquals(3, DayBitmap.runEndingAt(bits, 7));
+		assertEquals(0, DayBitmap.runEndingAt(bits, 4));
+		assertEquals(1, DayBitmap.runEndingAt(bits, 20));
+		assertArrayEquals(new int[] { 1, 2, 3, 5, 6, 7, 8, 9, 20 }, DayBitmap.days(bits));
+	}
+
+	@Test
+	void matchesDayByDayCount() {
+		Random random = new Random(42);
+		for (int n = 0; n < 10000; n++) {
+			int bits = random.nextInt() & FULL_MONTH;
+			boolean[] walked = new boolean[32];
+			for (int day = 1; day <= 31; day++) {
+				walked[day] = (bits & (1 << (day - 1))) != 0;
+			}
+
+			int longest = 0;
+			int run = 0;
+			for (int day = 1; day <= 31; day++) {
+				run = walked[day] ? run + 1 : 0;
+				longest = Math.max(longest, run);
+				assertEquals(run, DayBitmap.runEndingAt(bits, day));
+			}
+			int leading = 0;
+			while (leading < 31 && walked[leading + 1]) {
+				leading++;
+			}
+
+			assertEquals(longest, DayBitmap.longestRun(bits));
+			assertEquals(leading, DayBitmap.leadingRun(bits));
+			assertEquals(Integer.bitCount(bits), DayBitmap.days(bits).length);
+		}
+	}
+
+	private static int days(int... days) {
+		int bits = 0;
+		for (int day : days) {
+			bits |= 1 << (day - 1);
+		}
+		return bits;
+	}
+}
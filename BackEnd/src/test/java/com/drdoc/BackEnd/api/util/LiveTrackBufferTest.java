@@ -0,0 +1,150 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LiveTrackBufferTest {
+
+	private static final long START = 1663137870327L;
+	// 위도 0.00001도 (약 1.1m)
+	private static final double STEP = 0.00001;
+
+	@Test
+	void rejectsCapacityBelowFour() {
+		assertThrows(IllegalArgumentException.class, () -> new LiveTrackBuffer(3));
+	}
+
+	@Test
+	void emptyBufferHasNoPoints() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(4);
+
+		assertEquals(0, buffer.toPoints().size());
+		assertEquals(0, buffer.distance(), 0);
+		assertEquals(0, buffer.recentPaceSecondsPerKm(), 0);
+	}
+
+	@Test
+	void ignoresInvalidAndOutOfOrderFixes() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(8);
+
+		assertTrue(buffer.add(37.5, 127.0, START));
+		assertFalse(buffer.add(91, 127.0, START + 1000));
+		assertFalse(buffer.add(37.5, 181, START + 1000));
+		assertFalse(buffer.add(37.5001, 127.0, START));
+		assertFalse(buffer.add(37.5001, 127.0, START - 1000));
+		// 시작 후 int 범위(약 24일)를 넘는 시간은 저장할 수 없음
+		assertFalse(buffer.add(37.5001, 127.0, START + Integer.MAX_VALUE + 1L));
+
+		assertEquals(1, buffer.fixCount());
+		assertEquals(0, buffer.distance(), 0);
+	}
+
+	@Test
+	void keepsEveryFixUntilFull() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(16);
+		for (int i = 0; i < 16; i++) {
+			buffer.add(37.5 + i * STEP, 127.0, START + i * 1000L);
+		}
+
+		TrackPoints points = buffer.toPoints();
+
+		assertEquals(16, points.size());
+		for (int i = 0; i < 16; i++) {
+			assertEquals(37.5 + i * STEP, points.lat(i), 1e-6);
+			assertEquals(START + i * 1000L, points.time(i));
+		}
+	}
+
+	@Test
+	void decimatedTrackStaysWithinCapacityAndCoversWholeWalk() {
+		int capacity = 64;
+		int fixes = 10000;
+		LiveTrackBuffer buffer = new LiveTrackBuffer(capacity);
+		for (int i = 0; i < fixes; i++) {
+			buffer.add(37.5 + i * STEP, 127.0, START + i * 1000L);
+		}
+
+		TrackPoints points = buffer.toPoints();
+
+		assertTrue(points.size() <= capacity);
+		assertTrue(points.size() >= capacity / 2);
+		assertEquals(START, points.time(0));
+		assertEquals(START + (fixes - 1) * 1000L, points.time(points.size() - 1));
+		// 가운데 점들은 고른 간격
+		long gap = points.time(1) - points.time(0);
+		for (int i = 1; i < points.size() - 1; i++) {
+			assertEquals(gap, points.time(i) - points.time(i - 1));
+		}
+	}
+
+	@Test
+	void distanceCountsEveryFixEvenAfterDecimation() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(8);
+		double expected = 0;
+		// 지그재그라 버려진 점을 빼고 계산하면 거리가 짧아짐
+		for (int i = 0; i < 1000; i++) {
+			double lon = 127.0 + (i % 2) * STEP;
+			buffer.add(37.5 + i * STEP, lon, START + i * 1000L);
+			if (i > 0) {
+				expected += GeoUtil.haversineMeters(37.5 + (i - 1) * STEP, 127.0 + ((i - 1) % 2) * STEP, 37.5 + i * STEP,
+						lon);
+			}
+		}
+
+		assertEquals(expected, buffer.distance(), 1e-6);
+		TrackPoints points = buffer.toPoints();
+		double stored = 0;
+		for (int i = 1; i < points.size(); i++) {
+			stored += GeoUtil.haversineMeters(points.lat(i - 1), points.lon(i - 1), points.lat(i), points.lon(i));
+		}
+		assertTrue(stored < expected);
+	}
+
+	@Test
+	void toPointsIsRepeatable() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(4);
+		for (int i = 0; i < 7; i++) {
+			buffer.add(37.5 + i * STEP, 127.0, START + i * 1000L);
+		}
+
+		TrackPoints first = buffer.toPoints();
+		TrackPoints second = buffer.toPoints();
+
+		assertEquals(first.size(), second.size());
+		assertEquals(first.time(first.size() - 1), second.time(second.size() - 1));
+	}
+
+	@Test
+	void recentPaceUsesOnlyLatestFixes() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(16);
+		long time = START;
+		// 처음엔 천천히 (초당 약 0.5m)
+		for (int i = 0; i < 100; i++) {
+			buffer.add(37.5 + i * STEP / 2, 127.0, time);
+			time += 1000;
+		}
+		double lat = 37.5 + 99 * STEP / 2;
+		// 최근에는 초당 약 1.1m
+		for (int i = 1; i <= 40; i++) {
+			buffer.add(lat + i * STEP, 127.0, time);
+			time += 1000;
+		}
+
+		double meterPerStep = GeoUtil.haversineMeters(37.5, 127.0, 37.5 + STEP, 127.0);
+		assertEquals(1000 / meterPerStep, buffer.recentPaceSecondsPerKm(), 1);
+	}
+
+	@Test
+	void recentPaceIsZeroWhenStandingStill() {
+		LiveTrackBuffer buffer = new LiveTrackBuffer(4);
+		for (int i = 0; i < 10; i++) {
+			buffer.add(37.5, 127.0, START + i * 1000L);
+		}
+
+		assertEquals(0, buffer.recentPaceSecondsPerKm(), 0);
+	}
+}
@@ -0,0 +1,204 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MicroBatcherTest {
+
+	private static final String NAME = "test";
+	// 결과를 기다리는 최대 시간 (배치가 닫히지 않으면 실패)
+	private static final long WAIT_SECONDS = 5;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	// 배치 호출마다 받은 입력
+	private final List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+	private MicroBatcher<Integer, String> batcher;
+
+	@AfterEach
+	void tearDown() {
+		if (batcher != null) {
+			batcher.close();
+		}
+	}
+
+	@Test
+	void rejectsInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> new MicroBatcher<Integer, String>(NAME, 0, 10, 10, 1,
+				this::echo, registry));
+		assertThrows(IllegalArgumentException.class, () -> new MicroBatcher<Integer, String>(NAME, 1, -1, 10, 1,
+				this::echo, registry));
+	}
+
+	@Test
+	void closesBatchWhenFull() throws Exception {
+		// 창이 길어도 maxBatchSize개가 모이면 바로 호출
+		batcher = new MicroBatcher<>(NAME, 3, TimeUnit.SECONDS.toMillis(30), 10, 1, this::echo, registry);
+
+		List<CompletableFuture<String>> futures = submit(0, 1, 2);
+
+		assertEquals(Arrays.asList("r0", "r1", "r2"), await(futures));
+		assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2)), calls);
+	}
+
+	@Test
+	void closesBatchWhenWindowPasses() throws Exception {
+		long windowMillis = 50;
+		batcher = new MicroBatcher<>(NAME, 10, windowMillis, 10, 1, this::echo, registry);
+
+		long started = System.nanoTime();
+		List<CompletableFuture<String>> futures = submit(0, 1);
+
+		assertEquals(Arrays.asList("r0", "r1"), await(futures));
+		assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(windowMillis));
+		assertEquals(Collections.singletonList(Arrays.asList(0, 1)), calls);
+	}
+
+	@Test
+	void routesResultsToMatchingFutures() throws Exception {
+		// 배치 안에서 순서를 뒤섞지 않고 요청 순서대로 결과를 나눠줌
+		batcher = new MicroBatcher<>(NAME, 4, TimeUnit.SECONDS.toMillis(1), 20, 2, this::echo, registry);
+
+		List<CompletableFuture<String>> futures = submit(5, 3, 9, 1, 7, 2, 8, 4);
+
+		assertEquals(Arrays.asList("r5", "r3", "r9", "r1", "r7", "r2", "r8", "r4"), await(futures));
+		// 두 배치가 서로 다른 호출 스레드에서 실행되므로 호출 순서는 비교하지 않음
+		assertEquals(2, calls.size());
+		assertEquals(new HashSet<>(Arrays.asList(Arrays.asList(5, 3, 9, 1), Arrays.asList(7, 2, 8, 4))),
+				new HashSet<>(calls));
+	}
+
+	@Test
+	void sizeMismatchFailsEveryWaitingFuture() throws Exception {
+		batcher = new MicroBatcher<>(NAME, 3, TimeUnit.SECONDS.toMillis(30), 10, 1,
+				inputs -> echo(inputs).subList(0, inputs.size() - 1), registry);
+
+		for (CompletableFuture<String> future : submit(0, 1, 2)) {
+			ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(WAIT_SECONDS, TimeUnit.SECONDS));
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	void callErrorFailsEveryWaitingFuture() throws Exception {
+		RuntimeException error = new IllegalStateException("AI 서버 오류");
+		batcher = new MicroBatcher<>(NAME, 3, TimeUnit.SECONDS.toMillis(30), 10, 1, inputs -> {
+			throw error;
+		}, registry);
+
+		for (CompletableFuture<String> future : submit(0, 1, 2)) {
+			ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(WAIT_SECONDS, TimeUnit.SECONDS));
+			assertSame(error, e.getCause());
+		}
+	}
+
+	@Test
+	void recordsBatchMetrics() throws Exception {
+		batcher = new MicroBatcher<>(NAME, 3, TimeUnit.SECONDS.toMillis(30), 10, 1, this::echo, registry);
+
+		await(submit(0, 1, 2));
+		await(submit(3, 4, 5));
+
+		assertEquals(2, registry.get("batcher.batch.size").tag("name", NAME).summary().count());
+		assertEquals(6, registry.get("batcher.batch.size").tag("name", NAME).summary().totalAmount(), 0);
+		assertEquals(2, registry.get("batcher.call.latency").tag("name", NAME).timer().count());
+		assertEquals(6, registry.get("batcher.request.latency").tag("name", NAME).timer().count());
+		assertEquals(0, registry.get("batcher.queue.depth").tag("name", NAME).gauge().value(), 0);
+	}
+
+	@Test
+	void queueDepthGrowsWhileCallersAreBusy() throws Exception {
+		CountDownLatch entered = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		// 호출 스레드 1개가 막히면 모으는 스레드가 직접 다음 배치를 호출하다 막히므로 이후 요청은 대기열에 쌓임
+		batcher = new MicroBatcher<>(NAME, 1, 0, 10, 1, inputs -> {
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return echo(inputs);
+		}, registry);
+
+		List<CompletableFuture<String>> futures = new ArrayList<>(submit(0, 1));
+		assertTrue(entered.await(WAIT_SECONDS, TimeUnit.SECONDS));
+		futures.addAll(submit(2, 3));
+
+		assertEquals(2, batcher.queueDepth());
+		assertEquals(2, registry.get("batcher.queue.depth").tag("name", NAME).gauge().value(), 0);
+
+		release.countDown();
+		assertEquals(Arrays.asList("r0", "r1", "r2", "r3"), await(futures));
+		assertEquals(0, batcher.queueDepth());
+	}
+
+	@Test
+	void rejectsWhenQueueIsFullOrClosed() throws Exception {
+		Semaphore entered = new Semaphore(0);
+		CountDownLatch release = new CountDownLatch(1);
+		batcher = new MicroBatcher<>(NAME, 1, 0, 1, 1, inputs -> {
+			entered.release();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return echo(inputs);
+		}, registry);
+
+		// 대기열 크기가 1이라 하나씩 넣고 호출이 막힐 때까지 기다림
+		batcher.submit(0);
+		assertTrue(entered.tryAcquire(WAIT_SECONDS, TimeUnit.SECONDS));
+		batcher.submit(1);
+		assertTrue(entered.tryAcquire(WAIT_SECONDS, TimeUnit.SECONDS));
+		CompletableFuture<String> queued = batcher.submit(2);
+		CompletableFuture<String> rejected = batcher.submit(3);
+
+		assertTrue(rejected.isCompletedExceptionally());
+		assertFalse(queued.isDone());
+
+		// 닫으면 대기열에 남은 요청은 실패 처리되고 이후 요청은 바로 실패
+		batcher.close();
+		assertTrue(queued.isCompletedExceptionally());
+		assertTrue(batcher.submit(4).isCompletedExceptionally());
+		release.countDown();
+	}
+
+	private List<String> echo(List<Integer> inputs) {
+		calls.add(new ArrayList<>(inputs));
+		return inputs.stream().map(input -> "r" + input).collect(Collectors.toList());
+	}
+
+	private List<CompletableFuture<String>> submit(Integer... inputs) {
+		return Arrays.stream(inputs).map(batcher::submit).collect(Collectors.toList());
+	}
+
+	private static List<String> await(List<CompletableFuture<String>> futures) throws Exception {
+		List<String> results = new ArrayList<>(futures.size());
+		for (CompletableFuture<String> future : futures) {
+			results.add(future.get(WAIT_SECONDS, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+}
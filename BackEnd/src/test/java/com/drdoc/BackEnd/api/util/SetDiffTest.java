@@ -0,0 +1,102 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SetDiffTest {
+
+	@Test
+	void splitsIntoAddedRemovedAndKept() {
+		SetDiff<Integer> diff = SetDiff.of(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 1, 5));
+
+		assertEquals(Arrays.asList(4, 5), new ArrayList<>(diff.getAdded()));
+		assertEquals(Arrays.asList(2), new ArrayList<>(diff.getRemoved()));
+		assertEquals(Arrays.asList(3, 1), new ArrayList<>(diff.getKept()));
+		assertFalse(diff.isEmpty());
+	}
+
+	@Test
+	void sameSetsInAnyOrderAreEmpty() {
+		SetDiff<Integer> diff = SetDiff.of(Arrays.asList(1, 2, 3), Arrays.asList(3, 2, 1));
+
+		assertTrue(diff.isEmpty());
+		assertEquals(3, diff.getKept().size());
+	}
+
+	@Test
+	void emptyCurrentAddsEverything() {
+		SetDiff<Integer> diff = SetDiff.of(Collections.emptyList(), Arrays.asList(1, 2));
+
+		assertEquals(Arrays.asList(1, 2), new ArrayList<>(diff.getAdded()));
+		assertTrue(diff.getRemoved().isEmpty());
+		assertTrue(diff.getKept().isEmpty());
+	}
+
+	@Test
+	void emptyDesiredRemovesEverything() {
+		SetDiff<Integer> diff = SetDiff.of(Arrays.asList(1, 2), Collections.emptyList());
+
+		assertTrue(diff.getAdded().isEmpty());
+		assertEquals(Arrays.asList(1, 2), new ArrayList<>(diff.getRemoved()));
+		assertTrue(diff.getKept().isEmpty());
+	}
+
+	@Test
+	void bothEmptyIsEmpty() {
+		assertTrue(SetDiff.of(Collections.<Integer>emptyList(), Collections.<Integer>emptyList()).isEmpty());
+	}
+
+	@Test
+	void duplicatesAreCountedOnce() {
+		SetDiff<Integer> diff = SetDiff.of(Arrays.asList(1, 1, 2), Arrays.asList(2, 2, 3, 3, 1, 1));
+
+		assertEquals(Arrays.asList(3), new ArrayList<>(diff.getAdded()));
+		assertTrue(diff.getRemoved().isEmpty());
+		assertEquals(Arrays.asList(2, 1), new ArrayList<>(diff.getKept()));
+	}
+
+	@Test
+	void doesNotModifyInputs() {
+		List<Integer> current = new ArrayList<>(Arrays.asList(1, 2));
+		List<Integer> desired = new ArrayList<>(Arrays.asList(2, 3));
+
+		SetDiff.of(current, desired);
+
+		assertEquals(Arrays.asList(1, 2), current);
+		assertEquals(Arrays.asList(2, 3), desired);
+	}
+
+	@Test
+	void resultSetsAreReadOnly() {
+		SetDiff<Integer> diff = SetDiff.of(Arrays.asList(1), Arrays.asList(2));
+
+		assertThrows(UnsupportedOperationException.class, () -> diff.getAdded().add(3));
+		assertThrows(UnsupportedOperationException.class, () -> diff.getRemoved().clear());
+		assertThrows(UnsupportedOperationException.class, () -> diff.getKept().add(1));
+	}
+
+	@Test
+	void handlesLargeInputs() {
+		List<Integer> current = new ArrayList<>();
+		List<Integer> desired = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			current.add(i);
+			desired.add(i + 50000);
+		}
+
+		SetDiff<Integer> diff = SetDiff.of(current, desired);
+
+		assertEquals(50000, diff.getAdded().size());
+		assertEquals(50000, diff.getRemoved().size());
+		assertEquals(50000, diff.getKept().size());
+	}
+}
@@ -0,0 +1,129 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class TrackCodecTest {
+
+	private static final double EPSILON = 1e-6;
+
+	@Test
+	void emptyTrackRoundTrips() {
+		TrackPoints decoded = TrackCodec.decode(TrackCodec.encode(new TrackPoints(0)));
+
+		assertEquals(0, decoded.size());
+	}
+
+	@Test
+	void walkingTrackRoundTripsWithinFixedPointPrecision() {
+		TrackPoints points = walk(1000, 37.501274, 127.039585);
+
+		TrackPoints decoded = TrackCodec.decode(TrackCodec.encode(points));
+
+		assertPointsEqual(points, decoded);
+	}
+
+	@Test
+	void walkingTrackIsAFewBytesPerPoint() {
+		TrackPoints points = walk(1000, 37.501274, 127.039585);
+
+		byte[] encoded = TrackCodec.encode(points);
+
+		assertTrue(encoded.length < points.size() * 8, "점당 8byte 미만이어야 함: " + encoded.length);
+	}
+
+	@Test
+	void extremeCoordinatesAndNegativeDeltasRoundTrip() {
+		TrackPoints points = new TrackPoints(5);
+		points.add(90, 180, 0);
+		points.add(-90, -180, -1);
+		points.add(0, 0, Long.MAX_VALUE / 2);
+		points.add(-33.868820, 151.209296, 1663137870327L);
+		points.add(-33.868820, 151.209296, 1663137870327L);
+
+		TrackPoints decoded = TrackCodec.decode(TrackCodec.encode(points));
+
+		assertPointsEqual(points, decoded);
+	}
+
+	@Test
+	void rejectsCoordinatesOutOfRange() {
+		for (double[] latLon : new double[][] { { 90.000001, 0 }, { -91, 0 }, { 0, 180.5 }, { 0, -181 },
+				{ Double.NaN, 0 }, { 0, Double.NaN } }) {
+			TrackPoints points = new TrackPoints(1);
+			points.add(latLon[0], latLon[1], 0);
+
+			assertThrows(IllegalArgumentException.class, () -> TrackCodec.encode(points));
+		}
+	}
+
+	@Test
+	void rejectsTooManyPoints() {
+		TrackPoints points = new TrackPoints(TrackCodec.MAX_POINTS + 1);
+		for (int i = 0; i <= TrackCodec.MAX_POINTS; i++) {
+			points.add(0, 0, i);
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> TrackCodec.encode(points));
+	}
+
+	@Test
+	void rejectsUnknownVersion() {
+		byte[] encoded = TrackCodec.encode(walk(10, 37.5, 127.0));
+		encoded[0] = 2;
+
+		assertThrows(IllegalArgumentException.class, () -> TrackCodec.decode(encoded));
+	}
+
+	@Test
+	void rejectsTruncatedData() {
+		byte[] encoded = TrackCodec.encode(walk(10, 37.5, 127.0));
+
+		for (int length = 1; length < encoded.length; length++) {
+			byte[] truncated = Arrays.copyOf(encoded, length);
+			assertThrows(IllegalArgumentException.class, () -> TrackCodec.decode(truncated));
+		}
+	}
+
+	@Test
+	void rejectsPointCountAboveLimit() {
+		// [버전][점 개수 varint = MAX_POINTS + 1]
+		int count = TrackCodec.MAX_POINTS + 1;
+		byte[] data = { 1, (byte) ((count & 0x7F) | 0x80), (byte) (((count >>> 7) & 0x7F) | 0x80), (byte) (count >>> 14) };
+
+		assertThrows(IllegalArgumentException.class, () -> TrackCodec.decode(data));
+	}
+
+	@Test
+	void rejectsOverlongVarint() {
+		byte[] data = new byte[12];
+		Arrays.fill(data, (byte) 0xFF);
+		data[0] = 1;
+
+		assertThrows(IllegalArgumentException.class, () -> TrackCodec.decode(data));
+	}
+
+	// 1초 간격, 약 1.1m씩 북동쪽으로 걷는 경로
+	private static TrackPoints walk(int count, double lat, double lon) {
+		TrackPoints points = new TrackPoints(count);
+		long time = 1663137870327L;
+		for (int i = 0; i < count; i++) {
+			points.add(lat + i * 0.00001, lon + i * 0.000007, time + i * 1000L);
+		}
+		return points;
+	}
+
+	private static void assertPointsEqual(TrackPoints expected, TrackPoints actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.lat(i), actual.lat(i), EPSILON);
+			assertEquals(expected.lon(i), actual.lon(i), EPSILON);
+			assertEquals(expected.time(i), actual.time(i));
+		}
+	}
+}
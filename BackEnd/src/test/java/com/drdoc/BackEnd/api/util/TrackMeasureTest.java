@@ -0,0 +1,127 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TrackMeasureTest {
+
+	private static final long START = 1663137870327L;
+
+	@Test
+	void emptyAndSinglePointTracksHaveNoDistance() {
+		for (int size = 0; size <= 1; size++) {
+			TrackPoints points = new TrackPoints(size);
+			for (int i = 0; i < size; i++) {
+				points.add(37.5, 127.0, START);
+			}
+
+			TrackMeasure measure = TrackMeasure.of(points);
+
+			assertEquals(0, measure.getDistance(), 0);
+			assertFalse(measure.isSpeedFlagged());
+		}
+	}
+
+	@Test
+	void walkingDistanceMatchesHaversine() {
+		TrackPoints points = new TrackPoints(3600);
+		double expected = 0;
+		for (int i = 0; i < 3600; i++) {
+			double heading = i / 100.0;
+			points.add(37.5 + Math.sin(heading) * 0.001, 127.0 + i * 0.00001, START + i * 1000L);
+			if (i > 0) {
+				expected += GeoUtil.haversineMeters(points.lat(i - 1), points.lon(i - 1), points.lat(i), points.lon(i));
+			}
+		}
+
+		TrackMeasure measure = TrackMeasure.of(points);
+
+		// 짧은 구간에서는 등거리 원통 근사와 haversine 차이가 0.01% 미만
+		assertEquals(expected, measure.getDistance(), expected * 1e-4);
+		assertFalse(measure.isSpeedFlagged());
+		assertEquals(0, measure.getFastSegments());
+		assertTrue(measure.getMaxSpeed() > 0 && measure.getMaxSpeed() < TrackMeasure.MAX_SPEED_MPS);
+	}
+
+	@Test
+	void fastSegmentsAreFlaggedAndExcludedFromDistance() {
+		TrackPoints points = new TrackPoints(4);
+		points.add(37.5, 127.0, START);
+		// 1초에 약 5.6m (뛰는 속도, 정상)
+		points.add(37.50005, 127.0, START + 1000);
+		// 1초에 약 1.1km (차량, GPS 튐)
+		points.add(37.51005, 127.0, START + 2000);
+		points.add(37.5101, 127.0, START + 3000);
+
+		TrackMeasure measure = TrackMeasure.of(points);
+
+		double normal = GeoUtil.haversineMeters(37.5, 127.0, 37.50005, 127.0)
+				+ GeoUtil.haversineMeters(37.51005, 127.0, 37.5101, 127.0);
+		double fast = GeoUtil.haversineMeters(37.50005, 127.0, 37.51005, 127.0);
+		assertTrue(measure.isSpeedFlagged());
+		assertEquals(1, measure.getFastSegments());
+		assertEquals(normal, measure.getDistance(), 0.01);
+		assertEquals(fast, measure.getFastDistance(), 0.5);
+	}
+
+	@Test
+	void sameTimestampJumpIsFlaggedButJitterIsNot() {
+		TrackPoints jitter = new TrackPoints(2);
+		jitter.add(37.5, 127.0, START);
+		jitter.add(37.50001, 127.0, START);
+
+		TrackPoints jump = new TrackPoints(2);
+		jump.add(37.5, 127.0, START);
+		jump.add(37.501, 127.0, START);
+
+		assertFalse(TrackMeasure.of(jitter).isSpeedFlagged());
+		assertTrue(TrackMeasure.of(jump).isSpeedFlagged());
+	}
+
+	@Test
+	void crossingTheAntimeridianIsShort() {
+		TrackPoints points = new TrackPoints(2);
+		points.add(0, 179.99999, START);
+		points.add(0, -179.99999, START + 1000);
+
+		TrackMeasure measure = TrackMeasure.of(points);
+
+		assertEquals(GeoUtil.haversineMeters(0, 179.99999, 0, -179.99999), measure.getDistance(), 0.01);
+		assertFalse(measure.isSpeedFlagged());
+	}
+
+	@Test
+	void measuresOnlyTheFirstSizePoints() {
+		double[] lats = { 37.5, 37.50005, 38.5 };
+		double[] lons = { 127.0, 127.0, 127.0 };
+		long[] times = { START, START + 1000, START + 2000 };
+
+		TrackMeasure measure = TrackMeasure.measure(lats, lons, times, 2);
+
+		assertEquals(GeoUtil.haversineMeters(37.5, 127.0, 37.50005, 127.0), measure.getDistance(), 0.01);
+		assertFalse(measure.isSpeedFlagged());
+	}
+
+	@Test
+	void longTrackIsMeasuredQuickly() {
+		TrackPoints points = new TrackPoints(50000);
+		for (int i = 0; i < 50000; i++) {
+			points.add(37.5 + i * 0.00001, 127.0, START + i * 1000L);
+		}
+		// JIT 예열
+		for (int i = 0; i < 20; i++) {
+			TrackMeasure.of(points);
+		}
+
+		long started = System.nanoTime();
+		TrackMeasure measure = TrackMeasure.of(points);
+		long elapsedMillis = (System.nanoTime() - started) / 1000000;
+
+		assertFalse(measure.isSpeedFlagged());
+		// 정확한 측정은 TrackMeasureBenchmark, 여기서는 요청 처리 중에 돌려도 되는 수준인지만 확인
+		assertTrue(elapsedMillis < 100, "50k 좌표 계산에 " + elapsedMillis + "ms");
+	}
+}
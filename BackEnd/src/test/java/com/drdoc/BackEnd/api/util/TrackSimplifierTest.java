@@ -0,0 +1,135 @@
+package com.drdoc.BackEnd.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TrackSimplifierTest {
+
+	// 위도 1도(약 111km)당 미터
+	private static final double METERS_PER_DEGREE = 6371008.8 * Math.PI / 180;
+
+	@Test
+	void shortTracksAreCopiedAsIs() {
+		for (int size = 0; size <= 2; size++) {
+			TrackPoints points = new TrackPoints(size);
+			for (int i = 0; i < size; i++) {
+				points.add(37.5 + i, 127.0 + i, i);
+			}
+
+			TrackPoints simplified = TrackSimplifier.simplify(points, 5);
+
+			assertEquals(size, simplified.size());
+			for (int i = 0; i < size; i++) {
+				assertEquals(points.lat(i), simplified.lat(i), 0);
+				assertEquals(points.time(i), simplified.time(i));
+			}
+		}
+	}
+
+	@Test
+	void straightLineCollapsesToEndpoints() {
+		TrackPoints points = new TrackPoints(100);
+		for (int i = 0; i < 100; i++) {
+			points.add(37.5 + i * 0.0001, 127.0, i * 1000L);
+		}
+
+		TrackPoints simplified = TrackSimplifier.simplify(points, 1);
+
+		assertEquals(2, simplified.size());
+		assertEquals(0, simplified.time(0));
+		assertEquals(99000, simplified.time(1));
+	}
+
+	@Test
+	void cornersFartherThanToleranceAreKept() {
+		// 약 100m 폭으로 꺾이는 지그재그
+		TrackPoints points = new TrackPoints(11);
+		for (int i = 0; i <= 10; i++) {
+			points.add(37.5 + (i % 2) * 0.001, 127.0 + i * 0.001, i);
+		}
+
+		TrackPoints simplified = TrackSimplifier.simplify(points, 10);
+
+		assertEquals(11, simplified.size());
+	}
+
+	@Test
+	void duplicatePointsDoNotBreakSimplification() {
+		TrackPoints points = new TrackPoints(50);
+		for (int i = 0; i < 50; i++) {
+			points.add(37.5, 127.0, i);
+		}
+
+		TrackPoints simplified = TrackSimplifier.simplify(points, 1);
+
+		assertEquals(2, simplified.size());
+	}
+
+	@Test
+	void everyDroppedPointStaysWithinTolerance() {
+		TrackPoints points = wiggle(5000);
+		double tolerance = 15;
+
+		TrackPoints simplified = TrackSimplifier.simplify(points, tolerance);
+
+		assertTrue(simplified.size() < points.size());
+		assertEquals(points.time(0), simplified.time(0));
+		assertEquals(points.time(points.size() - 1), simplified.time(simplified.size() - 1));
+		for (int i = 0; i < points.size(); i++) {
+			assertTrue(distanceToPath(points, i, simplified) <= tolerance + 1e-6, i + "번째 점이 허용 오차를 넘음");
+		}
+	}
+
+	@Test
+	void longTracksDoNotOverflowTheStack() {
+		TrackPoints points = wiggle(TrackCodec.MAX_POINTS);
+
+		TrackPoints simplified = TrackSimplifier.simplify(points, 0);
+
+		assertTrue(simplified.size() > 2);
+	}
+
+	@Test
+	void simplifyToMaxKeepsAtMostMaxPoints() {
+		TrackPoints points = wiggle(5000);
+
+		for (int max : new int[] { 1, 2, 50, 500 }) {
+			TrackPoints simplified = TrackSimplifier.simplifyToMax(points, 1, max);
+
+			assertTrue(simplified.size() <= Math.max(2, max), max + "개 제한에 " + simplified.size() + "개");
+			assertEquals(points.time(0), simplified.time(0));
+			assertEquals(points.time(points.size() - 1), simplified.time(simplified.size() - 1));
+		}
+	}
+
+	// 동쪽으로 걸으면서 남북으로 최대 약 50m 흔들리는 경로
+	private static TrackPoints wiggle(int count) {
+		TrackPoints points = new TrackPoints(count);
+		for (int i = 0; i < count; i++) {
+			points.add(37.5 + Math.sin(i / 20.0) * 0.00045 + Math.sin(i / 3.0) * 0.00002, 127.0 + i * 0.00001, i * 1000L);
+		}
+		return points;
+	}
+
+	// 원래 경로의 index번째 점과 단순화한 경로 사이의 최소 거리(m)
+	private static double distanceToPath(TrackPoints points, int index, TrackPoints path) {
+		double cosLat = Math.cos(Math.toRadians(points.lat(0)));
+		double px = (points.lon(index) - points.lon(0)) * cosLat * METERS_PER_DEGREE;
+		double py = (points.lat(index) - points.lat(0)) * METERS_PER_DEGREE;
+		double min = Double.MAX_VALUE;
+		for (int i = 0; i + 1 < path.size(); i++) {
+			double ax = (path.lon(i) - points.lon(0)) * cosLat * METERS_PER_DEGREE;
+			double ay = (path.lat(i) - points.lat(0)) * METERS_PER_DEGREE;
+			double bx = (path.lon(i + 1) - points.lon(0)) * cosLat * METERS_PER_DEGREE;
+			double by = (path.lat(i + 1) - points.lat(0)) * METERS_PER_DEGREE;
+			double dx = bx - ax;
+			double dy = by - ay;
+			double lengthSquared = dx * dx + dy * dy;
+			double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+			min = Math.min(min, Math.hypot(ax + t * dx - px, ay + t * dy - py));
+		}
+		return min;
+	}
+}